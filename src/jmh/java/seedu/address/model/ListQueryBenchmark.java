@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.index.IndexedField;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.BenchmarkPersons;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Student;
+
+/**
+ * Compares answering {@code list} queries on lessons from the secondary indexes against testing every person.
+ * Only {@code MATCHING_STUDENTS} students have a lesson on Monday, so the indexed query should stay flat
+ * as the book grows while the scan grows with it.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ListQueryBenchmark {
+
+    private static final int MATCHING_STUDENTS = 20;
+    private static final Schedule MONDAY_LESSON = new Schedule("Monday 14:00-16:00");
+    private static final Schedule MONDAY_WINDOW = new Schedule("Monday 15:00-15:30");
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ModelManager model;
+
+    /**
+     * Builds a book of {@code size} students spread evenly, of which {@code MATCHING_STUDENTS} have a Monday lesson.
+     */
+    @Setup
+    public void setUp() {
+        int spacing = size / MATCHING_STUDENTS;
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Student student = BenchmarkPersons.student(i);
+            persons.add(i % spacing == 0 ? student.withSchedule(MONDAY_LESSON) : student);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    /**
+     * Lists the students with a Monday lesson using the secondary index on the weekday.
+     */
+    @Benchmark
+    public ObservableList<Person> listByDayFromIndex() {
+        model.updateFilteredPersonList(PersonQuery.withKey(IndexedField.DAY_OF_WEEK, DayOfWeek.MONDAY));
+        return model.getFilteredPersonList();
+    }
+
+    /**
+     * Lists the students with a Monday lesson by testing every person.
+     */
+    @Benchmark
+    public ObservableList<Person> listByDayByScan() {
+        model.updateFilteredPersonList(person -> person instanceof Student
+                && ((Student) person).getSchedule().getSlots().stream()
+                        .anyMatch(slot -> DayOfWeek.MONDAY.equals(slot.getDayOfWeek())));
+        return model.getFilteredPersonList();
+    }
+
+    /**
+     * Lists the students with a lesson during a Monday time window using the lesson index.
+     */
+    @Benchmark
+    public ObservableList<Person> listByTimeWindowFromIndex() {
+        model.updateFilteredPersonList(PersonQuery.withLessonOverlapping(MONDAY_WINDOW));
+        return model.getFilteredPersonList();
+    }
+
+    /**
+     * Lists the students with a lesson during a Monday time window by testing every person.
+     */
+    @Benchmark
+    public ObservableList<Person> listByTimeWindowByScan() {
+        model.updateFilteredPersonList(person -> person instanceof Student
+                && ((Student) person).getSchedule().overlaps(MONDAY_WINDOW));
+        return model.getFilteredPersonList();
+    }
+}
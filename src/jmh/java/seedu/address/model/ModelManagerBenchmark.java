@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.BenchmarkPersons;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.PaymentStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+/**
+ * Measures the cost of a single mutation on a {@code ModelManager}, including parent aggregate maintenance.
+ * Every parent is linked to two students, so the work per mutation should stay flat as the book grows.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    private static final int CHILDREN_PER_PARENT = 2;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ModelManager model;
+    private int targetIndex;
+
+    /**
+     * Builds a book of {@code size} persons in which every parent has {@code CHILDREN_PER_PARENT} children.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> persons = new ArrayList<>();
+        int parentCount = size / (CHILDREN_PER_PARENT + 1);
+        for (int i = 0; i < parentCount; i++) {
+            for (int j = 0; j < CHILDREN_PER_PARENT; j++) {
+                persons.add(BenchmarkPersons.student(i * CHILDREN_PER_PARENT + j));
+            }
+            persons.add(BenchmarkPersons.parent(i));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        for (int i = 0; i < persons.size(); i += CHILDREN_PER_PARENT + 1) {
+            Parent parent = (Parent) persons.get(i + CHILDREN_PER_PARENT);
+            for (int j = 0; j < CHILDREN_PER_PARENT; j++) {
+                addressBook.addLink((Student) persons.get(i + j), parent);
+            }
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+        targetIndex = persons.size() / 2 / (CHILDREN_PER_PARENT + 1) * (CHILDREN_PER_PARENT + 1);
+    }
+
+    /**
+     * Toggles the payment status of a linked student in the middle of the book.
+     */
+    @Benchmark
+    public ModelManager togglePaymentOfLinkedStudent() {
+        Student student = (Student) model.getAddressBook().getPersonList().get(targetIndex);
+        Student toggled = new Student(student.getName(), student.getPhone(), student.getEmail(),
+                student.getAddress(), student.getNote(), student.getSchedule(), student.getCost(),
+                new PaymentStatus(!student.getPaymentStatus().isPaid()), student.getTags());
+        model.setPerson(student, toggled);
+        return model;
+    }
+
+    /**
+     * Unlinks a linked student from its parent and links it back again.
+     */
+    @Benchmark
+    public ModelManager unlinkAndRelinkStudent() {
+        Student student = (Student) model.getAddressBook().getPersonList().get(targetIndex);
+        Parent parent = model.getParentsOf(student).get(0);
+        model.removeLink(student, parent);
+        model.addLink(student, parent);
+        return model;
+    }
+}
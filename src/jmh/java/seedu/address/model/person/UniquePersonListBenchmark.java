@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures bulk replacement of a {@code UniquePersonList}, which is what data loading, {@code setAddressBook} and
+ * every {@code AddressBook#setPersons} go through.
+ * {@code nestedLoopValidation} reproduces the pairwise uniqueness check that {@code setPersons} used to run, as a
+ * baseline for {@code setPersons}.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+
+    /**
+     * Builds {@code size} persons with distinct names.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkPersons.students(size);
+        uniquePersonList = new UniquePersonList();
+    }
+
+    /**
+     * Replaces the contents of the list, validating uniqueness with the hash-based single pass.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+
+    /**
+     * Runs the pairwise {@code isSamePerson} check that {@code setPersons} previously performed.
+     */
+    @Benchmark
+    public boolean nestedLoopValidation() {
+        for (int i = 0; i < persons.size() - 1; i++) {
+            for (int j = i + 1; j < persons.size(); j++) {
+                if (persons.get(i).isSamePerson(persons.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
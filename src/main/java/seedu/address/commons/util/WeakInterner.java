@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, each found by its text.
+ * The pool holds its keys and values weakly, so a value is dropped once nothing else uses it. For an entry to stay
+ * while its value is in use, the value must hold the very string it is interned under.
+ * It is safe to use from any thread.
+ *
+ * @param <T> the type of the values pooled
+ */
+public class WeakInterner<T> {
+
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical value with the text {@code key}, or null if there is none in use.
+     */
+    public synchronized T get(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = pool.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Returns the canonical value with the text {@code key}, making {@code value} the canonical one if there is
+     * none in use. {@code value} must hold {@code key}.
+     */
+    public synchronized T intern(String key, T value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        T canonical = get(key);
+        if (canonical != null) {
+            return canonical;
+        }
+        // removed first, so that the entry is keyed by the string the new value holds
+        pool.remove(key);
+        pool.put(key, new WeakReference<>(value));
+        return value;
+    }
+}
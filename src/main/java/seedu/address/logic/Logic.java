@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,13 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the ways to complete the name or tag being typed at the end of a command, each as the whole command.
+     * Unlike the other methods, this may be called from any thread.
+     * @param commandText The command as typed so far.
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +11,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandCompleter;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -30,6 +32,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandCompleter commandCompleter;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -38,6 +41,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        commandCompleter = new CommandCompleter(model);
     }
 
     @Override
@@ -46,9 +50,15 @@ public class LogicManager implements Logic {
 
         Command command = addressBookParser.parseCommand(commandText);
 
+        CommandResult result;
         try {
-            CommandResult result = command.execute(model);
-            storage.saveAddressBook(model.getAddressBook());
+            result = command.execute(model);
+        } finally {
+            model.commitAddressBook();
+        }
+
+        try {
+            storage.saveAddressBook(model.getAddressBookSnapshot());
             return result;
         } catch (java.nio.file.AccessDeniedException ade) {
             throw new CommandException(
@@ -59,6 +69,11 @@ public class LogicManager implements Logic {
         }
     }
 
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -21,6 +21,8 @@ public class Messages {
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_MISSING_REQUIRED_FIELDS =
             "Missing required field(s): %1$s\n%2$s";
+    public static final String MESSAGE_LESSON_CLASH =
+            "This lesson clashes with the lesson of: %1$s\nAdd force/ to save it anyway.";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
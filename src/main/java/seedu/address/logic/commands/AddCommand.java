@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PAY;
@@ -36,7 +37,8 @@ public class AddCommand extends Command {
             + "[" + PREFIX_NOTE + "NOTE] "
             + "[" + PREFIX_SCHEDULE + "SCHEDULE (students only)] "
             + "[" + PREFIX_PAY + "COST] "
-            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_FORCE + " (add even if the lesson clashes with another student's)]\n"
             + "Example (Student): " + COMMAND_WORD + " "
             + PREFIX_TYPE + "s "
             + PREFIX_NAME + "John Doe "
@@ -65,13 +67,23 @@ public class AddCommand extends Command {
             "Cannot add cost for a parent. Parent cost is derived from their linked children.";
 
     private final Person toAdd;
+    private final boolean isForced;
 
     /**
      * Creates an AddCommand to add the specified {@code Person}.
      */
     public AddCommand(Person person) {
+        this(person, false);
+    }
+
+    /**
+     * Creates an AddCommand to add the specified {@code Person},
+     * even if the person is a student whose lesson clashes with another student's when {@code isForced} is true.
+     */
+    public AddCommand(Person person, boolean isForced) {
         requireNonNull(person);
         toAdd = person;
+        this.isForced = isForced;
     }
 
     @Override
@@ -81,6 +93,9 @@ public class AddCommand extends Command {
         if (model.hasPerson(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
+        if (!isForced && toAdd instanceof Student) {
+            LessonClashCheck.requireNoClash(model, ((Student) toAdd).getSchedule(), null);
+        }
 
         String capitalizedName = capitalizeName(toAdd.getName().fullName);
         Person capitalizedPerson = createCapitalizedCopy(toAdd, capitalizedName);
@@ -97,13 +112,15 @@ public class AddCommand extends Command {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof AddCommand
-                && toAdd.equals(((AddCommand) other).toAdd));
+                && toAdd.equals(((AddCommand) other).toAdd)
+                && isForced == ((AddCommand) other).isForced);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("toAdd", toAdd)
+                .add("isForced", isForced)
                 .toString();
     }
 
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PAY;
@@ -30,9 +31,8 @@ import seedu.address.model.person.Cost;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Note;
-import seedu.address.model.person.Parent;
-import seedu.address.model.person.PaymentStatus;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Schedule;
 import seedu.address.model.person.Student;
@@ -57,7 +57,8 @@ public class EditCommand extends Command {
             + "[" + PREFIX_TAG + "TAG]... "
             + "[" + PREFIX_NOTE + "NOTE] "
             + "[" + PREFIX_SCHEDULE + "SCHEDULE] "
-            + "[" + PREFIX_PAY + "COST]\n"
+            + "[" + PREFIX_PAY + "COST] "
+            + "[" + PREFIX_FORCE + " (save even if the new lesson clashes with another student's)]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
             + PREFIX_EMAIL + "johndoe@example.com";
@@ -73,17 +74,28 @@ public class EditCommand extends Command {
 
     private final Index index;
     private final EditPersonDescriptor editPersonDescriptor;
+    private final boolean isForced;
 
     /**
      * @param index of the person in the filtered person list to edit
      * @param editPersonDescriptor details to edit the person with
      */
     public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
+        this(index, editPersonDescriptor, false);
+    }
+
+    /**
+     * @param index of the person in the filtered person list to edit
+     * @param editPersonDescriptor details to edit the person with
+     * @param isForced whether to save a new schedule even if it clashes with another student's lesson
+     */
+    public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor, boolean isForced) {
         requireNonNull(index);
         requireNonNull(editPersonDescriptor);
 
         this.index = index;
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
+        this.isForced = isForced;
     }
 
     @Override
@@ -101,57 +113,31 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_EDIT_TYPE_FAILURE);
         }
 
-        Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
+        PersonPatch patch = createPatch(personToEdit, editPersonDescriptor);
+        Person editedPerson = patch.applyTo(personToEdit);
 
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
+        if (!isForced && editPersonDescriptor.getSchedule().isPresent()) {
+            LessonClashCheck.requireNoClash(model, editPersonDescriptor.getSchedule().get(), personToEdit);
+        }
 
-        model.setPerson(personToEdit, editedPerson);
+        model.updatePerson(model.getAddressBook().getId(personToEdit), patch);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson.getName()));
     }
 
     /**
-     * Creates and returns a {@code Person} with the details of {@code personToEdit}
-     * edited with {@code editPersonDescriptor}.
+     * Creates and returns a {@code PersonPatch} that changes the fields of {@code personToEdit} given in
+     * {@code editPersonDescriptor}, and only those.
      */
-    private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor)
+    private static PersonPatch createPatch(Person personToEdit, EditPersonDescriptor editPersonDescriptor)
             throws CommandException {
         assert personToEdit != null;
 
-        Name updatedName = editPersonDescriptor.getName()
-                .map(EditCommand::capitalizeName)
-                .orElse(personToEdit.getName());
-        Phone updatedPhone = editPersonDescriptor.getPhone().orElse(personToEdit.getPhone());
-        Note updatedNote = editPersonDescriptor.getNote().orElse(personToEdit.getNote());
-        Email updatedEmail = editPersonDescriptor.getEmail().orElse(personToEdit.getEmail());
-        Address updatedAddress = editPersonDescriptor.getAddress().orElse(personToEdit.getAddress());
-        Cost updatedCost = editPersonDescriptor.getCost().orElse(personToEdit.getCost());
-        PaymentStatus updatedPaymentStatus = personToEdit.getPaymentStatus();
-        Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
-
-        if (personToEdit instanceof Student) {
-            Student studentToEdit = (Student) personToEdit;
-            Schedule updatedSchedule = editPersonDescriptor.getSchedule()
-                    .orElse(studentToEdit.getSchedule());
-
-            Student updatedStudent = new Student(
-                    updatedName,
-                    updatedPhone,
-                    updatedEmail,
-                    updatedAddress,
-                    updatedNote,
-                    updatedSchedule,
-                    updatedCost,
-                    updatedPaymentStatus,
-                    updatedTags
-            );
-            studentToEdit.getParents().forEach(updatedStudent::addParent);
-            updatedStudent.setLinkedNames(new java.util.ArrayList<>(studentToEdit.getLinkedNames()));
-            return updatedStudent;
-        } else {
+        if (!(personToEdit instanceof Student)) {
             // If the user tries to edit schedule of a Parent, it returns an error
             if (editPersonDescriptor.getSchedule().isPresent()) {
                 throw new CommandException(MESSAGE_PARENT_SCHEDULE_ERROR);
@@ -159,22 +145,36 @@ public class EditCommand extends Command {
             if (editPersonDescriptor.getCost().isPresent()) {
                 throw new CommandException(MESSAGE_PARENT_COST_IMMUTABLE);
             }
+        }
 
-            Parent parentToEdit = (Parent) personToEdit;
-            Parent updatedParent = new Parent(
-                    updatedName,
-                    updatedPhone,
-                    updatedEmail,
-                    updatedAddress,
-                    updatedNote,
-                    updatedCost,
-                    updatedPaymentStatus,
-                    updatedTags
-            );
-            parentToEdit.getChildren().forEach(updatedParent::addChild);
-            return updatedParent;
+        PersonPatch patch = PersonPatch.empty();
+        if (editPersonDescriptor.getName().isPresent()) {
+            patch = patch.withName(capitalizeName(editPersonDescriptor.getName().get()));
         }
+        if (editPersonDescriptor.getPhone().isPresent()) {
+            patch = patch.withPhone(editPersonDescriptor.getPhone().get());
+        }
+        if (editPersonDescriptor.getEmail().isPresent()) {
+            patch = patch.withEmail(editPersonDescriptor.getEmail().get());
+        }
+        if (editPersonDescriptor.getAddress().isPresent()) {
+            patch = patch.withAddress(editPersonDescriptor.getAddress().get());
+        }
+        if (editPersonDescriptor.getNote().isPresent()) {
+            patch = patch.withNote(editPersonDescriptor.getNote().get());
+        }
+        if (editPersonDescriptor.getCost().isPresent()) {
+            patch = patch.withCost(editPersonDescriptor.getCost().get());
+        }
+        if (editPersonDescriptor.getTags().isPresent()) {
+            patch = patch.withTags(editPersonDescriptor.getTags().get());
+        }
+        if (editPersonDescriptor.getSchedule().isPresent()) {
+            patch = patch.withSchedule(editPersonDescriptor.getSchedule().get());
+        }
+        return patch;
     }
+
     /**
      * Capitalizes the first letter of each word in the given name.
      */
@@ -203,7 +203,8 @@ public class EditCommand extends Command {
 
         EditCommand otherEditCommand = (EditCommand) other;
         return index.equals(otherEditCommand.index)
-                && editPersonDescriptor.equals(otherEditCommand.editPersonDescriptor);
+                && editPersonDescriptor.equals(otherEditCommand.editPersonDescriptor)
+                && isForced == otherEditCommand.isForced;
     }
 
     @Override
@@ -211,6 +212,7 @@ public class EditCommand extends Command {
         return new ToStringBuilder(this)
                 .add("index", index)
                 .add("editPersonDescriptor", editPersonDescriptor)
+                .add("isForced", isForced)
                 .toString();
     }
 
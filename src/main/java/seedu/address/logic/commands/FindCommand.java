@@ -2,14 +2,22 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.index.IndexedField;
+import seedu.address.model.index.PersonQuery;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, or all of them,
+ * or whose name has a word similar to any of them, most similar first.
+ * Keyword matching is case insensitive. The persons are found from the index of name tokens, or of their trigrams,
+ * without testing every person.
  */
 public class FindCommand extends Command {
 
@@ -17,23 +25,46 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Start with all/ to find only the persons whose names contain all of the keywords, or with ~ to also "
+            + "find the names with a word that is a typo or two away from a keyword, closest first.\n"
+            + "Parameters: [all/|~] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " all/ alex yeoh\n"
+            + "Example: " + COMMAND_WORD + " ~alex yeo";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
+    private final PersonQuery query;
 
+    /**
+     * Creates a FindCommand to find the persons whose names contain the keywords of {@code predicate}.
+     */
     public FindCommand(NameContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.query = toQuery(predicate);
+    }
+
+    /**
+     * Creates a FindCommand to find the persons whose names have a word similar to a keyword of {@code predicate}.
+     */
+    public FindCommand(NameSimilarToKeywordsPredicate predicate) {
+        this.predicate = predicate;
+        this.query = PersonQuery.withNameSimilarTo(predicate);
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(query);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    private static PersonQuery toQuery(NameContainsKeywordsPredicate predicate) {
+        return predicate.isMatchAll()
+                ? PersonQuery.withAllKeys(IndexedField.NAME_TOKEN, predicate.getKeywordTokens())
+                : PersonQuery.withAnyKey(IndexedField.NAME_TOKEN, predicate.getKeywordTokens());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,188 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.index.IndexedField;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.LessonSlot;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.WeeklyCells;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Finds the weekly time slots when every one of a group of students is free.
+ * The busy times of the students are the union of their weekly lesson bitmaps and the free slots are
+ * the working hours of every day minus that union, so the cost barely grows with the number of students.
+ * One-off lessons are not considered, as the slots found are meant to recur every week.
+ */
+public class FreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the weekly time slots within the given working hours when all the selected students "
+            + "are free, longest first. Students are selected by their index numbers in the last person listing, "
+            + "by a parent (selecting all the parent's children) and/or by a tag.\n"
+            + "Parameters: [INDEX]... "
+            + "[" + PREFIX_PARENT + "PARENT_INDEX] "
+            + "[" + PREFIX_TAG + "TAG] "
+            + PREFIX_HOURS + "START-END\n"
+            + "Example: " + COMMAND_WORD + " 1 2 " + PREFIX_HOURS + "09:00-18:00\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PARENT + "3 " + PREFIX_HOURS + "14:00-20:00";
+
+    public static final String MESSAGE_INVALID_HOURS = "Working hours should be in HH:mm-HH:mm format, "
+            + "with the end after the start (e.g., " + PREFIX_HOURS + "09:00-18:00).";
+    public static final String MESSAGE_NOT_STUDENT = "%1$s is not a student.";
+    public static final String MESSAGE_NOT_PARENT = "%1$s is not a parent.";
+    public static final String MESSAGE_NO_STUDENTS = "No students were selected.";
+    public static final String MESSAGE_FREE_SLOTS = "Common free slots of %1$d student(s) within %2$s, longest first:";
+    public static final String MESSAGE_NO_FREE_SLOTS = "%1$d student(s) have no common free slot within %2$s.";
+    public static final String MESSAGE_MORE_SLOTS = "... and %1$d more.";
+
+    static final int MAX_SHOWN_SLOTS = 10;
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final Comparator<LessonSlot> LONGEST_FIRST = Comparator
+            .comparingInt((LessonSlot slot) -> slot.getStartMinute() - slot.getEndMinute())
+            .thenComparing(Comparator.naturalOrder());
+
+    private final List<Index> indices;
+    private final Optional<Index> parentIndex;
+    private final Optional<Tag> tag;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Creates a FreeCommand to find the common free slots of the selected students between
+     * {@code startTime} and {@code endTime} on every day.
+     */
+    public FreeCommand(List<Index> indices, Optional<Index> parentIndex, Optional<Tag> tag,
+                       LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(indices, parentIndex, tag, startTime, endTime);
+        this.indices = List.copyOf(indices);
+        this.parentIndex = parentIndex;
+        this.tag = tag;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Set<Student> students = selectStudents(model);
+        if (students.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS);
+        }
+
+        List<WeeklyCells> busyCells = students.stream()
+                .filter(student -> student.getSchedule() != null)
+                .map(student -> student.getSchedule().getWeeklyCells())
+                .collect(Collectors.toList());
+        List<LessonSlot> freeSlots = WeeklyCells.everyDay(startTime, endTime)
+                .andNot(WeeklyCells.unionOf(busyCells))
+                .toSlots();
+        freeSlots.sort(LONGEST_FIRST);
+
+        String hours = TIME_FORMAT.format(startTime) + "-" + TIME_FORMAT.format(endTime);
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, students.size(), hours));
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_FREE_SLOTS, students.size(), hours));
+        freeSlots.stream().limit(MAX_SHOWN_SLOTS).forEach(slot -> result.append("\n").append(slot));
+        if (freeSlots.size() > MAX_SHOWN_SLOTS) {
+            result.append("\n").append(String.format(MESSAGE_MORE_SLOTS, freeSlots.size() - MAX_SHOWN_SLOTS));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Returns the students selected by index, parent and tag, without duplicates.
+     */
+    private Set<Student> selectStudents(Model model) throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        Set<Student> students = new LinkedHashSet<>();
+
+        for (Index index : indices) {
+            Person person = getDisplayedPerson(lastShownList, index);
+            if (!(person instanceof Student)) {
+                throw new CommandException(String.format(MESSAGE_NOT_STUDENT, person.getName()));
+            }
+            students.add((Student) person);
+        }
+
+        if (parentIndex.isPresent()) {
+            Person person = getDisplayedPerson(lastShownList, parentIndex.get());
+            if (!(person instanceof Parent)) {
+                throw new CommandException(String.format(MESSAGE_NOT_PARENT, person.getName()));
+            }
+            students.addAll(model.getChildrenOf((Parent) person));
+        }
+
+        if (tag.isPresent()) {
+            for (Person person : model.findPersons(PersonQuery.withKey(IndexedField.TAG, tag.get()))) {
+                if (person instanceof Student) {
+                    students.add((Student) person);
+                }
+            }
+        }
+        return students;
+    }
+
+    private static Person getDisplayedPerson(List<Person> lastShownList, Index index) throws CommandException {
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeCommand)) {
+            return false;
+        }
+
+        FreeCommand otherFreeCommand = (FreeCommand) other;
+        return indices.equals(otherFreeCommand.indices)
+                && parentIndex.equals(otherFreeCommand.parentIndex)
+                && tag.equals(otherFreeCommand.tag)
+                && startTime.equals(otherFreeCommand.startTime)
+                && endTime.equals(otherFreeCommand.endTime);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("indices", indices)
+                .add("parentIndex", parentIndex)
+                .add("tag", tag)
+                .add("startTime", startTime)
+                .add("endTime", endTime)
+                .toString();
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import java.util.stream.Collectors;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Student;
+
+/**
+ * Checks a lesson against the lessons already in the model before a command saves it.
+ */
+final class LessonClashCheck {
+
+    private LessonClashCheck() {} // prevents instantiation
+
+    /**
+     * Throws a {@code CommandException} naming the students whose lesson clashes with {@code lesson}.
+     * The lesson of {@code replaced}, the person about to be replaced by the command (if any), is ignored.
+     */
+    static void requireNoClash(Model model, Schedule lesson, Person replaced) throws CommandException {
+        if (lesson == null) {
+            return;
+        }
+        String clashingStudents = model.getLessonClashes(lesson).stream()
+                .filter(student -> replaced == null || !student.isSamePerson(replaced))
+                .map(Student::getName)
+                .map(Object::toString)
+                .collect(Collectors.joining(", "));
+        if (!clashingStudents.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_LESSON_CLASH, clashingStudents));
+        }
+    }
+}
@@ -71,17 +71,11 @@ public class LinkCommand extends Command {
         Parent parent = (Parent) parentPerson;
 
         // EP5: Already linked
-        if (student.getParents().contains(parent) || parent.getChildren().contains(student)) {
+        if (model.hasLink(student, parent)) {
             throw new CommandException(MESSAGE_ALREADY_LINKED);
         }
 
-        // Perform linking
-        student.addParent(parent);
-        parent.addChild(student);
-
-        // Update parent first so aggregate recalculations don't replace the reference
-        model.setPerson(parent, parent);
-        model.setPerson(student, student);
+        model.addLink(student, parent);
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
         String result = String.format(MESSAGE_LINK_SUCCESS, student.getName(), parent.getName());
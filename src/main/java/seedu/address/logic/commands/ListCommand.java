@@ -5,10 +5,13 @@ import static java.util.Objects.requireNonNull;
 import java.util.function.Predicate;
 
 import seedu.address.model.Model;
+import seedu.address.model.PersonOrder;
+import seedu.address.model.index.PersonQuery;
 import seedu.address.model.person.Person;
 
 /**
- * Lists persons in the address book based on the provided predicate.
+ * Lists persons in the address book based on the provided query.
+ * Queries on an indexed field are answered from the model's secondary indexes.
  * Supports:
  *   {@code list} — show all persons
  *   {@code list paid} — show only persons whose payment status is paid
@@ -16,6 +19,9 @@ import seedu.address.model.person.Person;
  *   {@code list schedule} — show only students (who have schedules)
  *   {@code list <DAY>} — show students with schedules on a specific day (e.g., Monday)
  *   {@code list <DATE>} — show students with schedules on a specific date (e.g., 12-12-2025)
+ *   {@code list <DAY|DATE> <START>-<END>} — show students with a lesson overlapping a time window
+ *   {@code list <CONDITION> AND|OR <CONDITION> ...} — show persons meeting a combination of conditions
+ *   {@code list ... sort/schedule|name|cost|payment} — show the persons sorted, and keep them sorted as they change
  */
 public class ListCommand extends Command {
 
@@ -28,14 +34,20 @@ public class ListCommand extends Command {
             + "  list paid           (show only paid)\n"
             + "  list unpaid         (show only unpaid)\n"
             + "  list schedule       (show only contacts with schedules)\n"
-            + "  list <DAY>          — show schedules on a specific day (e.g., list Monday)"
-            + "  list <DATE>         — show schedules on a specific date (e.g., list 12-12-2025)";
+            + "  list <DAY>          — show schedules on a specific day (e.g., list Monday)\n"
+            + "  list <DATE>         — show schedules on a specific date (e.g., list 12-12-2025)\n"
+            + "  list <DAY|DATE> <START>-<END> — show lessons during a time window (e.g., list Tuesday 15:00-17:00)\n"
+            + "  list <CONDITION> AND|OR <CONDITION> ... — combine conditions, which may also be t/TAG, type/TYPE,\n"
+            + "      parent-of:\"NAME\" or child-of:\"NAME\" (e.g., list unpaid AND monday OR parent-of:\"Alex Yeoh\")"
+            + "\n  list ... sort/schedule|name|cost|payment — sort the persons listed (e.g., list unpaid sort/cost)";
 
     /** Default success message shown when listing all persons. */
     public static final String MESSAGE_SUCCESS = "Listed all persons.";
 
-    private final Predicate<Person> predicate;
+    private final ListCondition condition;
     private final String successMessage;
+    /** The order to show the persons in, or null to show them in the order of the address book. */
+    private final PersonOrder order;
 
     /**
      * Creates a {@code ListCommand} with a filtering predicate and success message.
@@ -44,8 +56,40 @@ public class ListCommand extends Command {
      * @param successMessage the message to display upon successful execution
      */
     public ListCommand(Predicate<Person> predicate, String successMessage) {
-        this.predicate = requireNonNull(predicate);
+        this(PersonQuery.matching(predicate), successMessage);
+    }
+
+    /**
+     * Creates a {@code ListCommand} with a query and success message.
+     *
+     * @param query the query selecting which persons to show
+     * @param successMessage the message to display upon successful execution
+     */
+    public ListCommand(PersonQuery query, String successMessage) {
+        this(ListCondition.of(query), successMessage);
+    }
+
+    /**
+     * Creates a {@code ListCommand} with a condition and success message.
+     *
+     * @param condition the condition, turned into a query on execution, selecting which persons to show
+     * @param successMessage the message to display upon successful execution
+     */
+    public ListCommand(ListCondition condition, String successMessage) {
+        this(condition, successMessage, null);
+    }
+
+    /**
+     * Creates a {@code ListCommand} with a condition, success message and order.
+     *
+     * @param condition the condition, turned into a query on execution, selecting which persons to show
+     * @param successMessage the message to display upon successful execution
+     * @param order the order to show the persons in, or null to show them in the order of the address book
+     */
+    public ListCommand(ListCondition condition, String successMessage, PersonOrder order) {
+        this.condition = requireNonNull(condition);
         this.successMessage = requireNonNull(successMessage);
+        this.order = order;
     }
 
     /**
@@ -57,7 +101,7 @@ public class ListCommand extends Command {
 
     /**
      * Executes the command by updating the model’s filtered person list
-     * according to the provided predicate.
+     * according to the query of the provided condition.
      *
      * @param model the model containing the person list
      * @return a {@code CommandResult} containing the success message
@@ -65,8 +109,11 @@ public class ListCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        System.out.println("Filtered list size: " + model.getFilteredPersonList().size());
+        if (order == null) {
+            model.updateFilteredPersonList(condition.toQuery(model));
+        } else {
+            model.updateFilteredPersonList(condition.toQuery(model), order);
+        }
         return new CommandResult(successMessage);
     }
 
@@ -82,7 +129,8 @@ public class ListCommand extends Command {
 
         ListCommand otherCommand = (ListCommand) other;
 
-        return this.successMessage.equals(otherCommand.successMessage);
+        return this.successMessage.equals(otherCommand.successMessage)
+                && this.order == otherCommand.order;
     }
 
     @Override
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+/**
+ * A condition of a {@code list} query, compiled from the query text into a tree of conditions joined by AND and OR.
+ * A condition becomes a {@code PersonQuery} when the command is executed, so that conditions on the links between
+ * parents and students see the links as they are then.
+ */
+public final class ListCondition {
+
+    private final Function<Model, PersonQuery> query;
+
+    private ListCondition(Function<Model, PersonQuery> query) {
+        this.query = query;
+    }
+
+    /**
+     * Returns the query selecting the persons in {@code model} that meet this condition.
+     */
+    public PersonQuery toQuery(Model model) {
+        requireNonNull(model);
+        return query.apply(model);
+    }
+
+    /**
+     * Returns a condition met by the persons {@code query} selects.
+     */
+    public static ListCondition of(PersonQuery query) {
+        requireNonNull(query);
+        return new ListCondition(model -> query);
+    }
+
+    /**
+     * Returns a condition met by the parents linked to the student named {@code studentName}.
+     */
+    public static ListCondition parentOf(Name studentName) {
+        requireNonNull(studentName);
+        return new ListCondition(model -> PersonQuery.withNameIn(namesOf(findPerson(model, studentName, Student.class)
+                .map(model::getParentsOf)
+                .orElse(List.of()))));
+    }
+
+    /**
+     * Returns a condition met by the students linked to the parent named {@code parentName}.
+     */
+    public static ListCondition childOf(Name parentName) {
+        requireNonNull(parentName);
+        return new ListCondition(model -> PersonQuery.withNameIn(namesOf(findPerson(model, parentName, Parent.class)
+                .map(model::getChildrenOf)
+                .orElse(List.of()))));
+    }
+
+    /**
+     * Returns a condition met by the persons meeting every one of {@code conditions}.
+     */
+    public static ListCondition allOf(List<ListCondition> conditions) {
+        List<ListCondition> conditionList = List.copyOf(conditions);
+        return new ListCondition(model -> PersonQuery.allOf(toQueries(conditionList, model)));
+    }
+
+    /**
+     * Returns a condition met by the persons meeting at least one of {@code conditions}.
+     */
+    public static ListCondition anyOf(List<ListCondition> conditions) {
+        List<ListCondition> conditionList = List.copyOf(conditions);
+        return new ListCondition(model -> PersonQuery.anyOf(toQueries(conditionList, model)));
+    }
+
+    private static List<PersonQuery> toQueries(List<ListCondition> conditions, Model model) {
+        List<PersonQuery> queries = new ArrayList<>(conditions.size());
+        conditions.forEach(condition -> queries.add(condition.toQuery(model)));
+        return queries;
+    }
+
+    private static <T extends Person> Optional<T> findPerson(Model model, Name name, Class<T> type) {
+        return model.findPerson(name).filter(type::isInstance).map(type::cast);
+    }
+
+    private static List<Name> namesOf(List<? extends Person> persons) {
+        return persons.stream().map(Person::getName).collect(Collectors.toList());
+    }
+}
@@ -12,9 +12,8 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Note;
-import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Student;
+import seedu.address.model.person.PersonPatch;
 
 /**
  * Adds or removes a note for a specified person in the address book.
@@ -64,50 +63,13 @@ public class NoteCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         logger.info("Executing NoteCommand for person: " + personToEdit.getName());
 
-        Person editedPerson = createEditedPerson(personToEdit, note);
-
-        model.setPerson(personToEdit, editedPerson);
+        int id = model.getAddressBook().getId(personToEdit);
+        Person editedPerson = model.updatePerson(id, PersonPatch.empty().withNote(note));
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(generateSuccessMessage(editedPerson));
     }
 
-    /**
-     * Creates a copy of {@code personToEdit} with the updated note.
-     */
-    private Person createEditedPerson(Person personToEdit, Note updatedNote) {
-        requireAllNonNull(personToEdit, updatedNote);
-
-        if (personToEdit instanceof Student student) {
-            return new Student(
-                    student.getName(),
-                    student.getPhone(),
-                    student.getEmail(),
-                    student.getAddress(),
-                    updatedNote,
-                    student.getSchedule(),
-                    student.getCost(),
-                    student.getPaymentStatus(),
-                    student.getTags()
-            );
-        } else if (personToEdit instanceof Parent parent) {
-            return new Parent(
-                    parent.getName(),
-                    parent.getPhone(),
-                    parent.getEmail(),
-                    parent.getAddress(),
-                    updatedNote,
-                    parent.getCost(),
-                    parent.getPaymentStatus(),
-                    parent.getTags()
-            );
-        }
-
-        // Defensive coding: should never reach here if all Person types are handled
-        assert false : "Unhandled Person subtype in NoteCommand";
-        return personToEdit;
-    }
-
     /**
      * Generates a command execution success message based on whether the Note is added to or removed from
      * {@code personToEdit}.
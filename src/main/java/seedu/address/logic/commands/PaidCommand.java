@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -16,6 +15,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.PaymentStatus;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
 import seedu.address.model.person.Student;
 
 /**
@@ -67,49 +67,32 @@ public class PaidCommand extends Command {
             }
             personToMark = lastShownList.get(targetIndex.getZeroBased());
         } else {
-            List<Person> personList = model.getAddressBook().getPersonList();
-            personToMark = personList.stream()
-                    .filter(person -> person.getName().equals(name))
-                    .findFirst()
+            personToMark = model.findPerson(name)
                     .orElseThrow(() -> new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, name)));
         }
 
         boolean newStatusIsPaid = !personToMark.getPaymentStatus().isPaid();
+        PersonPatch statusPatch = PersonPatch.empty().withPaymentStatus(PaymentStatus.of(newStatusIsPaid));
         Person markedPerson;
         if (personToMark.getType().isStudent()) {
-            PaymentStatus updatedStatus = new PaymentStatus(newStatusIsPaid);
-            Student studentToMark = (Student) personToMark; // safe cast
-            Student updatedStudent = new Student(studentToMark.getName(), studentToMark.getPhone(),
-                    studentToMark.getEmail(),
-                    studentToMark.getAddress(), studentToMark.getNote(), studentToMark.getSchedule(),
-                    studentToMark.getCost(), updatedStatus,
-                    studentToMark.getTags());
-            studentToMark.getParents().forEach(updatedStudent::addParent);
-            updatedStudent.setLinkedNames(new ArrayList<>(studentToMark.getLinkedNames()));
-            markedPerson = updatedStudent;
-            model.setPerson(personToMark, markedPerson);
+            markedPerson = model.updatePerson(model.getAddressBook().getId(personToMark), statusPatch);
         } else if (personToMark.getType().isParent()) {
             Parent parentToToggle = (Parent) personToMark;
-            List<Student> children = resolveChildren(model, parentToToggle);
+            List<Student> children = model.getChildrenOf(parentToToggle);
             if (children.isEmpty()) {
                 throw new CommandException(MESSAGE_PARENT_NO_CHILDREN);
             }
 
-            for (Student child : children) {
-                Student latestChild = resolveStudent(model, child);
-                if (latestChild == null) {
-                    continue;
+            int parentId = model.getAddressBook().getId(parentToToggle);
+            model.batch(batchModel -> {
+                for (Student child : children) {
+                    batchModel.updatePerson(batchModel.getAddressBook().getId(child), statusPatch);
                 }
-                Student updatedChild = cloneStudentWithStatus(model, latestChild, newStatusIsPaid);
-                model.setPerson(latestChild, updatedChild);
-            }
+            });
 
-            // parent instance might have been replaced during child updates
-            Parent updatedParent = resolveParent(model, parentToToggle);
-            if (updatedParent == null) {
-                throw new CommandException(MESSAGE_PERSON_NOT_FOUND);
-            }
-            markedPerson = updatedParent;
+            // parent instance might have been replaced during child updates, but keeps its id
+            markedPerson = model.getPersonById(parentId).orElseThrow(() -> new CommandException(
+                    String.format(MESSAGE_PERSON_NOT_FOUND, parentToToggle.getName())));
         } else {
             throw new IllegalStateException("Unsupported person type: " + personToMark.getType());
         }
@@ -136,55 +119,4 @@ public class PaidCommand extends Command {
         return Objects.equals(name, otherPaidCommand.name)
                 && Objects.equals(targetIndex, otherPaidCommand.targetIndex);
     }
-
-    private List<Student> resolveChildren(Model model, Parent parent) {
-        List<Student> children = new ArrayList<>();
-        for (Person person : model.getAddressBook().getPersonList()) {
-            if (person instanceof Student student) {
-                boolean linked = student.getParents().stream().anyMatch(p -> p.isSamePerson(parent));
-                if (linked) {
-                    children.add(student);
-                }
-            }
-        }
-        return children;
-    }
-
-    private Student resolveStudent(Model model, Student target) {
-        return (Student) model.getAddressBook().getPersonList().stream()
-                .filter(person -> person instanceof Student && person.isSamePerson(target))
-                .findFirst()
-                .orElse(null);
-    }
-
-    private Parent resolveParent(Model model, Parent target) {
-        return (Parent) model.getAddressBook().getPersonList().stream()
-                .filter(person -> person instanceof Parent && person.isSamePerson(target))
-                .findFirst()
-                .orElse(null);
-    }
-
-    private Student cloneStudentWithStatus(Model model, Student original, boolean isPaid) {
-        PaymentStatus updatedStatus = new PaymentStatus(isPaid);
-        Student updatedStudent = new Student(
-                original.getName(),
-                original.getPhone(),
-                original.getEmail(),
-                original.getAddress(),
-                original.getNote(),
-                original.getSchedule(),
-                original.getCost(),
-                updatedStatus,
-                original.getTags()
-        );
-
-        for (Parent parent : original.getParents()) {
-            Parent latestParent = resolveParent(model, parent);
-            if (latestParent != null) {
-                updatedStudent.addParent(latestParent);
-            }
-        }
-        updatedStudent.setLinkedNames(new ArrayList<>(original.getLinkedNames()));
-        return updatedStudent;
-    }
 }
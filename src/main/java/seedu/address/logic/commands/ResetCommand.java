@@ -2,64 +2,147 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.time.DayOfWeek;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.index.IndexedField;
+import seedu.address.model.index.PersonQuery;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.PaymentStatus;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Type;
+import seedu.address.model.tag.Tag;
 
 /**
- * Resets payment status to UNPAID for all contacts.
- * Command format: "reset all".
+ * Resets payment status to UNPAID for all contacts, or for the contacts matching the given tag, type and lesson day.
+ * Resetting a parent also resets the children linked to them, as their payment status follows their children's.
+ * Command format: "reset all" or "reset [t/TAG] [type/TYPE] [DAY]".
  */
 public class ResetCommand extends Command {
 
     public static final String COMMAND_WORD = "reset";
 
-    public static final String MESSAGE_USAGE = "reset all: Resets payment status to UNPAID for all contacts.\n"
-            + "Example:" + COMMAND_WORD + " all (case sensitive)";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Resets payment status to UNPAID for all contacts, "
+            + "or for the contacts matching every filter given.\n"
+            + "Parameters: all | [t/TAG] [type/TYPE] [DAY]\n"
+            + "Example: " + COMMAND_WORD + " all\n"
+            + "Example: " + COMMAND_WORD + " t/Math type/s Monday";
 
     public static final String MESSAGE_SUCCESS = "Payment status of all contacts has been reset to unpaid.";
 
+    public static final String MESSAGE_SUCCESS_FILTERED =
+            "Payment status of %1$d matching contact(s) has been reset to unpaid.";
+
+    private final Tag tag;
+    private final Type type;
+    private final DayOfWeek day;
+
+    /**
+     * Creates a ResetCommand that resets every contact.
+     */
+    public ResetCommand() {
+        this(null, null, null);
+    }
+
+    /**
+     * Creates a ResetCommand that resets the contacts with {@code tag}, of {@code type} and with a lesson on
+     * {@code day}. A null filter matches every contact.
+     */
+    public ResetCommand(Tag tag, Type type, DayOfWeek day) {
+        this.tag = tag;
+        this.type = type;
+        this.day = day;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        List<Person> people = new ArrayList<>(model.getFilteredPersonList());
-
-        for (int i = 0; i < people.size(); i++) {
-            Person p = people.get(i);
-            if (p instanceof Parent && p.getPaymentStatus().isPaid()) {
-                try {
-                    new PaidCommand(Index.fromZeroBased(i)).execute(model);
-                } catch (CommandException e) {
-                    Parent par = (Parent) p;
-                    Parent updated = new Parent(par.getName(), par.getPhone(), par.getEmail(),
-                            par.getAddress(), par.getNote(), par.getCost(),
-                            new PaymentStatus(false), par.getTags());
-                    model.setPerson(par, updated);
+        List<Person> matches = model.findPersons(createQuery());
+        PersonPatch unpaid = PersonPatch.empty().withPaymentStatus(PaymentStatus.UNPAID);
+
+        // One transaction, so that the parents' totals are recalculated once and the list reports one change
+        Set<Integer> resetIds = new HashSet<>();
+        model.batch(batchModel -> {
+            for (Person person : matches) {
+                if (person instanceof Parent parent) {
+                    for (Student child : batchModel.getChildrenOf(parent)) {
+                        resetIfPaid(batchModel, child, unpaid, resetIds);
+                    }
                 }
+                resetIfPaid(batchModel, person, unpaid, resetIds);
             }
+            batchModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        });
+
+        return new CommandResult(isFiltered() ? String.format(MESSAGE_SUCCESS_FILTERED, resetIds.size())
+                : MESSAGE_SUCCESS);
+    }
+
+    /**
+     * Returns the query finding the contacts to reset. Only paid students need resetting, so they are found from the
+     * payment status index. A parent is paid only when every child is, so an unpaid parent may still have paid
+     * children, and a filter matching parents finds them whatever their status.
+     */
+    private PersonQuery createQuery() {
+        PersonQuery query = PersonQuery.withKey(IndexedField.PAYMENT_STATUS, true);
+        if (isFiltered()) {
+            query = PersonQuery.anyOf(List.of(query, PersonQuery.withKey(IndexedField.TYPE, Type.of(Type.PARENT))));
+        }
+        if (tag != null) {
+            query = query.and(person -> IndexedField.TAG.keysOf(person).contains(tag));
+        }
+        if (type != null) {
+            query = query.and(person -> IndexedField.TYPE.keysOf(person).contains(type));
         }
+        if (day != null) {
+            query = query.and(person -> IndexedField.DAY_OF_WEEK.keysOf(person).contains(day));
+        }
+        return query;
+    }
 
-        people = new ArrayList<>(model.getAddressBook().getPersonList());
-        for (int i = 0; i < people.size(); i++) {
-            Person p = people.get(i);
-            if (p.getPaymentStatus().isPaid()) {
-                new PaidCommand(Index.fromZeroBased(i)).execute(model);
-            }
+    private static void resetIfPaid(Model model, Person person, PersonPatch unpaid, Set<Integer> resetIds) {
+        int id = model.getAddressBook().getId(person);
+        PaymentStatus status = person.getPaymentStatus();
+        if (status != null && status.isPaid() && resetIds.add(id)) {
+            model.updatePerson(id, unpaid);
         }
+    }
 
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+    private boolean isFiltered() {
+        return tag != null || type != null || day != null;
     }
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof ResetCommand;
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ResetCommand)) {
+            return false;
+        }
+
+        ResetCommand otherResetCommand = (ResetCommand) other;
+        return Objects.equals(tag, otherResetCommand.tag)
+                && Objects.equals(type, otherResetCommand.type)
+                && day == otherResetCommand.day;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tag", tag)
+                .add("type", type)
+                .add("day", day)
+                .toString();
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
@@ -12,6 +13,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
 import seedu.address.model.person.Schedule;
 import seedu.address.model.person.Student;
 
@@ -25,9 +27,11 @@ public class ScheduleCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds or edits the schedule of the student identified "
             + "by the index number used in the last person listing. "
-            + "Existing schedule will be overwritten by the input.\n"
+            + "Existing schedule will be overwritten by the input. "
+            + "A lesson clashing with another student's lesson is rejected unless " + PREFIX_FORCE + " is given.\n"
             + "Parameters: INDEX (must be a positive integer) "
-            + PREFIX_SCHEDULE + "SCHEDULE\n"
+            + PREFIX_SCHEDULE + "SCHEDULE "
+            + "[" + PREFIX_FORCE + "]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_SCHEDULE + "Monday 10:00-12:00, Wednesday 14:00-15:00";
 
@@ -39,15 +43,26 @@ public class ScheduleCommand extends Command {
 
     private final Index index;
     private final Schedule schedule;
+    private final boolean isForced;
 
     /**
      * @param index of the person in the filtered person list to edit the schedule
      * @param schedule the new schedule to set
      */
     public ScheduleCommand(Index index, Schedule schedule) {
+        this(index, schedule, false);
+    }
+
+    /**
+     * @param index of the person in the filtered person list to edit the schedule
+     * @param schedule the new schedule to set
+     * @param isForced whether to set the schedule even if it clashes with another student's lesson
+     */
+    public ScheduleCommand(Index index, Schedule schedule, boolean isForced) {
         requireAllNonNull(index, schedule);
         this.index = index;
         this.schedule = schedule;
+        this.isForced = isForced;
     }
 
     @Override
@@ -70,11 +85,12 @@ public class ScheduleCommand extends Command {
         }
 
         Student studentToEdit = (Student) personToEdit;
+        if (!isForced) {
+            LessonClashCheck.requireNoClash(model, schedule, studentToEdit);
+        }
 
-        // Create a new Student with the updated schedule
-        Student editedStudent = studentToEdit.withSchedule(schedule);
-
-        model.setPerson(studentToEdit, editedStudent);
+        int id = model.getAddressBook().getId(studentToEdit);
+        Person editedStudent = model.updatePerson(id, PersonPatch.empty().withSchedule(schedule));
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(generateSuccessMessage(editedStudent));
@@ -84,7 +100,7 @@ public class ScheduleCommand extends Command {
      * Generates a command execution success message based on whether the schedule
      * was added or removed from {@code studentToEdit}.
      */
-    private String generateSuccessMessage(Student studentToEdit) {
+    private String generateSuccessMessage(Person studentToEdit) {
         String message = !schedule.value.isEmpty()
                 ? MESSAGE_ADD_SCHEDULE_SUCCESS
                 : MESSAGE_DELETE_SCHEDULE_SUCCESS;
@@ -103,6 +119,7 @@ public class ScheduleCommand extends Command {
 
         ScheduleCommand e = (ScheduleCommand) other;
         return index.equals(e.index)
-                && schedule.equals(e.schedule);
+                && schedule.equals(e.schedule)
+                && isForced == e.isForced;
     }
 }
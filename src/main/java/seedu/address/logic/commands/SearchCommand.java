@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.index.PersonQuery;
+
+/**
+ * Finds and lists all persons in address book whose name, tags, note or address contain any of the argument
+ * keywords, from the most relevant to the least relevant.
+ * Keyword matching is case insensitive, and a keyword in a name counts more than one in a tag, note or address.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names, tags, notes or "
+            + "addresses contain any of the specified keywords (case-insensitive) and displays them as a list with "
+            + "index numbers, most relevant first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " sec 3 chemistry";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons listed, most relevant first!";
+
+    private final List<String> keywords;
+
+    public SearchCommand(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(PersonQuery.withAnyWord(keywords));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return keywords.equals(otherSearchCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
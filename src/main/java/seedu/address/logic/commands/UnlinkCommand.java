@@ -73,17 +73,11 @@ public class UnlinkCommand extends Command {
         Parent parent = (Parent) parentPerson;
 
         // Check if they are currently linked
-        if (!student.getParents().contains(parent) || !parent.getChildren().contains(student)) {
+        if (!model.hasLink(student, parent)) {
             throw new CommandException(MESSAGE_NOT_LINKED);
         }
 
-        // Perform unlink
-        parent.removeChild(student);
-        student.removeParent(parent);
-
-        // Update model
-        model.setPerson(parentPerson, parent);
-        model.setPerson(studentPerson, student);
+        model.removeLink(student, parent);
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(String.format(MESSAGE_UNLINK_SUCCESS, student.getName(), parent.getName()));
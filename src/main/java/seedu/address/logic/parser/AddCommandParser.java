@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PAY;
@@ -52,7 +53,7 @@ public class AddCommandParser implements Parser<AddCommand> {
     public AddCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_TYPE, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_ADDRESS, PREFIX_TAG, PREFIX_NOTE, PREFIX_SCHEDULE, PREFIX_PAY);
+                        PREFIX_ADDRESS, PREFIX_TAG, PREFIX_NOTE, PREFIX_SCHEDULE, PREFIX_PAY, PREFIX_FORCE);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE));
@@ -87,7 +88,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         if (type.isStudent()) {
             schedule = argMultimap.getValue(PREFIX_SCHEDULE).isPresent()
                     ? ParserUtil.parseSchedule(argMultimap.getValue(PREFIX_SCHEDULE).get())
-                    : new Schedule("");
+                    : Schedule.of("");
         } else if (type.isParent() && argMultimap.getValue(PREFIX_SCHEDULE).isPresent()) {
             throw new ParseException("Parents cannot have a schedule.");
         }
@@ -97,14 +98,15 @@ public class AddCommandParser implements Parser<AddCommand> {
         Cost cost = argMultimap.getValue(PREFIX_PAY).isPresent()
                 ? ParserUtil.parseCost(argMultimap.getValue(PREFIX_PAY).get())
                 : null;
-        PaymentStatus paymentStatus = new PaymentStatus(false);
+        PaymentStatus paymentStatus = PaymentStatus.UNPAID;
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
         Person person = type.isStudent()
                 ? new Student(name, phone, email, address, note, schedule, cost, paymentStatus, tagList)
                 : new Parent(name, phone, email, address, note, cost, paymentStatus, tagList);
 
-        return new AddCommand(person);
+        boolean isForced = argMultimap.getValue(PREFIX_FORCE).isPresent();
+        return new AddCommand(person, isForced);
     }
 
     private static Map<String, String> createRequiredPrefixDisplayNames() {
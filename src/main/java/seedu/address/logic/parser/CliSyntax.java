@@ -17,5 +17,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_PAY = new Prefix("pay/");
     public static final Prefix PREFIX_PARENT = new Prefix("parent/");
     public static final Prefix PREFIX_STUDENT = new Prefix("student/");
+    public static final Prefix PREFIX_FORCE = new Prefix("force/");
+    public static final Prefix PREFIX_HOURS = new Prefix("hours/");
 
 }
@@ -0,0 +1,108 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.Model;
+
+/**
+ * Completes the name or tag being typed at the end of a command, from the names and tags in the address book.
+ * The value being typed is the text after the last prefix in the command, if that prefix takes a name or a tag.
+ * The name given to {@code add} is a new one, so it is not completed.
+ */
+public class CommandCompleter {
+
+    /** The most completions offered for a command. */
+    public static final int MAX_COMPLETIONS = 8;
+
+    private static final List<Prefix> PREFIXES = List.of(PREFIX_TYPE, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_TAG, PREFIX_NOTE, PREFIX_SCHEDULE, PREFIX_PAY, PREFIX_PARENT, PREFIX_STUDENT,
+            PREFIX_FORCE, PREFIX_HOURS);
+    private static final List<Prefix> NAME_PREFIXES = List.of(PREFIX_NAME, PREFIX_PARENT, PREFIX_STUDENT);
+
+    private final Model model;
+
+    /**
+     * Creates a {@code CommandCompleter} that completes from the names and tags in {@code model}.
+     */
+    public CommandCompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns the ways to complete the name or tag being typed at the end of {@code commandText}, each as the whole
+     * command with that value completed. Returns an empty list if no name or tag is being typed, or if the value
+     * typed is already the only completion.
+     * This may be called from any thread.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        Prefix lastPrefix = null;
+        int valueStart = -1;
+        for (Prefix prefix : PREFIXES) {
+            int position = lastPositionOf(commandText, " " + prefix.getPrefix());
+            int start = position + 1 + prefix.getPrefix().length();
+            if (position >= 0 && start > valueStart) {
+                lastPrefix = prefix;
+                valueStart = start;
+            }
+        }
+        if (lastPrefix == null || valueStart == commandText.length()) {
+            return List.of();
+        }
+
+        String value = commandText.substring(valueStart);
+        List<String> values;
+        if (NAME_PREFIXES.contains(lastPrefix) && !isAddCommand(commandText)) {
+            values = model.completeName(value, MAX_COMPLETIONS);
+        } else if (lastPrefix.equals(PREFIX_TAG) && !value.contains(" ")) {
+            values = model.completeTag(value, MAX_COMPLETIONS);
+        } else {
+            return List.of();
+        }
+        if (values.size() == 1 && values.get(0).equals(value)) {
+            return List.of();
+        }
+
+        List<String> completions = new ArrayList<>(values.size());
+        for (String completedValue : values) {
+            completions.add(commandText.substring(0, valueStart) + completedValue);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the position of the last occurrence of {@code prefix} in {@code text}, ignoring case, or -1 if there is
+     * none, in the same way as {@link ArgumentTokenizer} matches prefixes.
+     */
+    private static int lastPositionOf(String text, String prefix) {
+        for (int i = text.length() - prefix.length(); i >= 0; i--) {
+            if (text.regionMatches(true, i, prefix, 0, prefix.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isAddCommand(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 2);
+        return words[0].equals(AddCommand.COMMAND_WORD);
+    }
+}
@@ -7,12 +7,18 @@ import java.util.Arrays;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /** Starts the keywords of a search for the persons whose names contain all of them. */
+    private static final String MATCH_ALL_MARKER = "all/";
+    /** Starts the keywords of a search for the persons whose names have words similar to them. */
+    private static final String FUZZY_MARKER = "~";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -25,9 +31,25 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (trimmedArgs.startsWith(FUZZY_MARKER)) {
+            String keywords = trimmedArgs.substring(FUZZY_MARKER.length()).trim();
+            if (keywords.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(new NameSimilarToKeywordsPredicate(Arrays.asList(keywords.split("\\s+"))));
+        }
+
+        boolean isMatchAll = trimmedArgs.startsWith(MATCH_ALL_MARKER);
+        String keywords = isMatchAll ? trimmedArgs.substring(MATCH_ALL_MARKER.length()).trim() : trimmedArgs;
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        String[] nameKeywords = keywords.split("\\s+");
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords), isMatchAll));
     }
 
 }
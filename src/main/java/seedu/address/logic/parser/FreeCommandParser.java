@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new FreeCommand object
+ */
+public class FreeCommandParser implements Parser<FreeCommand> {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeCommand
+     * and returns a FreeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PARENT, PREFIX_TAG, PREFIX_HOURS);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PARENT, PREFIX_TAG, PREFIX_HOURS);
+
+        String preamble = argMultimap.getPreamble().trim();
+        if (argMultimap.getValue(PREFIX_HOURS).isEmpty()
+                || (preamble.isEmpty() && argMultimap.getValue(PREFIX_PARENT).isEmpty()
+                        && argMultimap.getValue(PREFIX_TAG).isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        List<Index> indices = new ArrayList<>();
+        if (!preamble.isEmpty()) {
+            for (String index : preamble.split("\\s+")) {
+                indices.add(ParserUtil.parseIndex(index));
+            }
+        }
+
+        Optional<Index> parentIndex = Optional.empty();
+        if (argMultimap.getValue(PREFIX_PARENT).isPresent()) {
+            parentIndex = Optional.of(ParserUtil.parseIndex(argMultimap.getValue(PREFIX_PARENT).get()));
+        }
+
+        Optional<Tag> tag = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            tag = Optional.of(ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get()));
+        }
+
+        String[] hours = argMultimap.getValue(PREFIX_HOURS).get().trim().split("\\s*-\\s*");
+        if (hours.length != 2) {
+            throw new ParseException(FreeCommand.MESSAGE_INVALID_HOURS);
+        }
+        LocalTime startTime = parseTime(hours[0]);
+        LocalTime endTime = parseTime(hours[1]);
+        if (!endTime.isAfter(startTime)) {
+            throw new ParseException(FreeCommand.MESSAGE_INVALID_HOURS);
+        }
+
+        return new FreeCommand(indices, parentIndex, tag, startTime, endTime);
+    }
+
+    private static LocalTime parseTime(String time) throws ParseException {
+        try {
+            return LocalTime.parse(time, TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(FreeCommand.MESSAGE_INVALID_HOURS);
+        }
+    }
+}
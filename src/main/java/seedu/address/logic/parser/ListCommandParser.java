@@ -1,14 +1,32 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListCondition;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Student;
+import seedu.address.model.PersonOrder;
+import seedu.address.model.index.IndexedField;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Type;
+import seedu.address.model.tag.Tag;
 
 
 /**
@@ -20,12 +38,39 @@ import seedu.address.model.person.Student;
  *   {@code list schedule} — show only students (who have schedules)
  *   {@code list <DAY>} — show students with schedules on a specific day (e.g., Monday)
  *   {@code list <DATE>} — show students with schedules on a specific date (e.g., 12-12-2025)
+ *   {@code list <DAY|DATE> <START>-<END>} — show students with a lesson overlapping a time window
+ *   (e.g., Tuesday 15:00-17:00)
+ *   {@code list t/<TAG>}, {@code list type/<TYPE>} — show persons with a tag, or of a type
+ *   {@code list parent-of:"<NAME>"}, {@code list child-of:"<NAME>"} — show the parents of a student, or the
+ *   children of a parent
+ * Any of these conditions can be combined with {@code AND} and {@code OR}, in any case, and grouped with
+ * parentheses; {@code AND} binds tighter than {@code OR}. Text in double quotes is taken as it is.
+ * Any query, or none, may end with {@code sort/schedule}, {@code sort/name}, {@code sort/cost} or
+ * {@code sort/payment} to show the persons in that order.
  * Any other argument is rejected with a {@link ParseException}.
+ *
+ * Compiled commands are cached by their query text, so a repeated query is not parsed again. A compiled command
+ * holds no persons, and its query is planned against the indexes each time it is executed.
  */
 public class ListCommandParser implements Parser<ListCommand> {
 
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM-dd-yyyy");
 
+    private static final String PARENT_OF = "parent-of:";
+    private static final String CHILD_OF = "child-of:";
+    private static final String SORT = "sort/";
+    private static final String MESSAGE_INVALID_SORT = "Sort by one of: schedule, name, cost, payment";
+
+    /** The most compiled queries kept; the least recently used one is dropped first. */
+    private static final int MAX_CACHED_QUERIES = 64;
+    private static final Map<String, ListCommand> COMPILED_QUERIES = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ListCommand> eldest) {
+                    return size() > MAX_CACHED_QUERIES;
+                }
+            });
+
     @Override
     public ListCommand parse(String args) throws ParseException {
         String trimmed = normalizeInput(args);
@@ -33,17 +78,83 @@ public class ListCommandParser implements Parser<ListCommand> {
             return new ListCommand(Model.PREDICATE_SHOW_ALL_PERSONS, "Listed all persons.");
         }
 
-        // Delegate specific logic for clarity
-        switch (trimmed.toLowerCase(java.util.Locale.ROOT)) {
+        ListCommand cached = COMPILED_QUERIES.get(trimmed);
+        if (cached != null) {
+            return cached;
+        }
+        ListCommand command = compile(trimmed);
+        COMPILED_QUERIES.put(trimmed, command);
+        return command;
+    }
+
+    /**
+     * Compiles {@code trimmed} into a command. A single condition keeps its own success message.
+     */
+    private ListCommand compile(String trimmed) throws ParseException {
+        List<Token> tokens = tokenize(trimmed);
+        PersonOrder order = parseOrder(tokens);
+        String orderMessage = order == null ? "" : "\nSorted by " + order + ".";
+        if (tokens.isEmpty()) {
+            return new ListCommand(ListCondition.of(PersonQuery.matching(Model.PREDICATE_SHOW_ALL_PERSONS)),
+                    ListCommand.MESSAGE_SUCCESS + orderMessage, order);
+        }
+        if (tokens.stream().noneMatch(Token::isOperator)) {
+            Term term = parseTerm(joinText(tokens));
+            return new ListCommand(term.condition, term.message + orderMessage, order);
+        }
+
+        ListCondition condition = new QueryParser(tokens).parse();
+        String query = order == null ? trimmed : joinText(tokens);
+        return new ListCommand(condition, "Listed persons matching: " + query + orderMessage, order);
+    }
+
+    /**
+     * Removes a trailing {@code sort/ORDER} word from {@code tokens} and returns its order, or returns null if there
+     * is none.
+     */
+    private static PersonOrder parseOrder(List<Token> tokens) throws ParseException {
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        Token last = tokens.get(tokens.size() - 1);
+        if (last.isOperator || !last.text.regionMatches(true, 0, SORT, 0, SORT.length())) {
+            return null;
+        }
+        tokens.remove(tokens.size() - 1);
+        return PersonOrder.fromKeyword(last.text.substring(SORT.length()))
+                .orElseThrow(() -> new ParseException(MESSAGE_INVALID_SORT));
+    }
+
+    /**
+     * Parses a single condition, such as {@code paid}, {@code Monday} or {@code t/sec3}.
+     */
+    private Term parseTerm(String text) throws ParseException {
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        switch (lowerText) {
         case "paid":
-            return makePaidListCommand();
+            return makePaidTerm();
         case "unpaid":
-            return makeUnpaidListCommand();
+            return makeUnpaidTerm();
         case "schedule":
-            return makeScheduleListCommand();
+            return makeScheduleTerm();
         default:
-            return handleDayOrDateList(trimmed);
+            break;
         }
+
+        if (lowerText.startsWith(PREFIX_TAG.getPrefix())) {
+            Tag tag = ParserUtil.parseTag(text.substring(PREFIX_TAG.getPrefix().length()));
+            return new Term(PersonQuery.withKey(IndexedField.TAG, tag), "Listed persons tagged " + tag.tagName + ".");
+        } else if (lowerText.startsWith(PREFIX_TYPE.getPrefix())) {
+            Type type = ParserUtil.parseType(text.substring(PREFIX_TYPE.getPrefix().length()));
+            return new Term(PersonQuery.withKey(IndexedField.TYPE, type), "Listed persons of type " + type + ".");
+        } else if (lowerText.startsWith(PARENT_OF)) {
+            Name name = ParserUtil.parseName(text.substring(PARENT_OF.length()));
+            return new Term(ListCondition.parentOf(name), "Listed the parents of " + name + ".");
+        } else if (lowerText.startsWith(CHILD_OF)) {
+            Name name = ParserUtil.parseName(text.substring(CHILD_OF.length()));
+            return new Term(ListCondition.childOf(name), "Listed the children of " + name + ".");
+        }
+        return handleDayOrDateList(text);
     }
 
     /**
@@ -53,41 +164,44 @@ public class ListCommandParser implements Parser<ListCommand> {
         return args == null ? "" : args.trim().replaceAll("\\s+", " ");
     }
 
-    private ListCommand makePaidListCommand() {
-        return new ListCommand(
-                p -> p.getPaymentStatus() != null && p.getPaymentStatus().isPaid(),
+    private Term makePaidTerm() {
+        return new Term(
+                PersonQuery.withKey(IndexedField.PAYMENT_STATUS, true),
                 "Listed persons with payment status: PAID"
         );
     }
 
-    private ListCommand makeUnpaidListCommand() {
-        return new ListCommand(
-                p -> p.getPaymentStatus() != null && !p.getPaymentStatus().isPaid(),
+    private Term makeUnpaidTerm() {
+        return new Term(
+                PersonQuery.withKey(IndexedField.PAYMENT_STATUS, false),
                 "Listed persons with payment status: UNPAID"
         );
     }
 
-    private ListCommand makeScheduleListCommand() {
-        return new ListCommand(
-                p -> p instanceof Student
-                        && ((Student) p).getSchedule() != null
-                        && !((Student) p).getSchedule().isEmpty(),
+    private Term makeScheduleTerm() {
+        return new Term(
+                PersonQuery.withKey(IndexedField.HAS_SCHEDULE, true),
                 "Listed students with a schedule."
         );
     }
 
     /**
-     * Handles list filtering by day or date.
+     * Handles list filtering by day or date, optionally narrowed to a time window.
      */
-    private ListCommand handleDayOrDateList(String trimmed) throws ParseException {
+    private Term handleDayOrDateList(String trimmed) throws ParseException {
         DayOfWeek day = tryParseDay(trimmed);
         if (day != null) {
-            return makeDayListCommand(day);
+            return makeDayTerm(day);
         }
 
         LocalDate date = tryParseDate(trimmed);
         if (date != null) {
-            return makeDateListCommand(date);
+            return makeDateTerm(date);
+        }
+
+        Optional<Schedule> window = trimmed.contains(" ") ? Schedule.tryParse(trimmed) : Optional.empty();
+        if (window.isPresent()) {
+            return makeTimeWindowTerm(window.get());
         }
 
         throw new ParseException(getInvalidListMessage(trimmed));
@@ -115,24 +229,27 @@ public class ListCommandParser implements Parser<ListCommand> {
         }
     }
 
-    private ListCommand makeDayListCommand(DayOfWeek day) {
-        return new ListCommand(
-                p -> p instanceof Student
-                        && ((Student) p).getSchedule() != null
-                        && day.equals(((Student) p).getSchedule().getDayOfWeek()),
+    private Term makeDayTerm(DayOfWeek day) {
+        return new Term(
+                PersonQuery.withKey(IndexedField.DAY_OF_WEEK, day),
                 "Listed students with schedule on " + capitalize(day.name()) + "."
         );
     }
 
-    private ListCommand makeDateListCommand(LocalDate date) {
-        return new ListCommand(
-                p -> p instanceof Student
-                        && ((Student) p).getSchedule() != null
-                        && date.equals(((Student) p).getSchedule().getDate()),
+    private Term makeDateTerm(LocalDate date) {
+        return new Term(
+                PersonQuery.withKey(IndexedField.DATE, date),
                 "Listed students with schedule on " + DATE_FORMAT.format(date) + "."
         );
     }
 
+    private Term makeTimeWindowTerm(Schedule window) {
+        return new Term(
+                PersonQuery.withLessonOverlapping(window),
+                "Listed students with a lesson during " + window + "."
+        );
+    }
+
     private String getInvalidListMessage(String trimmed) {
         return "Invalid list argument: \"" + trimmed + "\"\n"
                 + "Use:\n"
@@ -142,9 +259,170 @@ public class ListCommandParser implements Parser<ListCommand> {
                 + "  list schedule (filter schedules)\n"
                 + "  list <DAY>    (e.g., list Monday)\n"
                 + "  list <DATE>   (e.g., list 12-12-2025)\n"
+                + "  list <DAY|DATE> <START>-<END> (e.g., list Tuesday 15:00-17:00)\n"
                 + "For name search, use: find n/<keywords>";
     }
 
+    /**
+     * Splits {@code input} into words, parentheses and the operators AND and OR.
+     * Text in double quotes belongs to the word it is in, spaces and parentheses included, and is never an operator.
+     */
+    private static List<Token> tokenize(String input) throws ParseException {
+        List<Token> result = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        boolean isQuoted = false;
+        boolean hasQuote = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                hasQuote = true;
+            } else if (isQuoted || (c != ' ' && c != '(' && c != ')')) {
+                text.append(c);
+            } else {
+                addToken(result, text, hasQuote);
+                hasQuote = false;
+                if (c != ' ') {
+                    result.add(new Token(String.valueOf(c), true));
+                }
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException("Missing closing quote in list query: " + input);
+        }
+        addToken(result, text, hasQuote);
+        return result;
+    }
+
+    private static void addToken(List<Token> result, StringBuilder text, boolean hasQuote) {
+        if (text.length() == 0 && !hasQuote) {
+            return;
+        }
+        String word = text.toString();
+        boolean isOperator = !hasQuote && (word.equalsIgnoreCase("and") || word.equalsIgnoreCase("or"));
+        result.add(new Token(word, isOperator));
+        text.setLength(0);
+    }
+
+    private static String joinText(List<Token> tokens) {
+        List<String> texts = new ArrayList<>(tokens.size());
+        tokens.forEach(token -> texts.add(token.text));
+        return String.join(" ", texts);
+    }
+
+    /**
+     * Parses the tokens of one query joined by AND and OR, keeping its place in them, so that
+     * {@code ListCommandParser} itself holds no state between queries.
+     */
+    private class QueryParser {
+        private final List<Token> tokens;
+        private int next;
+
+        QueryParser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        /**
+         * Parses every token into one condition.
+         */
+        ListCondition parse() throws ParseException {
+            ListCondition condition = parseAnyOf();
+            if (next < tokens.size()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+            }
+            return condition;
+        }
+
+        /**
+         * Parses conditions joined by OR, starting at the next token.
+         */
+        ListCondition parseAnyOf() throws ParseException {
+            List<ListCondition> conditions = new ArrayList<>();
+            conditions.add(parseAllOf());
+            while (nextIs("or")) {
+                next++;
+                conditions.add(parseAllOf());
+            }
+            return conditions.size() == 1 ? conditions.get(0) : ListCondition.anyOf(conditions);
+        }
+
+        /**
+         * Parses conditions joined by AND, starting at the next token.
+         */
+        ListCondition parseAllOf() throws ParseException {
+            List<ListCondition> conditions = new ArrayList<>();
+            conditions.add(parseCondition());
+            while (nextIs("and")) {
+                next++;
+                conditions.add(parseCondition());
+            }
+            return conditions.size() == 1 ? conditions.get(0) : ListCondition.allOf(conditions);
+        }
+
+        /**
+         * Parses a parenthesised group, or a single condition made of the tokens up to the next operator.
+         */
+        ListCondition parseCondition() throws ParseException {
+            if (nextIs("(")) {
+                next++;
+                ListCondition group = parseAnyOf();
+                if (!nextIs(")")) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+                }
+                next++;
+                return group;
+            }
+
+            int start = next;
+            while (next < tokens.size() && !tokens.get(next).isOperator()) {
+                next++;
+            }
+            if (start == next) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+            }
+            return parseTerm(joinText(tokens.subList(start, next))).condition;
+        }
+
+        boolean nextIs(String operator) {
+            return next < tokens.size() && tokens.get(next).isOperator()
+                    && tokens.get(next).text.equalsIgnoreCase(operator);
+        }
+    }
+
+    /**
+     * A word, parenthesis or operator of a list query.
+     */
+    private static class Token {
+        private final String text;
+        private final boolean isOperator;
+
+        Token(String text, boolean isOperator) {
+            this.text = text;
+            this.isOperator = isOperator;
+        }
+
+        boolean isOperator() {
+            return isOperator;
+        }
+    }
+
+    /**
+     * A single condition of a list query, and the message shown when it is the whole query.
+     */
+    private static class Term {
+        private final ListCondition condition;
+        private final String message;
+
+        Term(PersonQuery query, String message) {
+            this(ListCondition.of(query), message);
+        }
+
+        Term(ListCondition condition, String message) {
+            this.condition = condition;
+            this.message = message;
+        }
+    }
+
     private static String capitalize(String s) {
         if (s.isEmpty()) {
             return s;
@@ -52,7 +52,7 @@ public class ParserUtil {
         if (!Type.isValidType(trimmedType)) {
             throw new ParseException(Type.MESSAGE_CONSTRAINTS);
         }
-        return new Type(trimmedType);
+        return Type.of(trimmedType);
     }
 
     /**
@@ -145,7 +145,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -185,7 +185,7 @@ public class ParserUtil {
         requireNonNull(schedule);
         String trimmedSchedule = schedule.trim();
         try {
-            return new Schedule(trimmedSchedule);
+            return Schedule.of(trimmedSchedule);
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
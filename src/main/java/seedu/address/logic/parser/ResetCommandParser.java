@@ -1,13 +1,20 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.time.DayOfWeek;
+import java.util.Locale;
 
 import seedu.address.logic.commands.ResetCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Type;
+import seedu.address.model.tag.Tag;
 
 /**
- * Parses input for 'reset all'.
- * Accepts only the exact token "all" (case-insensitive) with no extra tokens.
+ * Parses input for 'reset all' and 'reset [t/TAG] [type/TYPE] [DAY]'.
+ * Accepts either the exact token "all" (case-insensitive) with no extra tokens, or at least one filter.
  */
 public class ResetCommandParser implements Parser<ResetCommand> {
 
@@ -15,10 +22,35 @@ public class ResetCommandParser implements Parser<ResetCommand> {
     public ResetCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
 
-        if (!trimmedArgs.equalsIgnoreCase("all")) {
+        if (trimmedArgs.equalsIgnoreCase("all")) {
+            return new ResetCommand();
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_TYPE);
+        String preamble = argMultimap.getPreamble();
+        boolean hasFilter = !preamble.isEmpty()
+                || argMultimap.getValue(PREFIX_TAG).isPresent()
+                || argMultimap.getValue(PREFIX_TYPE).isPresent();
+        if (!hasFilter) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ResetCommand.MESSAGE_USAGE));
         }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TAG, PREFIX_TYPE);
 
-        return new ResetCommand();
+        DayOfWeek day = preamble.isEmpty() ? null : parseDay(preamble);
+        Tag tag = argMultimap.getValue(PREFIX_TAG).isPresent()
+                ? ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get())
+                : null;
+        Type type = argMultimap.getValue(PREFIX_TYPE).isPresent()
+                ? ParserUtil.parseType(argMultimap.getValue(PREFIX_TYPE).get())
+                : null;
+        return new ResetCommand(tag, type, day);
+    }
+
+    private static DayOfWeek parseDay(String day) throws ParseException {
+        try {
+            return DayOfWeek.valueOf(day.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ResetCommand.MESSAGE_USAGE));
+        }
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE;
 
 import java.util.logging.Logger;
@@ -28,7 +29,7 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
         requireNonNull(args);
         String normalizedArgs = args.replaceAll("(?i)SCHEDULE/", "schedule/");
         logger.fine("Parsing ScheduleCommand args: " + normalizedArgs);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(normalizedArgs, PREFIX_SCHEDULE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(normalizedArgs, PREFIX_SCHEDULE, PREFIX_FORCE);
 
         Index index;
         try {
@@ -41,12 +42,13 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
         String scheduleString = argMultimap.getValue(PREFIX_SCHEDULE).orElse("");
         Schedule schedule;
         try {
-            schedule = new Schedule(scheduleString);
+            schedule = Schedule.of(scheduleString);
         } catch (IllegalArgumentException e) {
             logger.warning("Schedule parsing failed: " + e.getMessage());
             throw new ParseException(e.getMessage());
         }
 
-        return new ScheduleCommand(index, schedule);
+        boolean isForced = argMultimap.getValue(PREFIX_FORCE).isPresent();
+        return new ScheduleCommand(index, schedule, isForced);
     }
 }
@@ -2,20 +2,32 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RelationshipGraph;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Every person has a numeric ID that is kept across edits; links between students and parents are held in a
+ * {@code RelationshipGraph} keyed by these IDs, so persons never reference each other directly.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final RelationshipGraph links;
+    /** The links before the batch of changes in progress, or null if there is none. */
+    private RelationshipGraph linksBeforeBatch;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,12 +38,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        links = new RelationshipGraph();
     }
 
     public AddressBook() {}
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Copying another {@code AddressBook} takes O(1) time, as the two share their persons and links until either
+     * of them changes.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
@@ -41,11 +56,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     //// list overwrite operations
 
     /**
-     * Replaces the contents of the person list with {@code persons}.
+     * Replaces the contents of the person list with {@code persons}, numbering them from 0 in list order.
      * {@code persons} must not contain duplicate persons.
+     * All existing links are removed.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        links.clear();
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, the i-th of which gets the i-th ID in {@code ids}.
+     * {@code persons} must not contain duplicate persons and {@code ids} must be distinct.
+     * All existing links are removed.
+     */
+    public void setPersons(List<Person> persons, List<Integer> ids) {
+        this.persons.setPersons(persons, ids);
+        links.clear();
     }
 
     /**
@@ -54,7 +81,27 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook) {
+            AddressBook otherAddressBook = (AddressBook) newData;
+            persons.setPersons(otherAddressBook.persons);
+            links.setLinks(otherAddressBook.links);
+            return;
+        }
+
+        List<Person> newPersons = newData.getPersonList();
+        List<Integer> newIds = new ArrayList<>(newPersons.size());
+        for (Person person : newPersons) {
+            newIds.add(newData.getId(person));
+        }
+        setPersons(newPersons, newIds);
+
+        for (Person person : newPersons) {
+            if (person instanceof Student student) {
+                for (Parent parent : newData.getParentsOf(student)) {
+                    links.link(newData.getId(student), newData.getId(parent));
+                }
+            }
+        }
     }
 
     //// person-level operations
@@ -68,13 +115,46 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a person to the address book.
+     * Returns the person in the address book whose identity is {@code name}, if any.
+     */
+    public Optional<Person> findPerson(Name name) {
+        requireNonNull(name);
+        return persons.find(name);
+    }
+
+    /**
+     * Returns the position in the person list of the person with exactly the same fields as {@code person},
+     * or -1 if there is no such person.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Adds a person to the address book under a newly assigned ID.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
     }
 
+    /**
+     * Adds a person to the address book under the given {@code id}.
+     * The person must not already exist in the address book, and {@code id} must not be in use.
+     */
+    public void addPerson(Person p, int id) {
+        persons.add(p, id);
+    }
+
+    /**
+     * Adds a person to the address book under the given {@code id}, at position {@code index} of the person list.
+     * The person must not already exist in the address book, and {@code id} must not be in use.
+     */
+    public void addPerson(Person p, int id, int index) {
+        persons.add(p, id, index);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -87,15 +167,95 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook}, together with all of its links.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        int id = persons.getId(key);
         persons.remove(key);
+        links.remove(id);
+    }
+
+    //// link-level operations
+
+    /**
+     * Returns true if {@code student} is linked to {@code parent}.
+     */
+    public boolean hasLink(Student student, Parent parent) {
+        requireNonNull(student);
+        requireNonNull(parent);
+        return links.isLinked(persons.getId(student), persons.getId(parent));
+    }
+
+    /**
+     * Links {@code student} to {@code parent}.
+     * Both must exist in the address book and must not already be linked.
+     *
+     * @throws IllegalStateException if the two are already linked
+     */
+    public void addLink(Student student, Parent parent) {
+        requireNonNull(student);
+        requireNonNull(parent);
+        links.link(persons.getId(student), persons.getId(parent));
+    }
+
+    /**
+     * Removes the link between {@code student} and {@code parent}.
+     * The two must currently be linked.
+     *
+     * @throws IllegalStateException if the two are not linked
+     */
+    public void removeLink(Student student, Parent parent) {
+        requireNonNull(student);
+        requireNonNull(parent);
+        links.unlink(persons.getId(student), persons.getId(parent));
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch of changes, which are reported to the listeners of the person list only when the batch ends,
+     * as one change.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        linksBeforeBatch = new RelationshipGraph(links);
+    }
+
+    /**
+     * Ends the batch in progress, reporting its changes to the person list as one change.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void endBatch() {
+        persons.endBatch();
+        linksBeforeBatch = null;
+    }
+
+    /**
+     * Ends the batch in progress by restoring the persons and links from before it.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        persons.rollbackBatch();
+        links.setLinks(linksBeforeBatch);
+        linksBeforeBatch = null;
     }
 
     //// util methods
 
+    /**
+     * Returns an immutable snapshot of the current persons and links, in O(1) time.
+     * The snapshot shares its structure with this address book and is unaffected by later changes to it,
+     * so it can be read, for example while saving, without copying the person list.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new AddressBook(this);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -108,6 +268,40 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public int getId(Person person) {
+        requireNonNull(person);
+        return persons.getId(person);
+    }
+
+    @Override
+    public Optional<Person> getPersonById(int id) {
+        return persons.findById(id);
+    }
+
+    @Override
+    public List<Parent> getParentsOf(Student student) {
+        requireNonNull(student);
+        return resolve(links.getParents(persons.getId(student)), Parent.class);
+    }
+
+    @Override
+    public List<Student> getChildrenOf(Parent parent) {
+        requireNonNull(parent);
+        return resolve(links.getChildren(persons.getId(parent)), Student.class);
+    }
+
+    private <T extends Person> List<T> resolve(Collection<Integer> ids, Class<T> type) {
+        List<T> resolved = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            persons.findById(id)
+                    .filter(type::isInstance)
+                    .map(type::cast)
+                    .ifPresent(resolved::add);
+        }
+        return resolved;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -120,7 +314,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         AddressBook otherAddressBook = (AddressBook) other;
-        return persons.equals(otherAddressBook.persons);
+        return persons.equals(otherAddressBook.persons)
+                && links.equals(otherAddressBook.links);
     }
 
     @Override
@@ -1,11 +1,19 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Student;
 
 /**
  * The API of the Model component.
@@ -52,11 +60,34 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook in O(1) time.
+     * Unlike {@link #getAddressBook()}, the snapshot does not change when the model does.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person in the address book whose identity is {@code name}, if any, in O(1) time.
+     */
+    Optional<Person> findPerson(Name name);
+
+    /**
+     * Returns the person with the given {@code id}, if any.
+     * IDs are assigned by the address book and are kept when a person is edited.
+     */
+    Optional<Person> getPersonById(int id);
+
+    /**
+     * Returns the students whose lesson clashes with {@code lesson}.
+     * The lookup uses the model's lesson index, so it does not test every student.
+     */
+    List<Student> getLessonClashes(Schedule lesson);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -76,6 +107,80 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Applies {@code patch} to the person with the given {@code id} and returns the updated person.
+     * Only the state derived from the fields that {@code patch} changes is updated: for example, a new note leaves
+     * the parents' totals alone, and a new cost for a student recalculates only the totals of that student's parents.
+     * The person identity after the patch must not be the same as another existing person in the address book.
+     *
+     * @throws seedu.address.model.person.exceptions.PersonNotFoundException if there is no person with {@code id}.
+     */
+    Person updatePerson(int id, PersonPatch patch);
+
+    /**
+     * Returns true if {@code student} is linked to {@code parent}.
+     */
+    boolean hasLink(Student student, Parent parent);
+
+    /**
+     * Links {@code student} to {@code parent}.
+     * Both must exist in the address book and must not already be linked.
+     */
+    void addLink(Student student, Parent parent);
+
+    /**
+     * Removes the link between {@code student} and {@code parent}.
+     * The two must currently be linked.
+     */
+    void removeLink(Student student, Parent parent);
+
+    /**
+     * Returns the parents currently linked to {@code student}.
+     */
+    List<Parent> getParentsOf(Student student);
+
+    /**
+     * Returns the children currently linked to {@code parent}.
+     */
+    List<Student> getChildrenOf(Parent parent);
+
+    /**
+     * Applies the changes that {@code changes} makes to this model as one transaction.
+     * Derived state, such as the parents' totals, is brought up to date once at the end, the person list reports
+     * all the changes as one change, and the filtered person list is re-filtered at most once.
+     * If {@code changes} throws, every change it made is rolled back and the exception is rethrown.
+     * Within the transaction, the filtered person list and the lesson and field indexes still show the persons
+     * as they were before it began. A transaction begun within another one becomes part of it.
+     */
+    <E extends Exception> void batch(Batch<E> changes) throws E;
+
+    /**
+     * Saves the changes made to the address book since the last commit as one step that can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a step of changes to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone step of changes to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverses the most recent step of changes to the address book.
+     * There must be such a step.
+     */
+    void undoAddressBook();
+
+    /**
+     * Applies again the most recently undone step of changes to the address book.
+     * There must be such a step.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -84,4 +189,53 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons selected by {@code query}.
+     * A query on an indexed field is answered in time proportional to the number of persons it selects.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonList(PersonQuery query);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons selected by {@code query}, in the order
+     * {@code order}. The persons stay in this order as they change: the place of a changed person is found by
+     * binary search (O(log n) comparisons), then the person is inserted in O(n).
+     * @throws NullPointerException if {@code query} or {@code order} is null.
+     */
+    void updateFilteredPersonList(PersonQuery query, PersonOrder order);
+
+    /**
+     * Returns the persons in the address book selected by {@code query}, in no particular order.
+     * A query on an indexed field is answered in time proportional to the number of persons it selects.
+     * Within a transaction, the persons found may not reflect the changes made in it.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    List<Person> findPersons(PersonQuery query);
+
+    /**
+     * Returns at most {@code limit} full names in the address book with a word starting with {@code prefix},
+     * ignoring case.
+     * Unlike the other methods, this may be called from any thread, and it then sees the address book as it was
+     * after some recent change.
+     * @throws NullPointerException if {@code prefix} is null.
+     */
+    List<String> completeName(String prefix, int limit);
+
+    /**
+     * Returns at most {@code limit} tag names in the address book starting with {@code prefix}, ignoring case.
+     * Like {@link #completeName(String, int)}, this may be called from any thread.
+     * @throws NullPointerException if {@code prefix} is null.
+     */
+    List<String> completeTag(String prefix, int limit);
+
+    /**
+     * Changes to a model that are applied as one transaction by {@link Model#batch(Batch)}.
+     *
+     * @param <E> the type of the checked exception the changes may throw
+     */
+    @FunctionalInterface
+    interface Batch<E extends Exception> {
+        void applyTo(Model model) throws E;
+    }
 }
@@ -3,25 +3,34 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.index.PersonIndexes;
+import seedu.address.model.index.PersonQuery;
 import seedu.address.model.person.Cost;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.PaymentStatus;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonField;
+import seedu.address.model.person.PersonPatch;
+import seedu.address.model.person.Schedule;
 import seedu.address.model.person.Student;
-import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -29,10 +38,14 @@ import seedu.address.model.person.exceptions.DuplicatePersonException;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private boolean isRecalculatingParents;
+    private final PersonIndexes indexes;
+    private final PersonListView filteredPersons;
+    private final Set<Integer> dirtyParents = new LinkedHashSet<>();
+    private boolean isInBatch;
+    /** The update of the filtered person list deferred to the end of the batch in progress, if any. */
+    private Runnable pendingFilterUpdate;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -42,11 +55,13 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryLimit());
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        isRecalculatingParents = false;
-        recalculateParentAggregates();
+        indexes = new PersonIndexes(this.addressBook.getPersonList());
+        filteredPersons = new PersonListView(this.addressBook.getPersonList(), this.addressBook::indexOf);
+        markAllParentsDirty();
+        recalculateDirtyParentAggregates();
+        this.addressBook.clearHistory();
     }
 
     public ModelManager() {
@@ -59,6 +74,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setHistoryLimit(userPrefs.getUndoHistoryLimit());
     }
 
     @Override
@@ -93,7 +109,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
-        recalculateParentAggregates();
+        markAllParentsDirty();
+        recalculateDirtyParentAggregates();
     }
 
     @Override
@@ -101,6 +118,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -108,37 +130,46 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void deletePerson(Person target) {
-        requireNonNull(target);
+    public Optional<Person> findPerson(Name name) {
+        requireNonNull(name);
+        return addressBook.findPerson(name);
+    }
 
-        // First, remove all links that reference this person
-        removeLinksTo(target);
+    @Override
+    public Optional<Person> getPersonById(int id) {
+        return addressBook.getPersonById(id);
+    }
 
-        addressBook.removePerson(target);
-        recalculateParentAggregates();
+    @Override
+    public List<Student> getLessonClashes(Schedule lesson) {
+        requireNonNull(lesson);
+        List<Student> clashes = new ArrayList<>();
+        for (Person person : indexes.getLessonsClashing(lesson)) {
+            clashes.add((Student) person);
+        }
+        return clashes;
     }
 
-    private void removeLinksTo(Person personToDelete) {
-        List<Person> updatedPersons = new ArrayList<>();
+    @Override
+    public void deletePerson(Person target) {
+        requireNonNull(target);
 
-        for (Person p : addressBook.getPersonList()) {
-            if (p instanceof Student student) {
-                // remove parent links
-                student.getParents().removeIf(parent -> parent.isSamePerson(personToDelete));
-            } else if (p instanceof Parent parent) {
-                // remove student links
-                parent.getChildren().removeIf(student -> student.isSamePerson(personToDelete));
+        List<Person> linkedPersons = getLinkedPersons(target);
+        addressBook.removePerson(target);
+        for (Person linkedPerson : linkedPersons) {
+            refresh(linkedPerson);
+            if (linkedPerson instanceof Parent) {
+                dirtyParents.add(addressBook.getId(linkedPerson));
             }
-            updatedPersons.add(p);
         }
-
-        addressBook.setPersons(updatedPersons);
+        recalculateDirtyParentAggregates();
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        recalculateParentAggregates();
+        markAffectedParentsDirty(person);
+        recalculateDirtyParentAggregates();
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -147,7 +178,143 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
-        recalculateParentAggregates();
+        markAffectedParentsDirty(editedPerson);
+        recalculateDirtyParentAggregates();
+    }
+
+    @Override
+    public Person updatePerson(int id, PersonPatch patch) {
+        requireNonNull(patch);
+        Person target = addressBook.getPersonById(id).orElseThrow(PersonNotFoundException::new);
+        Person updatedPerson = patch.applyTo(target);
+        if (updatedPerson == target) {
+            return target;
+        }
+
+        addressBook.setPerson(target, updatedPerson);
+        if (patch.changesAnyOf(PersonField.COST, PersonField.PAYMENT_STATUS)) {
+            markAffectedParentsDirty(updatedPerson);
+            recalculateDirtyParentAggregates();
+        }
+        return updatedPerson;
+    }
+
+    //=========== Links ======================================================================================
+
+    @Override
+    public boolean hasLink(Student student, Parent parent) {
+        requireAllNonNull(student, parent);
+        return addressBook.hasLink(student, parent);
+    }
+
+    @Override
+    public void addLink(Student student, Parent parent) {
+        requireAllNonNull(student, parent);
+        addressBook.addLink(student, parent);
+        onLinkChanged(student, parent);
+    }
+
+    @Override
+    public void removeLink(Student student, Parent parent) {
+        requireAllNonNull(student, parent);
+        addressBook.removeLink(student, parent);
+        onLinkChanged(student, parent);
+    }
+
+    @Override
+    public List<Parent> getParentsOf(Student student) {
+        requireNonNull(student);
+        return addressBook.getParentsOf(student);
+    }
+
+    @Override
+    public List<Student> getChildrenOf(Parent parent) {
+        requireNonNull(parent);
+        return addressBook.getChildrenOf(parent);
+    }
+
+    private void onLinkChanged(Student student, Parent parent) {
+        refresh(student);
+        refresh(parent);
+        dirtyParents.add(addressBook.getId(parent));
+        recalculateDirtyParentAggregates();
+    }
+
+    private List<Person> getLinkedPersons(Person person) {
+        if (person instanceof Student student) {
+            return new ArrayList<>(addressBook.getParentsOf(student));
+        } else if (person instanceof Parent parent) {
+            return new ArrayList<>(addressBook.getChildrenOf(parent));
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Replaces the stored person with the same identity as {@code person} with itself,
+     * so that views of the person list observe a change to its links.
+     */
+    private void refresh(Person person) {
+        addressBook.findPerson(person.getName())
+                .ifPresent(latest -> addressBook.setPerson(latest, latest));
+    }
+
+    //=========== Batch =====================================================================================
+
+    @Override
+    public <E extends Exception> void batch(Batch<E> changes) throws E {
+        requireNonNull(changes);
+        if (isInBatch) {
+            changes.applyTo(this);
+            return;
+        }
+
+        isInBatch = true;
+        addressBook.beginBatch();
+        try {
+            changes.applyTo(this);
+            isInBatch = false;
+            recalculateDirtyParentAggregates();
+        } catch (Throwable e) {
+            isInBatch = false;
+            dirtyParents.clear();
+            pendingFilterUpdate = null;
+            addressBook.rollbackBatch();
+            throw e;
+        }
+
+        addressBook.endBatch();
+        if (pendingFilterUpdate != null) {
+            Runnable filterUpdate = pendingFilterUpdate;
+            pendingFilterUpdate = null;
+            filterUpdate.run();
+        }
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -158,15 +325,89 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return filteredPersons.asUnmodifiableObservableList();
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (isInBatch) {
+            pendingFilterUpdate = () -> updateFilteredPersonList(predicate);
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(PersonQuery query) {
+        requireNonNull(query);
+        if (isInBatch) {
+            pendingFilterUpdate = () -> updateFilteredPersonList(query);
+            return;
+        }
+        Optional<Collection<Person>> candidates = query.lookUp(indexes);
+        if (candidates.isPresent() && query.isRanked()) {
+            filteredPersons.setPredicate(query.getPredicate(), candidates.get(), rankingOrder(candidates.get()));
+        } else if (candidates.isPresent()) {
+            filteredPersons.setPredicate(query.getPredicate(), candidates.get());
+        } else {
+            filteredPersons.setPredicate(query.getPredicate());
+        }
+    }
+
+    @Override
+    public void updateFilteredPersonList(PersonQuery query, PersonOrder order) {
+        requireNonNull(query);
+        requireNonNull(order);
+        if (isInBatch) {
+            pendingFilterUpdate = () -> updateFilteredPersonList(query, order);
+            return;
+        }
+        Optional<Collection<Person>> candidates = query.lookUp(indexes);
+        if (candidates.isPresent()) {
+            filteredPersons.setPredicate(query.getPredicate(), candidates.get(), order::keyOf);
+        } else {
+            filteredPersons.setPredicate(query.getPredicate(), order::keyOf);
+        }
+    }
+
+    /**
+     * Returns the sort keys of the order of {@code ranking}, which keep the rank of a person when they are edited but
+     * not renamed, and put persons not in it last.
+     */
+    private static Function<Person, SortKey> rankingOrder(Collection<Person> ranking) {
+        Map<Name, Integer> ranks = new HashMap<>();
+        for (Person person : ranking) {
+            ranks.put(person.getName(), ranks.size());
+        }
+        return person -> SortKey.of(ranks.getOrDefault(person.getName(), Integer.MAX_VALUE), person);
+    }
+
+    @Override
+    public List<Person> findPersons(PersonQuery query) {
+        requireNonNull(query);
+        Collection<Person> candidates = query.lookUp(indexes).orElse(addressBook.getPersonList());
+        List<Person> found = new ArrayList<>();
+        for (Person person : candidates) {
+            if (query.getPredicate().test(person)) {
+                found.add(person);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<String> completeName(String prefix, int limit) {
+        requireNonNull(prefix);
+        return indexes.completeName(prefix, limit);
+    }
+
+    @Override
+    public List<String> completeTag(String prefix, int limit) {
+        requireNonNull(prefix);
+        return indexes.completeTag(prefix, limit);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -181,117 +422,86 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList());
     }
 
-    private void recalculateParentAggregates() {
-        if (isRecalculatingParents) {
-            return;
-        }
-
-        isRecalculatingParents = true;
-        try {
-            Map<Parent, ParentUpdateInfo> parentUpdates = new LinkedHashMap<>();
-            List<Person> personsSnapshot = new ArrayList<>(addressBook.getPersonList());
-
-            for (Person person : personsSnapshot) {
-                if (!(person instanceof Parent)) {
-                    continue;
-                }
-
-                Parent parent = (Parent) person;
-                List<Student> resolvedChildren = resolveChildren(parent);
-                Cost aggregatedCost = aggregateChildCost(resolvedChildren);
-                PaymentStatus aggregatedStatus = aggregateChildPaymentStatus(resolvedChildren);
-
-                boolean costChanged = !costsEqual(parent.getCost(), aggregatedCost);
-                boolean statusChanged = parent.getPaymentStatus().isPaid() != aggregatedStatus.isPaid();
-
-                if (!costChanged && !statusChanged) {
-                    continue;
-                }
-
-                Parent updatedParent = new Parent(parent.getName(), parent.getPhone(), parent.getEmail(),
-                        parent.getAddress(), parent.getNote(), aggregatedCost, aggregatedStatus, parent.getTags());
-                for (Student child : resolvedChildren) {
-                    updatedParent.addChild(child);
-                }
-                parentUpdates.put(parent, new ParentUpdateInfo(updatedParent, resolvedChildren));
-            }
-
-            if (parentUpdates.isEmpty()) {
-                return;
+    /**
+     * Marks the parents whose aggregates may be affected by a change to {@code person} for recalculation.
+     * A change to a student affects its linked parents; a change to a parent affects only that parent.
+     */
+    private void markAffectedParentsDirty(Person person) {
+        if (person instanceof Student student) {
+            for (Parent parent : addressBook.getParentsOf(student)) {
+                dirtyParents.add(addressBook.getId(parent));
             }
+        } else if (person instanceof Parent) {
+            dirtyParents.add(addressBook.getId(person));
+        }
+    }
 
-            for (Map.Entry<Parent, ParentUpdateInfo> entry : parentUpdates.entrySet()) {
-                Parent oldParent = entry.getKey();
-                ParentUpdateInfo updateInfo = entry.getValue();
-
-                for (Student child : updateInfo.resolvedChildren) {
-                    replaceParentReference(child, oldParent, updateInfo.updatedParent);
-                }
-
-                addressBook.setPerson(oldParent, updateInfo.updatedParent);
+    private void markAllParentsDirty() {
+        for (Person person : addressBook.getPersonList()) {
+            if (person instanceof Parent) {
+                dirtyParents.add(addressBook.getId(person));
             }
-        } finally {
-            isRecalculatingParents = false;
         }
     }
 
-    private List<Student> resolveChildren(Parent parent) {
-        List<Student> resolvedChildren = new ArrayList<>();
+    /**
+     * Recalculates the cost total and payment status of every dirty parent from its linked children,
+     * replacing only the parents whose aggregates changed.
+     * The work done is proportional to the number of links of the dirty parents, not the size of the address book.
+     * Within a batch, this is deferred to the end of the batch, so that each dirty parent is recalculated once.
+     */
+    private void recalculateDirtyParentAggregates() {
+        if (isInBatch) {
+            return;
+        }
+        List<Integer> parentsToUpdate = new ArrayList<>(dirtyParents);
+        dirtyParents.clear();
 
-        for (Student child : parent.getChildren()) {
-            Student latestChild = resolveLatestChild(child);
-            if (latestChild == null) {
+        for (int parentId : parentsToUpdate) {
+            Optional<Person> latest = addressBook.getPersonById(parentId);
+            if (latest.isEmpty() || !(latest.get() instanceof Parent)) {
                 continue;
             }
-            if (resolvedChildren.stream().noneMatch(existing -> existing.isSamePerson(latestChild))) {
-                resolvedChildren.add(latestChild);
-            }
-        }
-        return resolvedChildren;
-    }
 
-    private Student resolveLatestChild(Student child) {
-        for (Person person : addressBook.getPersonList()) {
-            if (person instanceof Student) {
-                Student student = (Student) person;
-                if (student.isSamePerson(child)) {
-                    return student;
-                }
+            Parent parent = (Parent) latest.get();
+            List<Student> resolvedChildren = addressBook.getChildrenOf(parent);
+            Cost aggregatedCost = aggregateChildCost(resolvedChildren);
+            PaymentStatus aggregatedStatus = aggregateChildPaymentStatus(resolvedChildren);
+
+            boolean costChanged = !costsEqual(parent.getCost(), aggregatedCost);
+            boolean statusChanged = parent.getPaymentStatus().isPaid() != aggregatedStatus.isPaid();
+            if (!costChanged && !statusChanged) {
+                continue;
             }
+
+            Parent updatedParent = new Parent(parent.getName(), parent.getPhone(), parent.getEmail(),
+                    parent.getAddress(), parent.getNote(), aggregatedCost, aggregatedStatus, parent.getTags());
+            addressBook.setPerson(parent, updatedParent);
         }
-        return null;
     }
 
     private Cost aggregateChildCost(List<Student> children) {
-        if (children.isEmpty()) {
-            return new Cost("0");
-        }
-
-        BigDecimal total = BigDecimal.ZERO;
+        long totalCents = 0;
         for (Student child : children) {
             Cost childCost = child.getCost();
-            if (childCost == null) {
-                continue;
+            if (childCost != null) {
+                totalCents += childCost.getCents();
             }
-            total = total.add(new BigDecimal(childCost.value));
         }
-        String totalString = total.compareTo(BigDecimal.ZERO) == 0
-                ? "0"
-                : total.stripTrailingZeros().toPlainString();
-        return new Cost(totalString);
+        return Cost.fromCents(totalCents);
     }
 
     private PaymentStatus aggregateChildPaymentStatus(List<Student> children) {
         if (children.isEmpty()) {
-            return new PaymentStatus(false);
+            return PaymentStatus.UNPAID;
         }
 
         boolean allPaid = children.stream()
                 .allMatch(child -> child.getPaymentStatus() != null && child.getPaymentStatus().isPaid());
-        return new PaymentStatus(allPaid);
+        return PaymentStatus.of(allPaid);
     }
 
     private boolean costsEqual(Cost existingCost, Cost aggregatedCost) {
@@ -300,29 +510,4 @@ public class ModelManager implements Model {
         }
         return aggregatedCost != null && existingCost.equals(aggregatedCost);
     }
-
-    private void replaceParentReference(Student child, Parent oldParent, Parent newParent) {
-        List<Parent> parents = child.getParents();
-        parents.removeIf(parent -> parent.isSamePerson(oldParent));
-
-        boolean alreadyLinked = parents.stream().anyMatch(parent -> parent.isSamePerson(newParent));
-        if (!alreadyLinked) {
-            try {
-                child.addParent(newParent);
-            } catch (DuplicatePersonException e) {
-                // ignore as parent already linked in another form
-            }
-        }
-        addressBook.setPerson(child, child);
-    }
-
-    private static class ParentUpdateInfo {
-        private final Parent updatedParent;
-        private final List<Student> resolvedChildren;
-
-        private ParentUpdateInfo(Parent updatedParent, List<Student> resolvedChildren) {
-            this.updatedParent = updatedParent;
-            this.resolvedChildren = resolvedChildren;
-        }
-    }
 }
@@ -0,0 +1,271 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of a source list that satisfy a predicate, in the order they appear in the source list or in the
+ * order of their sort keys.
+ * Unlike a {@code FilteredList}, a new predicate can be applied from a collection of candidate persons,
+ * such as the result of a secondary index lookup, so that it costs time proportional to the number of candidates
+ * rather than the size of the source list.
+ * Changes to the source list are applied by testing only the persons that changed.
+ * A person's place in the order of the sort keys is found by binary search (O(log n) comparisons), then the person
+ * is inserted in O(n).
+ * The key of a person is computed once when they are shown and once when they are removed, and the search compares
+ * only the keys.
+ */
+public class PersonListView {
+
+    private final ObservableList<Person> source;
+    private final ToIntFunction<Person> positionInSource;
+    private final ObservableList<Person> shownPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableShownPersons =
+            FXCollections.unmodifiableObservableList(shownPersons);
+    /** The positions in {@code source} of the shown persons, in ascending order, if they are in source order. */
+    private final List<Integer> sourcePositions = new ArrayList<>();
+    /** The sort keys of the shown persons, in ascending order, if they are in the order of their sort keys. */
+    private final List<SortKey> shownKeys = new ArrayList<>();
+    private Predicate<? super Person> predicate = unused -> true;
+    /** Returns the sort key of a person, or null if the shown persons are in source order. */
+    private Function<? super Person, SortKey> sortKey;
+
+    /**
+     * Creates a view showing every person in {@code source}.
+     *
+     * @param positionInSource returns the position in {@code source} of a person in {@code source}
+     */
+    public PersonListView(ObservableList<Person> source, ToIntFunction<Person> positionInSource) {
+        requireNonNull(source);
+        requireNonNull(positionInSource);
+        this.source = source;
+        this.positionInSource = positionInSource;
+        source.addListener(this::onSourceChanged);
+        setPredicate(predicate);
+    }
+
+    /**
+     * Returns the shown persons as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiableShownPersons;
+    }
+
+    /**
+     * Shows the persons in the source list that satisfy {@code predicate}, testing every person.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.sortKey = null;
+
+        List<Integer> positions = new ArrayList<>();
+        List<Person> persons = new ArrayList<>();
+        int position = 0;
+        for (Person person : source) {
+            if (predicate.test(person)) {
+                positions.add(position);
+                persons.add(person);
+            }
+            position++;
+        }
+        show(positions, persons);
+    }
+
+    /**
+     * Shows the persons in the source list that satisfy {@code predicate}, testing only {@code candidates}.
+     * {@code candidates} must be persons in the source list and include every person that satisfies
+     * {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super Person> predicate, Collection<Person> candidates) {
+        requireNonNull(predicate);
+        requireNonNull(candidates);
+        this.predicate = predicate;
+        this.sortKey = null;
+
+        List<Integer> positions = new ArrayList<>(candidates.size());
+        for (Person candidate : candidates) {
+            if (predicate.test(candidate)) {
+                positions.add(positionInSource.applyAsInt(candidate));
+            }
+        }
+        Collections.sort(positions);
+        show(positions);
+    }
+
+    /**
+     * Shows the persons in the source list that satisfy {@code predicate}, testing only {@code candidates},
+     * in the order of the keys {@code sortKey} gives them.
+     * {@code candidates} must be persons in the source list and include every person that satisfies
+     * {@code predicate}. The persons stay in this order as the source list changes: the place of a changed person
+     * is found by binary search (O(log n) comparisons), then the person is inserted in O(n).
+     */
+    public void setPredicate(Predicate<? super Person> predicate, Collection<Person> candidates,
+                             Function<? super Person, SortKey> sortKey) {
+        requireNonNull(predicate);
+        requireNonNull(candidates);
+        requireNonNull(sortKey);
+        this.predicate = predicate;
+        this.sortKey = sortKey;
+
+        List<Person> persons = new ArrayList<>(candidates.size());
+        List<SortKey> keys = new ArrayList<>(candidates.size());
+        for (Person candidate : candidates) {
+            if (predicate.test(candidate)) {
+                persons.add(candidate);
+                keys.add(sortKey.apply(candidate));
+            }
+        }
+        showSorted(persons, keys);
+    }
+
+    /**
+     * Shows the persons in the source list that satisfy {@code predicate}, testing every person, in the order of the
+     * keys {@code sortKey} gives them. The persons stay in this order as the source list changes.
+     */
+    public void setPredicate(Predicate<? super Person> predicate, Function<? super Person, SortKey> sortKey) {
+        setPredicate(predicate, source, sortKey);
+    }
+
+    /**
+     * Shows {@code persons} in the ascending order of {@code keys}, the key of the person at the same position.
+     */
+    private void showSorted(List<Person> persons, List<SortKey> keys) {
+        Integer[] order = new Integer[persons.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (first, second) -> keys.get(first).compareTo(keys.get(second)));
+
+        List<Person> sortedPersons = new ArrayList<>(order.length);
+        sourcePositions.clear();
+        shownKeys.clear();
+        for (int i : order) {
+            sortedPersons.add(persons.get(i));
+            shownKeys.add(keys.get(i));
+        }
+        shownPersons.setAll(sortedPersons);
+    }
+
+    private void show(List<Integer> positions) {
+        List<Person> persons = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            persons.add(source.get(position));
+        }
+        show(positions, persons);
+    }
+
+    private void show(List<Integer> positions, List<Person> persons) {
+        sourcePositions.clear();
+        sourcePositions.addAll(positions);
+        shownKeys.clear();
+        shownPersons.setAll(persons);
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (sortKey != null) {
+                applyOrderedChange(change.getRemoved(), change.getAddedSubList());
+            } else if (change.wasPermutated()) {
+                setPredicate(predicate);
+            } else if (change.getRemovedSize() == change.getAddedSize()) {
+                applyReplacement(change.getFrom(), change.getTo());
+            } else {
+                applyRemovalAndAddition(change.getFrom(), change.getRemovedSize(), change.getAddedSize());
+            }
+        }
+    }
+
+    /**
+     * Removes the shown persons among {@code removed} and shows the persons among {@code added} that satisfy the
+     * predicate, each at the place of its sort key among the keys of the shown persons.
+     */
+    private void applyOrderedChange(List<? extends Person> removed, List<? extends Person> added) {
+        for (Person person : removed) {
+            int index = Collections.binarySearch(shownKeys, sortKey.apply(person));
+            if (index >= 0) {
+                shownKeys.remove(index);
+                shownPersons.remove(index);
+            }
+        }
+        for (Person person : added) {
+            if (predicate.test(person)) {
+                SortKey key = sortKey.apply(person);
+                int index = Collections.binarySearch(shownKeys, key);
+                int insertionPoint = index >= 0 ? index : -index - 1;
+                shownKeys.add(insertionPoint, key);
+                shownPersons.add(insertionPoint, person);
+            }
+        }
+    }
+
+    /**
+     * Re-tests the persons at positions {@code from} (inclusive) to {@code to} (exclusive) of the source list,
+     * each of which replaced the person previously at the same position.
+     */
+    private void applyReplacement(int from, int to) {
+        for (int position = from; position < to; position++) {
+            Person person = source.get(position);
+            int index = Collections.binarySearch(sourcePositions, position);
+            boolean isShown = index >= 0;
+            boolean shouldBeShown = predicate.test(person);
+            if (isShown && shouldBeShown) {
+                shownPersons.set(index, person);
+            } else if (isShown) {
+                sourcePositions.remove(index);
+                shownPersons.remove(index);
+            } else if (shouldBeShown) {
+                int insertionPoint = -index - 1;
+                sourcePositions.add(insertionPoint, position);
+                shownPersons.add(insertionPoint, person);
+            }
+        }
+    }
+
+    /**
+     * Applies the removal of {@code removedSize} persons from position {@code from} of the source list,
+     * followed by the addition of {@code addedSize} persons at the same position.
+     */
+    private void applyRemovalAndAddition(int from, int removedSize, int addedSize) {
+        int first = lowerBound(from);
+        int end = lowerBound(from + removedSize);
+        sourcePositions.subList(first, end).clear();
+        shownPersons.remove(first, end);
+
+        int shift = addedSize - removedSize;
+        for (int i = first; i < sourcePositions.size(); i++) {
+            sourcePositions.set(i, sourcePositions.get(i) + shift);
+        }
+
+        int insertionPoint = first;
+        for (int position = from; position < from + addedSize; position++) {
+            Person person = source.get(position);
+            if (predicate.test(person)) {
+                sourcePositions.add(insertionPoint, position);
+                shownPersons.add(insertionPoint, person);
+                insertionPoint++;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first shown person whose source position is at least {@code position}.
+     */
+    private int lowerBound(int position) {
+        int index = Collections.binarySearch(sourcePositions, position);
+        return index >= 0 ? index : -index - 1;
+    }
+}
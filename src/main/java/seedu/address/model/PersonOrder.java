@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Collator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.person.LessonSlot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Student;
+
+/**
+ * An order to show persons in, which places each person by a {@code SortKey} computed once from their fields.
+ */
+public enum PersonOrder {
+    /** By the earliest lesson, as {@link Schedule#compareTo} orders schedules, with persons without lessons last. */
+    SCHEDULE("schedule", PersonOrder::scheduleKeyOf),
+    /** By name, alphabetically in the user's language, ignoring case before telling names apart by it. */
+    NAME("name", PersonOrder::nameKeyOf),
+    /** By cost per lesson, from the cheapest, with persons without a cost last. */
+    COST("cost", person -> SortKey.of(person.getCost() == null ? Long.MAX_VALUE : person.getCost().getCents(),
+            person)),
+    /** By payment status, with unpaid persons first and persons without a payment status last. */
+    PAYMENT("payment", PersonOrder::paymentKeyOf);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    /** Added to the key of a weekly lesson, which comes after every one-off lesson. */
+    private static final long WEEKLY_OFFSET = 1L << 62;
+    /** Compares names in the user's language. Its collation keys are computed under a lock, so it can be shared. */
+    private static final Collator NAME_COLLATOR = Collator.getInstance(Locale.getDefault());
+
+    private final String keyword;
+    private final Function<Person, SortKey> sortKey;
+
+    PersonOrder(String keyword, Function<Person, SortKey> sortKey) {
+        this.keyword = keyword;
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Returns the order named {@code keyword}, ignoring case, if any.
+     */
+    public static Optional<PersonOrder> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (PersonOrder order : values()) {
+            if (order.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(order);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the key placing {@code person} in this order.
+     */
+    public SortKey keyOf(Person person) {
+        requireNonNull(person);
+        return sortKey.apply(person);
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+
+    /**
+     * Returns the key of the earliest lesson of {@code person}: its date or weekday, then its start and end minutes,
+     * packed into one {@code long} that orders lessons as {@link LessonSlot#compareTo} does.
+     */
+    private static SortKey scheduleKeyOf(Person person) {
+        Schedule schedule = person instanceof Student ? ((Student) person).getSchedule() : null;
+        if (schedule == null || schedule.isEmpty()) {
+            return SortKey.of(Long.MAX_VALUE, person);
+        }
+        List<LessonSlot> slots = schedule.getSlots();
+        LessonSlot first = slots.get(0);
+        long day = first.isWeekly() ? first.getDayOfWeek().getValue() : first.getDate().toEpochDay();
+        long minutes = (day * MINUTES_PER_DAY + first.getStartMinute()) * MINUTES_PER_DAY + first.getEndMinute();
+        return SortKey.of(first.isWeekly() ? WEEKLY_OFFSET + minutes : minutes, person);
+    }
+
+    private static SortKey nameKeyOf(Person person) {
+        return SortKey.of(NAME_COLLATOR.getCollationKey(person.getName().fullName), person);
+    }
+
+    private static SortKey paymentKeyOf(Person person) {
+        if (person.getPaymentStatus() == null) {
+            return SortKey.of(2, person);
+        }
+        return SortKey.of(person.getPaymentStatus().isPaid() ? 1 : 0, person);
+    }
+}
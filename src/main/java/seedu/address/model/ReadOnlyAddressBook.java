@@ -1,7 +1,12 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +19,25 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the ID of the person with the same identity as {@code person}.
+     * The person must exist in the address book.
+     */
+    int getId(Person person);
+
+    /**
+     * Returns the person with the given {@code id}, if any.
+     */
+    Optional<Person> getPersonById(int id);
+
+    /**
+     * Returns the parents currently linked to {@code student}.
+     */
+    List<Parent> getParentsOf(Student student);
+
+    /**
+     * Returns the children currently linked to {@code parent}.
+     */
+    List<Student> getChildrenOf(Parent parent);
+
 }
@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The place of a person in an order, computed once so that comparing two persons compares only a {@code long} and,
+ * for an order by text, two precomputed collation keys.
+ * Persons whose keys are otherwise equal are ordered by their names, which are unique, so no two persons in an
+ * address book have equal keys.
+ */
+public final class SortKey implements Comparable<SortKey> {
+
+    private final long value;
+    private final CollationKey text;
+    private final String name;
+
+    private SortKey(long value, CollationKey text, String name) {
+        this.value = value;
+        this.text = text;
+        this.name = name;
+    }
+
+    /**
+     * Returns the key placing {@code person} by {@code value}, from the smallest to the largest.
+     */
+    public static SortKey of(long value, Person person) {
+        requireNonNull(person);
+        return new SortKey(value, null, person.getName().fullName);
+    }
+
+    /**
+     * Returns the key placing {@code person} by {@code text}, in the order of its collator.
+     */
+    public static SortKey of(CollationKey text, Person person) {
+        requireNonNull(text);
+        requireNonNull(person);
+        return new SortKey(0, text, person.getName().fullName);
+    }
+
+    @Override
+    public int compareTo(SortKey other) {
+        int valueCompare = Long.compare(value, other.value);
+        if (valueCompare != 0) {
+            return valueCompare;
+        }
+        if (text != null && other.text != null) {
+            int textCompare = text.compareTo(other.text);
+            if (textCompare != 0) {
+                return textCompare;
+            }
+        }
+        return name.compareTo(other.name);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortKey)) {
+            return false;
+        }
+
+        return compareTo((SortKey) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value) * 31 + name.hashCode();
+    }
+}
@@ -0,0 +1,429 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+/**
+ * An {@code AddressBook} that keeps a history of its changes, so that they can be undone and redone.
+ * Every change made since the last {@link #commit()} is recorded as a delta, such as a person added, edited or
+ * removed or a link added or removed, together with what is needed to reverse it. Committing makes these deltas
+ * one step of the undo history.
+ *
+ * Undoing a step reverses its deltas in the opposite order, and redoing it applies them again, so both take time
+ * proportional to the number of changes in the step rather than the number of persons. Replacing the whole address
+ * book is recorded as one delta that holds snapshots of the data before and after, which share their structure with
+ * the address book.
+ *
+ * The memory used by the history is bounded by a limit on the number of deltas it holds: once the limit is exceeded,
+ * the oldest steps are forgotten, and a step with more deltas than the limit cannot be undone.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private long pendingSize;
+    private int historyLimit;
+    private long historySize;
+    private boolean isRecording = true;
+    private int pendingChangesBeforeBatch;
+    private long pendingSizeBeforeBatch;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the data in {@code initialState} and an empty history
+     * of at most {@code historyLimit} changes.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit) {
+        requireNonNull(initialState);
+        setHistoryLimit(historyLimit);
+        runWithoutRecording(() -> super.resetData(initialState));
+    }
+
+    /**
+     * Sets the maximum number of changes kept in the history, forgetting the oldest steps if it now holds more.
+     */
+    public void setHistoryLimit(int historyLimit) {
+        checkArgument(historyLimit >= 0, "The history limit must not be negative");
+        this.historyLimit = historyLimit;
+        trimHistory();
+    }
+
+    /**
+     * Saves the changes made since the last commit as one step of the undo history, and forgets the steps that
+     * were undone. Does nothing if there are no such changes.
+     */
+    public void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        Step step = new Step(pendingChanges, pendingSize);
+        pendingChanges = new ArrayList<>();
+        pendingSize = 0;
+        redoSteps.forEach(undone -> historySize -= undone.size);
+        redoSteps.clear();
+        undoSteps.push(step);
+        historySize += step.size;
+        trimHistory();
+    }
+
+    /**
+     * Forgets every recorded change, including those made since the last commit.
+     */
+    public void clearHistory() {
+        undoSteps.clear();
+        redoSteps.clear();
+        pendingChanges = new ArrayList<>();
+        pendingSize = 0;
+        historySize = 0;
+    }
+
+    /**
+     * Returns true if there is a step to undo, counting the changes made since the last commit as one.
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty() || (pendingSize > 0 && pendingSize <= historyLimit);
+    }
+
+    /**
+     * Returns true if there is an undone step to redo, which is not the case once changes have been made since.
+     */
+    public boolean canRedo() {
+        return pendingChanges.isEmpty() && !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverses the most recent step of the undo history.
+     * Changes made since the last commit are committed first, so that they are the step reversed.
+     *
+     * @throws IllegalStateException if there is no step to undo
+     */
+    public void undo() {
+        commit();
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no step to undo");
+        }
+        Step step = undoSteps.pop();
+        runWithoutRecording(() -> {
+            for (int i = step.changes.size() - 1; i >= 0; i--) {
+                step.changes.get(i).undo(this);
+            }
+        });
+        redoSteps.push(step);
+    }
+
+    /**
+     * Applies again the most recently undone step.
+     *
+     * @throws IllegalStateException if there is no step to redo
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no step to redo");
+        }
+        Step step = redoSteps.pop();
+        runWithoutRecording(() -> step.changes.forEach(change -> change.redo(this)));
+        undoSteps.push(step);
+    }
+
+    //// batch operations
+
+    @Override
+    public void beginBatch() {
+        super.beginBatch();
+        pendingChangesBeforeBatch = pendingChanges.size();
+        pendingSizeBeforeBatch = pendingSize;
+    }
+
+    /**
+     * Ends the batch in progress by restoring the persons and links from before it, and forgets the changes
+     * recorded during the batch.
+     */
+    @Override
+    public void rollbackBatch() {
+        super.rollbackBatch();
+        pendingChanges.subList(pendingChangesBeforeBatch, pendingChanges.size()).clear();
+        pendingSize = pendingSizeBeforeBatch;
+    }
+
+    //// recorded operations
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        replaceAll(() -> super.setPersons(persons));
+    }
+
+    @Override
+    public void setPersons(List<Person> persons, List<Integer> ids) {
+        replaceAll(() -> super.setPersons(persons, ids));
+    }
+
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        replaceAll(() -> super.resetData(newData));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        record(new PersonAdded(p, getId(p)));
+    }
+
+    @Override
+    public void addPerson(Person p, int id) {
+        super.addPerson(p, id);
+        record(new PersonAdded(p, id));
+    }
+
+    @Override
+    public void addPerson(Person p, int id, int index) {
+        super.addPerson(p, id, index);
+        record(new PersonAdded(p, id));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        super.setPerson(target, editedPerson);
+        record(new PersonEdited(target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int id = getId(key);
+        int index = indexOf(key);
+        List<Integer> linkedIds = new ArrayList<>();
+        if (key instanceof Student student) {
+            getParentsOf(student).forEach(parent -> linkedIds.add(getId(parent)));
+        } else if (key instanceof Parent parent) {
+            getChildrenOf(parent).forEach(child -> linkedIds.add(getId(child)));
+        }
+
+        super.removePerson(key);
+        record(new PersonRemoved(key, id, index, linkedIds));
+    }
+
+    @Override
+    public void addLink(Student student, Parent parent) {
+        super.addLink(student, parent);
+        record(new LinkChanged(getId(student), getId(parent), true));
+    }
+
+    @Override
+    public void removeLink(Student student, Parent parent) {
+        super.removeLink(student, parent);
+        record(new LinkChanged(getId(student), getId(parent), false));
+    }
+
+    private void replaceAll(Runnable replacement) {
+        ReadOnlyAddressBook before = snapshot();
+        runWithoutRecording(replacement);
+        record(new DataReplaced(before, snapshot()));
+    }
+
+    private void record(Change change) {
+        if (isRecording) {
+            pendingChanges.add(change);
+            pendingSize += change.size();
+        }
+    }
+
+    private void runWithoutRecording(Runnable action) {
+        boolean wasRecording = isRecording;
+        isRecording = false;
+        try {
+            action.run();
+        } finally {
+            isRecording = wasRecording;
+        }
+    }
+
+    private void trimHistory() {
+        while (historySize > historyLimit && !redoSteps.isEmpty()) {
+            historySize -= redoSteps.removeLast().size;
+        }
+        while (historySize > historyLimit && !undoSteps.isEmpty()) {
+            historySize -= undoSteps.removeLast().size;
+        }
+    }
+
+    private <T extends Person> T getPerson(int id, Class<T> type) {
+        return type.cast(getPersonById(id).orElseThrow());
+    }
+
+    /**
+     * The changes made between two commits.
+     */
+    private static class Step {
+        private final List<Change> changes;
+        private final long size;
+
+        Step(List<Change> changes, long size) {
+            this.changes = changes;
+            this.size = size;
+        }
+    }
+
+    /**
+     * A recorded change to the address book that can be reversed and applied again.
+     */
+    private interface Change {
+        void undo(VersionedAddressBook addressBook);
+
+        void redo(VersionedAddressBook addressBook);
+
+        /**
+         * Returns the number of changes this change counts as towards the history limit.
+         */
+        default long size() {
+            return 1;
+        }
+    }
+
+    private static class PersonAdded implements Change {
+        private final Person person;
+        private final int id;
+
+        PersonAdded(Person person, int id) {
+            this.person = person;
+            this.id = id;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.addPerson(person, id);
+        }
+    }
+
+    private static class PersonEdited implements Change {
+        private final Person before;
+        private final Person after;
+
+        PersonEdited(Person before, Person after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.setPerson(after, before);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.setPerson(before, after);
+        }
+    }
+
+    /**
+     * The removal of a person, with their position in the person list and the IDs of the persons they were linked to.
+     */
+    private static class PersonRemoved implements Change {
+        private final Person person;
+        private final int id;
+        private final int index;
+        private final List<Integer> linkedIds;
+
+        PersonRemoved(Person person, int id, int index, List<Integer> linkedIds) {
+            this.person = person;
+            this.id = id;
+            this.index = index;
+            this.linkedIds = linkedIds;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.addPerson(person, id, index);
+            for (int linkedId : linkedIds) {
+                if (person instanceof Student student) {
+                    addressBook.addLink(student, addressBook.getPerson(linkedId, Parent.class));
+                } else {
+                    addressBook.addLink(addressBook.getPerson(linkedId, Student.class), (Parent) person);
+                }
+            }
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public long size() {
+            return 1 + linkedIds.size();
+        }
+    }
+
+    /**
+     * The addition or removal of the link between the student and the parent with the given IDs.
+     */
+    private static class LinkChanged implements Change {
+        private final int studentId;
+        private final int parentId;
+        private final boolean isAdded;
+
+        LinkChanged(int studentId, int parentId, boolean isAdded) {
+            this.studentId = studentId;
+            this.parentId = parentId;
+            this.isAdded = isAdded;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            setLinked(addressBook, !isAdded);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            setLinked(addressBook, isAdded);
+        }
+
+        private void setLinked(VersionedAddressBook addressBook, boolean isLinked) {
+            Student student = addressBook.getPerson(studentId, Student.class);
+            Parent parent = addressBook.getPerson(parentId, Parent.class);
+            if (isLinked) {
+                addressBook.addLink(student, parent);
+            } else {
+                addressBook.removeLink(student, parent);
+            }
+        }
+    }
+
+    /**
+     * The replacement of all data, held as snapshots of the data before and after.
+     * The snapshots share their structure with the data, so it counts towards the history limit as a single change
+     * however many persons it replaces.
+     */
+    private static class DataReplaced implements Change {
+        private final ReadOnlyAddressBook before;
+        private final ReadOnlyAddressBook after;
+
+        DataReplaced(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.resetData(before);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.resetData(after);
+        }
+    }
+}
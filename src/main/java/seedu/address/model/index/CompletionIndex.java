@@ -0,0 +1,140 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.persistent.PersistentTrie;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A prefix index of the names and tags of a list of persons, which completes the start of a name or tag.
+ * A name is indexed from the start of each of its words, so that the start of a surname completes the full name.
+ * Names and tags are compared ignoring case.
+ *
+ * The index listens to the list and, on every add, replace and remove, re-indexes only the persons whose name or
+ * tags changed. It is kept in persistent tries and publishes each new version whole, so it can be read from any
+ * thread while the list changes.
+ */
+public class CompletionIndex {
+
+    private volatile PersistentTrie names = PersistentTrie.empty();
+    private volatile PersistentTrie tags = PersistentTrie.empty();
+
+    /**
+     * Creates an index of the names and tags of {@code persons} that is kept up to date as {@code persons} changes.
+     */
+    public CompletionIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(person -> {
+            addName(person.getName());
+            addTags(person.getTags());
+        });
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns at most {@code limit} full names with a word starting with {@code prefix}, ignoring case, in the order
+     * of the text from that word on. This may be called from any thread.
+     */
+    public List<String> completeName(String prefix, int limit) {
+        requireNonNull(prefix);
+        return names.complete(prefix.toLowerCase(Locale.ROOT), limit);
+    }
+
+    /**
+     * Returns at most {@code limit} tag names starting with {@code prefix}, ignoring case, in alphabetical order.
+     * This may be called from any thread.
+     */
+    public List<String> completeTag(String prefix, int limit) {
+        requireNonNull(prefix);
+        return tags.complete(prefix.toLowerCase(Locale.ROOT), limit);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                List<? extends Person> removed = change.getRemoved();
+                List<? extends Person> added = change.getAddedSubList();
+                for (int i = 0; i < removed.size(); i++) {
+                    replace(removed.get(i), added.get(i));
+                }
+            } else {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(person -> {
+                    addName(person.getName());
+                    addTags(person.getTags());
+                });
+            }
+        }
+    }
+
+    private void replace(Person before, Person after) {
+        if (before.getName() != after.getName()) {
+            removeName(before.getName());
+            addName(after.getName());
+        }
+        if (before.getTags() != after.getTags()) {
+            removeTags(before.getTags());
+            addTags(after.getTags());
+        }
+    }
+
+    private void remove(Person person) {
+        removeName(person.getName());
+        removeTags(person.getTags());
+    }
+
+    private void addName(Name name) {
+        String key = name.fullName.toLowerCase(Locale.ROOT);
+        PersistentTrie newNames = names;
+        for (int start : wordStartsOf(key)) {
+            newNames = newNames.with(key.substring(start), name.fullName);
+        }
+        names = newNames;
+    }
+
+    private void removeName(Name name) {
+        String key = name.fullName.toLowerCase(Locale.ROOT);
+        PersistentTrie newNames = names;
+        for (int start : wordStartsOf(key)) {
+            newNames = newNames.without(key.substring(start), name.fullName);
+        }
+        names = newNames;
+    }
+
+    private void addTags(Set<Tag> personTags) {
+        PersistentTrie newTags = tags;
+        for (Tag tag : personTags) {
+            newTags = newTags.with(tag.tagName.toLowerCase(Locale.ROOT), tag.tagName);
+        }
+        tags = newTags;
+    }
+
+    private void removeTags(Set<Tag> personTags) {
+        PersistentTrie newTags = tags;
+        for (Tag tag : personTags) {
+            newTags = newTags.without(tag.tagName.toLowerCase(Locale.ROOT), tag.tagName);
+        }
+        tags = newTags;
+    }
+
+    /**
+     * Returns the positions in {@code text} at which a word starts after the start of the text or a space.
+     */
+    private static int[] wordStartsOf(String text) {
+        return IntStream.range(0, text.length())
+                .filter(i -> text.charAt(i) != ' ' && (i == 0 || text.charAt(i - 1) == ' '))
+                .toArray();
+    }
+}
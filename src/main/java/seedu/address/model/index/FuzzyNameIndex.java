@@ -0,0 +1,199 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the distinct words in the names of a list of persons by their trigrams, which finds the words within
+ * a few edits of a keyword without comparing the keyword with every word.
+ * A word is padded with two marks at each end, so that it has as many trigrams as its length plus two, and each edit
+ * changes at most three of them. A word within {@code k} edits of a keyword therefore shares all but {@code 3k} of
+ * the keyword's trigrams, and only the words sharing that many are compared with the keyword.
+ *
+ * The index listens to the list and, on every add, replace and remove, re-indexes only the persons whose name changed.
+ */
+public class FuzzyNameIndex {
+
+    private static final char PADDING = '$';
+
+    /** The number of persons whose name has each word. */
+    private final Map<String, Integer> wordCounts = new HashMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Function<String, Set<Person>> personsWithWord;
+
+    /**
+     * Creates an index of the words in the names of {@code persons} that is kept up to date as {@code persons}
+     * changes.
+     *
+     * @param personsWithWord returns the persons in {@code persons} whose name has a given lowercase word
+     */
+    public FuzzyNameIndex(ObservableList<Person> persons, Function<String, Set<Person>> personsWithWord) {
+        requireNonNull(persons);
+        requireNonNull(personsWithWord);
+        this.personsWithWord = personsWithWord;
+        persons.forEach(person -> add(person.getName()));
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the words in the names that are at most {@code maxDistance} edits away from {@code keyword},
+     * which must be lowercase, each with its distance from {@code keyword}.
+     */
+    public Map<String, Integer> getWordsWithin(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        Set<String> keywordTrigrams = trigramsOf(keyword);
+        int minSharedTrigrams = keywordTrigrams.size() - 3 * maxDistance;
+        Collection<String> candidates;
+        if (minSharedTrigrams <= 0) {
+            candidates = wordCounts.keySet();
+        } else {
+            Map<String, Integer> sharedTrigrams = new HashMap<>();
+            for (String trigram : keywordTrigrams) {
+                for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                    sharedTrigrams.merge(word, 1, Integer::sum);
+                }
+            }
+            candidates = new ArrayList<>();
+            sharedTrigrams.forEach((word, count) -> {
+                if (count >= minSharedTrigrams) {
+                    candidates.add(word);
+                }
+            });
+        }
+
+        Map<String, Integer> words = new HashMap<>();
+        for (String word : candidates) {
+            int distance = StringUtil.editDistance(keyword, word, maxDistance);
+            if (distance <= maxDistance) {
+                words.put(word, distance);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the persons whose name has a word within {@code maxDistanceOf(keyword)} edits of at least one of
+     * {@code keywords}, which must be lowercase. Persons with similar words to more keywords come first, then those
+     * whose words are fewer edits away in total, then the rest in the order of their names.
+     */
+    public List<Person> search(List<String> keywords, ToIntFunction<String> maxDistanceOf) {
+        requireNonNull(keywords);
+        requireNonNull(maxDistanceOf);
+        Map<Person, int[]> distances = new HashMap<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            for (Map.Entry<String, Integer> word : getWordsWithin(keyword, maxDistanceOf.applyAsInt(keyword))
+                    .entrySet()) {
+                for (Person person : personsWithWord.apply(word.getKey())) {
+                    int[] personDistances = distances.computeIfAbsent(person, unused -> newDistances(keywords.size()));
+                    personDistances[i] = Math.min(personDistances[i], word.getValue());
+                }
+            }
+        }
+
+        Map<Person, Integer> matchedKeywords = new HashMap<>();
+        Map<Person, Integer> totalDistances = new HashMap<>();
+        distances.forEach((person, personDistances) -> {
+            int matched = 0;
+            int total = 0;
+            for (int distance : personDistances) {
+                if (distance != Integer.MAX_VALUE) {
+                    matched++;
+                    total += distance;
+                }
+            }
+            matchedKeywords.put(person, matched);
+            totalDistances.put(person, total);
+        });
+
+        List<Person> persons = new ArrayList<>(distances.keySet());
+        persons.sort(Comparator.<Person>comparingInt(matchedKeywords::get).reversed()
+                .thenComparingInt(totalDistances::get)
+                .thenComparing(person -> person.getName().fullName));
+        return persons;
+    }
+
+    private static int[] newDistances(int count) {
+        int[] distances = new int[count];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        return distances;
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                List<? extends Person> removed = change.getRemoved();
+                List<? extends Person> added = change.getAddedSubList();
+                for (int i = 0; i < removed.size(); i++) {
+                    if (removed.get(i).getName() != added.get(i).getName()) {
+                        remove(removed.get(i).getName());
+                        add(added.get(i).getName());
+                    }
+                }
+            } else {
+                change.getRemoved().forEach(person -> remove(person.getName()));
+                change.getAddedSubList().forEach(person -> add(person.getName()));
+            }
+        }
+    }
+
+    private void add(Name name) {
+        for (String word : name.getTokens()) {
+            if (wordCounts.merge(word, 1, Integer::sum) == 1) {
+                for (String trigram : trigramsOf(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+        }
+    }
+
+    private void remove(Name name) {
+        for (String word : name.getTokens()) {
+            int count = wordCounts.merge(word, -1, Integer::sum);
+            if (count > 0) {
+                continue;
+            }
+            wordCounts.remove(word);
+            for (String trigram : trigramsOf(word)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded with two marks at each end.
+     */
+    private static Set<String> trigramsOf(String word) {
+        String padded = "" + PADDING + PADDING + word + PADDING + PADDING;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.LessonSlot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Type;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A field of a {@code Person} that the model keeps a secondary index on.
+ * A person is indexed under every key the field yields for it; a person may have no key, one key or several keys.
+ *
+ * @param <K> the type of the keys of the field
+ */
+public final class IndexedField<K> {
+
+    public static final IndexedField<Boolean> PAYMENT_STATUS = new IndexedField<>("paymentStatus",
+            Person::getPaymentStatus, person ->
+            person.getPaymentStatus() == null ? List.of() : List.of(person.getPaymentStatus().isPaid()));
+
+    public static final IndexedField<Type> TYPE = new IndexedField<>("type", Person::getType, person ->
+            List.of(person.getType()));
+
+    public static final IndexedField<Boolean> HAS_SCHEDULE = new IndexedField<>("hasSchedule",
+            IndexedField::getSchedule, person ->
+            List.of(getSchedule(person) != null && !getSchedule(person).isEmpty()));
+
+    public static final IndexedField<DayOfWeek> DAY_OF_WEEK = new IndexedField<>("dayOfWeek",
+            IndexedField::getSchedule, person -> getSlotKeys(person, LessonSlot::getDayOfWeek));
+
+    public static final IndexedField<LocalDate> DATE = new IndexedField<>("date",
+            IndexedField::getSchedule, person -> getSlotKeys(person, LessonSlot::getDate));
+
+    public static final IndexedField<String> NAME_TOKEN = new IndexedField<>("nameToken", Person::getName, person ->
+            person.getName().getTokens());
+
+    public static final IndexedField<Tag> TAG = new IndexedField<>("tag", Person::getTags, Person::getTags);
+
+    private static final List<IndexedField<?>> VALUES =
+            List.of(PAYMENT_STATUS, TYPE, HAS_SCHEDULE, DAY_OF_WEEK, DATE, NAME_TOKEN, TAG);
+
+    private final String name;
+    /** Returns the value of the person field that the keys are derived from. */
+    private final Function<Person, Object> source;
+    private final Function<Person, Collection<K>> keyExtractor;
+
+    private IndexedField(String name, Function<Person, Object> source, Function<Person, Collection<K>> keyExtractor) {
+        this.name = name;
+        this.source = source;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Returns every indexed field.
+     */
+    public static List<IndexedField<?>> values() {
+        return VALUES;
+    }
+
+    /**
+     * Returns the keys {@code person} is indexed under for this field.
+     */
+    public Collection<K> keysOf(Person person) {
+        requireNonNull(person);
+        return keyExtractor.apply(person);
+    }
+
+    /**
+     * Returns true if {@code after} holds the very same object as {@code before} in the person field that the keys
+     * of this field are derived from, in which case both are indexed under the same keys.
+     * This is a reference comparison, so it costs O(1) and never compares the contents of the field.
+     */
+    public boolean isUnchangedBetween(Person before, Person after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        return source.apply(before) == source.apply(after);
+    }
+
+    private static Schedule getSchedule(Person person) {
+        return person instanceof Student ? ((Student) person).getSchedule() : null;
+    }
+
+    /**
+     * Returns the distinct non-null keys {@code slotKey} yields for the lesson slots of {@code person}.
+     */
+    private static <K> Collection<K> getSlotKeys(Person person, Function<LessonSlot, K> slotKey) {
+        Schedule schedule = getSchedule(person);
+        if (schedule == null) {
+            return List.of();
+        }
+        return schedule.getSlots().stream()
+                .map(slotKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A collection of values, each attached to a half-open interval {@code [start, end)} of integers,
+ * that finds the values whose intervals overlap a given interval in O(log n + k) expected time for k results.
+ * Implemented as a treap ordered by interval in which every node also records the largest end in its subtree,
+ * so that a query skips every subtree whose intervals all end before the query starts.
+ *
+ * @param <T> the type of the values
+ */
+public class IntervalTree<T> {
+
+    private static final String MESSAGE_INVALID_INTERVAL = "Interval end must be after its start";
+
+    private final Random priorities = new Random(0);
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Attaches {@code value} to the interval {@code [start, end)}.
+     * Has no effect if {@code value} is already attached to that interval.
+     */
+    public void add(int start, int end, T value) {
+        requireNonNull(value);
+        checkArgument(start < end, MESSAGE_INVALID_INTERVAL);
+        root = insert(root, start, end, value);
+    }
+
+    /**
+     * Detaches {@code value} from the interval {@code [start, end)}.
+     *
+     * @return true if {@code value} was attached to that interval
+     */
+    public boolean remove(int start, int end, T value) {
+        requireNonNull(value);
+        int sizeBefore = size;
+        root = delete(root, start, end, value);
+        return size < sizeBefore;
+    }
+
+    /**
+     * Attaches {@code newValue} in place of {@code oldValue} to the interval {@code [start, end)}, without
+     * restructuring the tree.
+     *
+     * @return true if {@code oldValue} was attached to that interval
+     */
+    public boolean replace(int start, int end, T oldValue, T newValue) {
+        requireNonNull(oldValue);
+        requireNonNull(newValue);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = compare(start, end, node);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else if (node.values.remove(oldValue)) {
+                if (!node.values.add(newValue)) {
+                    size--;
+                }
+                return true;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the values whose intervals overlap {@code [start, end)}, in ascending order of interval.
+     */
+    public List<T> getOverlapping(int start, int end) {
+        List<T> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of values in the tree, counting a value once for every interval it is attached to.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Node<T> insert(Node<T> node, int start, int end, T value) {
+        if (node == null) {
+            Node<T> created = new Node<>(start, end, priorities.nextInt());
+            created.values.add(value);
+            size++;
+            return created;
+        }
+
+        int comparison = compare(start, end, node);
+        if (comparison == 0) {
+            if (node.values.add(value)) {
+                size++;
+            }
+            return node;
+        } else if (comparison < 0) {
+            node.left = insert(node.left, start, end, value);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, start, end, value);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<T> delete(Node<T> node, int start, int end, T value) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = compare(start, end, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, end, value);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, end, value);
+        } else {
+            if (node.values.remove(value)) {
+                size--;
+            }
+            if (node.values.isEmpty()) {
+                return merge(node.left, node.right);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Joins two treaps where every interval in {@code lower} comes before every interval in {@code upper}.
+     */
+    private Node<T> merge(Node<T> lower, Node<T> upper) {
+        if (lower == null) {
+            return upper;
+        } else if (upper == null) {
+            return lower;
+        }
+
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            lower.update();
+            return lower;
+        }
+        upper.left = merge(lower, upper.left);
+        upper.update();
+        return upper;
+    }
+
+    private void collect(Node<T> node, int start, int end, List<T> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+
+        collect(node.left, start, end, result);
+        // Intervals in the right subtree start no earlier than this one, so none overlap if this one starts too late
+        if (node.start < end) {
+            if (node.end > start) {
+                result.addAll(node.values);
+            }
+            collect(node.right, start, end, result);
+        }
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int compare(int start, int end, Node<?> node) {
+        int comparison = Integer.compare(start, node.start);
+        return comparison != 0 ? comparison : Integer.compare(end, node.end);
+    }
+
+    /**
+     * A distinct interval in the tree, with every value attached to it.
+     */
+    private static class Node<T> {
+        private final int start;
+        private final int end;
+        private final int priority;
+        private final Set<T> values = new LinkedHashSet<>();
+        private int maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        Node(int start, int end, int priority) {
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        void update() {
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * A secondary index from each key of an {@code IndexedField} to the persons having that key.
+ * The index listens to a list of persons and, on every add, replace and remove,
+ * re-indexes only the persons whose indexed field changed.
+ *
+ * @param <K> the type of the keys of the indexed field
+ */
+public class PersonIndex<K> {
+
+    private final IndexedField<K> field;
+    private final Map<K, Set<Person>> personsByKey = new HashMap<>();
+
+    /**
+     * Creates an index on {@code field} over {@code persons} that is kept up to date as {@code persons} changes.
+     */
+    public PersonIndex(ObservableList<Person> persons, IndexedField<K> field) {
+        requireNonNull(persons);
+        requireNonNull(field);
+        this.field = field;
+        persons.forEach(this::add);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons having the key {@code key}.
+     */
+    public Set<Person> get(K key) {
+        requireNonNull(key);
+        return Collections.unmodifiableSet(personsByKey.getOrDefault(key, Collections.emptySet()));
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                List<? extends Person> removed = change.getRemoved();
+                List<? extends Person> added = change.getAddedSubList();
+                for (int i = 0; i < removed.size(); i++) {
+                    replace(removed.get(i), added.get(i));
+                }
+            } else {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code after} in place of {@code before}, keeping the keys of {@code before} without deriving them
+     * again if the field they are derived from is unchanged.
+     */
+    private void replace(Person before, Person after) {
+        if (!field.isUnchangedBetween(before, after)) {
+            remove(before);
+            add(after);
+            return;
+        }
+
+        for (K key : field.keysOf(before)) {
+            Set<Person> persons = personsByKey.get(key);
+            persons.remove(before);
+            persons.add(after);
+        }
+    }
+
+    private void add(Person person) {
+        for (K key : field.keysOf(person)) {
+            personsByKey.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        for (K key : field.keysOf(person)) {
+            Set<Person> persons = personsByKey.get(key);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByKey.remove(key);
+            }
+        }
+    }
+}
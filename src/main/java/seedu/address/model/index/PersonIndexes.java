@@ -0,0 +1,98 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+
+/**
+ * The secondary indexes kept on a list of persons: one for each {@code IndexedField},
+ * one of the students' lessons by time of day, one of the words in the persons' text fields, one of the words
+ * in their names by trigram, and one of the starts of their names and tags.
+ */
+public class PersonIndexes {
+
+    private final Map<IndexedField<?>, PersonIndex<?>> indexes = new HashMap<>();
+    private final ScheduleIndex scheduleIndex;
+    private final TextIndex textIndex;
+    private final FuzzyNameIndex fuzzyNameIndex;
+    private final CompletionIndex completionIndex;
+
+    /**
+     * Creates an index on every {@code IndexedField}, a lesson index, a text index, a fuzzy name index and a
+     * completion index over {@code persons}.
+     */
+    public PersonIndexes(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        for (IndexedField<?> field : IndexedField.values()) {
+            indexes.put(field, new PersonIndex<>(persons, field));
+        }
+        scheduleIndex = new ScheduleIndex(persons);
+        textIndex = new TextIndex(persons);
+        fuzzyNameIndex = new FuzzyNameIndex(persons, word -> get(IndexedField.NAME_TOKEN, word));
+        completionIndex = new CompletionIndex(persons);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose {@code field} has the key {@code key}.
+     */
+    @SuppressWarnings("unchecked")
+    public <K> Set<Person> get(IndexedField<K> field, K key) {
+        requireNonNull(field);
+        return ((PersonIndex<K>) indexes.get(field)).get(key);
+    }
+
+    /**
+     * Returns the students whose lesson overlaps {@code window}.
+     */
+    public List<Person> getLessonsOverlapping(Schedule window) {
+        return scheduleIndex.getOverlapping(window);
+    }
+
+    /**
+     * Returns the students whose lesson clashes with {@code lesson}.
+     */
+    public List<Person> getLessonsClashing(Schedule lesson) {
+        return scheduleIndex.getClashing(lesson);
+    }
+
+    /**
+     * Returns the persons whose name, tags, note or address contain at least one of {@code words},
+     * which must be lowercase, from the most relevant to the least relevant.
+     */
+    public List<Person> search(Collection<String> words) {
+        return textIndex.search(words);
+    }
+
+    /**
+     * Returns the persons whose name has a word within {@code maxDistanceOf(keyword)} edits of at least one of
+     * {@code keywords}, which must be lowercase, from the most similar to the least similar.
+     */
+    public List<Person> getNamesSimilarTo(List<String> keywords, ToIntFunction<String> maxDistanceOf) {
+        return fuzzyNameIndex.search(keywords, maxDistanceOf);
+    }
+
+    /**
+     * Returns at most {@code limit} full names with a word starting with {@code prefix}, ignoring case.
+     * This may be called from any thread.
+     */
+    public List<String> completeName(String prefix, int limit) {
+        return completionIndex.completeName(prefix, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} tag names starting with {@code prefix}, ignoring case.
+     * This may be called from any thread.
+     */
+    public List<String> completeTag(String prefix, int limit) {
+        return completionIndex.completeTag(prefix, limit);
+    }
+}
@@ -0,0 +1,276 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Student;
+
+/**
+ * A query selecting the persons to show in the filtered person list.
+ * A query on a single key of an {@code IndexedField} or on a lesson time window is answered from
+ * the model's secondary indexes, in time proportional to the number of matching persons;
+ * any other query tests every person.
+ * A ranked query, such as a text search, looks up the persons in order of relevance, which is the order to show
+ * them in.
+ *
+ * Queries combine with {@link #allOf} and {@link #anyOf}. A combined query is planned when it is looked up, from the
+ * sizes of the indexes at that time: all of several queries are looked up from the one expected to find the fewest
+ * persons, and the other conditions are tested only on the persons it finds.
+ */
+public class PersonQuery {
+
+    /** The expected number of persons found by a lookup whose size cannot be told without doing it. */
+    private static final int UNKNOWN_SIZE = Integer.MAX_VALUE - 1;
+
+    private final Predicate<Person> predicate;
+    private final Function<PersonIndexes, Collection<Person>> lookup;
+    /** Returns an upper bound on the number of persons the lookup finds, in O(1) time for a single key. */
+    private final ToIntFunction<PersonIndexes> estimate;
+    private final String description;
+    private final boolean isRanked;
+
+    private PersonQuery(Predicate<Person> predicate, Function<PersonIndexes, Collection<Person>> lookup,
+                        ToIntFunction<PersonIndexes> estimate, String description) {
+        this(predicate, lookup, estimate, description, false);
+    }
+
+    private PersonQuery(Predicate<Person> predicate, Function<PersonIndexes, Collection<Person>> lookup,
+                        ToIntFunction<PersonIndexes> estimate, String description, boolean isRanked) {
+        this.predicate = predicate;
+        this.lookup = lookup;
+        this.estimate = estimate;
+        this.description = description;
+        this.isRanked = isRanked;
+    }
+
+    /**
+     * Returns a query selecting the persons that satisfy {@code predicate}.
+     */
+    public static PersonQuery matching(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return new PersonQuery(predicate, null, null, predicate.toString());
+    }
+
+    /**
+     * Returns a query selecting the persons whose {@code field} has the key {@code key}.
+     */
+    public static <K> PersonQuery withKey(IndexedField<K> field, K key) {
+        requireNonNull(field);
+        requireNonNull(key);
+        return new PersonQuery(person -> field.keysOf(person).contains(key),
+                indexes -> indexes.get(field, key), indexes -> indexes.get(field, key).size(), field + "=" + key);
+    }
+
+    /**
+     * Returns a query selecting the persons whose {@code field} has at least one of {@code keys}.
+     * It is answered as the union of the persons having each key.
+     */
+    public static <K> PersonQuery withAnyKey(IndexedField<K> field, Collection<K> keys) {
+        requireNonNull(field);
+        requireNonNull(keys);
+        List<K> keyList = List.copyOf(keys);
+        return new PersonQuery(person -> field.keysOf(person).stream().anyMatch(keyList::contains),
+                indexes -> {
+                    Set<Person> union = new LinkedHashSet<>();
+                    keyList.forEach(key -> union.addAll(indexes.get(field, key)));
+                    return union;
+                }, indexes -> {
+                    long size = 0;
+                    for (K key : keyList) {
+                        size += indexes.get(field, key).size();
+                    }
+                    return (int) Math.min(size, UNKNOWN_SIZE);
+                }, field + " in " + keyList);
+    }
+
+    /**
+     * Returns a query selecting the persons whose {@code field} has every one of {@code keys}.
+     * It is answered by testing the persons having the rarest key against the persons having each other key,
+     * so it takes time proportional to the number of persons having the rarest key.
+     */
+    public static <K> PersonQuery withAllKeys(IndexedField<K> field, Collection<K> keys) {
+        requireNonNull(field);
+        requireNonNull(keys);
+        List<K> keyList = List.copyOf(keys);
+        return new PersonQuery(person -> !keyList.isEmpty() && field.keysOf(person).containsAll(keyList),
+                indexes -> {
+                    List<Set<Person>> postings = new ArrayList<>(keyList.size());
+                    keyList.forEach(key -> postings.add(indexes.get(field, key)));
+                    postings.sort(Comparator.comparingInt(Set::size));
+
+                    List<Person> intersection = new ArrayList<>();
+                    if (postings.isEmpty()) {
+                        return intersection;
+                    }
+                    for (Person person : postings.get(0)) {
+                        if (postings.stream().allMatch(posting -> posting.contains(person))) {
+                            intersection.add(person);
+                        }
+                    }
+                    return intersection;
+                }, indexes -> keyList.stream().mapToInt(key -> indexes.get(field, key).size()).min().orElse(0),
+                field + " has all of " + keyList);
+    }
+
+    /**
+     * Returns a ranked query selecting the persons whose name, tags, note or address contain at least one of the
+     * words in {@code terms}, ignoring case, from the most relevant to the least relevant.
+     */
+    public static PersonQuery withAnyWord(Collection<String> terms) {
+        requireNonNull(terms);
+        Set<String> words = new LinkedHashSet<>();
+        terms.forEach(term -> words.addAll(TextIndex.tokenize(term)));
+        return new PersonQuery(person -> TextIndex.containsAny(person, words),
+                indexes -> indexes.search(words), indexes -> UNKNOWN_SIZE, "text has any of " + words, true);
+    }
+
+    /**
+     * Returns a ranked query selecting the persons {@code predicate} accepts, which are those whose name has a word
+     * similar to one of its keywords, from the most similar to the least similar.
+     */
+    public static PersonQuery withNameSimilarTo(NameSimilarToKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new PersonQuery(predicate, indexes -> indexes.getNamesSimilarTo(predicate.getKeywordTokens(),
+                NameSimilarToKeywordsPredicate::maxDistanceFor), indexes -> UNKNOWN_SIZE, predicate.toString(), true);
+    }
+
+    /**
+     * Returns a query selecting the students whose lesson overlaps the time window {@code window}.
+     */
+    public static PersonQuery withLessonOverlapping(Schedule window) {
+        requireNonNull(window);
+        return new PersonQuery(person -> person instanceof Student
+                        && ((Student) person).getSchedule() != null
+                        && ((Student) person).getSchedule().overlaps(window),
+                indexes -> indexes.getLessonsOverlapping(window),
+                indexes -> indexes.get(IndexedField.HAS_SCHEDULE, true).size(), "lessonOverlapping=" + window);
+    }
+
+    /**
+     * Returns a query selecting the persons whose name is one of {@code names}.
+     * It is answered from the persons having a word of each name, so it takes time proportional to the number of
+     * persons sharing a word with the names.
+     */
+    public static PersonQuery withNameIn(Collection<Name> names) {
+        requireNonNull(names);
+        Set<Name> nameSet = Set.copyOf(names);
+        return new PersonQuery(person -> nameSet.contains(person.getName()), indexes -> {
+            List<Person> persons = new ArrayList<>(nameSet.size());
+            for (Name name : nameSet) {
+                // a valid name has at least one word, and every person with the name has that word
+                String word = name.getTokens().iterator().next();
+                for (Person person : indexes.get(IndexedField.NAME_TOKEN, word)) {
+                    if (person.getName().equals(name)) {
+                        persons.add(person);
+                    }
+                }
+            }
+            return persons;
+        }, indexes -> nameSet.size(), "name in " + nameSet);
+    }
+
+    /**
+     * Returns a query selecting the persons selected by every one of {@code queries}.
+     * It is looked up from the query expected to find the fewest persons, testing the other queries' conditions
+     * on the persons found, and it tests every person only if none of {@code queries} can be looked up.
+     */
+    public static PersonQuery allOf(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        List<PersonQuery> queryList = List.copyOf(queries);
+        List<PersonQuery> drivers = queryList.stream().filter(query -> query.lookup != null).toList();
+        Predicate<Person> predicate = person -> queryList.stream().allMatch(query -> query.predicate.test(person));
+        String description = describe(queryList, " and ");
+        if (drivers.isEmpty()) {
+            return new PersonQuery(predicate, null, null, description);
+        }
+        return new PersonQuery(predicate, indexes -> mostSelective(drivers, indexes).lookup.apply(indexes),
+                indexes -> mostSelective(drivers, indexes).estimate.applyAsInt(indexes), description);
+    }
+
+    /**
+     * Returns a query selecting the persons selected by at least one of {@code queries}.
+     * It is looked up as the union of the persons each query finds if every query can be looked up, and tests every
+     * person otherwise.
+     */
+    public static PersonQuery anyOf(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        List<PersonQuery> queryList = List.copyOf(queries);
+        Predicate<Person> predicate = person -> queryList.stream().anyMatch(query -> query.predicate.test(person));
+        String description = describe(queryList, " or ");
+        if (queryList.isEmpty() || queryList.stream().anyMatch(query -> query.lookup == null)) {
+            return new PersonQuery(predicate, null, null, description);
+        }
+        return new PersonQuery(predicate, indexes -> {
+            Set<Person> union = new LinkedHashSet<>();
+            queryList.forEach(query -> union.addAll(query.lookup.apply(indexes)));
+            return union;
+        }, indexes -> {
+            long size = 0;
+            for (PersonQuery query : queryList) {
+                size += query.estimate.applyAsInt(indexes);
+            }
+            return (int) Math.min(size, UNKNOWN_SIZE);
+        }, description);
+    }
+
+    private static PersonQuery mostSelective(List<PersonQuery> queries, PersonIndexes indexes) {
+        return queries.stream().min(Comparator.comparingInt(query -> query.estimate.applyAsInt(indexes))).get();
+    }
+
+    private static String describe(List<PersonQuery> queries, String operator) {
+        List<String> descriptions = new ArrayList<>(queries.size());
+        queries.forEach(query -> descriptions.add(query.description));
+        return "(" + String.join(operator, descriptions) + ")";
+    }
+
+    /**
+     * Returns a query selecting the persons selected by this query that also satisfy {@code condition}.
+     * It is answered from the same index as this query, if any, testing {@code condition} on the persons found.
+     */
+    public PersonQuery and(Predicate<Person> condition) {
+        requireNonNull(condition);
+        return new PersonQuery(predicate.and(condition), lookup, estimate, description + " and " + condition, isRanked);
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns true if {@link #lookUp} finds the persons in order of relevance, which is the order to show them in.
+     */
+    public boolean isRanked() {
+        return isRanked;
+    }
+
+    /**
+     * Returns the persons selected by this query as found in {@code indexes},
+     * or an empty {@code Optional} if this query can only be answered by testing every person.
+     */
+    public Optional<Collection<Person>> lookUp(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        return lookup == null ? Optional.empty() : Optional.of(lookup.apply(indexes));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", description)
+                .toString();
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.LessonSlot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.model.person.Student;
+
+/**
+ * An index of the lesson slots of the students in a list of persons, by time of day.
+ * Weekly lessons are kept in one {@code IntervalTree} per day of the week and one-off lessons in one per date,
+ * so the students with a lesson overlapping a time window, or clashing with another lesson,
+ * are found without testing every student. One-off lessons are also kept in one tree per day of the week, so a
+ * weekly lesson is checked against the one-off lessons on its day however many dates they fall on.
+ * The index listens to the list and, on every add, replace and remove, re-indexes only the persons that changed,
+ * and only if their schedule changed.
+ */
+public class ScheduleIndex {
+
+    private final Map<DayOfWeek, IntervalTree<Person>> weeklyLessons = new EnumMap<>(DayOfWeek.class);
+    private final Map<LocalDate, IntervalTree<Person>> datedLessons = new HashMap<>();
+    private final Map<DayOfWeek, IntervalTree<DatedLesson>> datedLessonsByDay = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Creates an index of the lessons in {@code persons} that is kept up to date as {@code persons} changes.
+     */
+    public ScheduleIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the students with a lesson overlapping a slot of {@code window}, slot by slot of the window
+     * and in ascending order of lesson start time within a slot, without duplicates.
+     * A weekly slot matches weekly lessons on the same day, and a dated slot matches one-off lessons
+     * on the same date.
+     */
+    public List<Person> getOverlapping(Schedule window) {
+        requireNonNull(window);
+        Set<Person> overlapping = new LinkedHashSet<>();
+        for (LessonSlot slot : window.getSlots()) {
+            IntervalTree<Person> lessons = getLessons(slot);
+            if (lessons != null) {
+                overlapping.addAll(lessons.getOverlapping(slot.getStartMinute(), slot.getEndMinute()));
+            }
+        }
+        return new ArrayList<>(overlapping);
+    }
+
+    /**
+     * Returns the students with a lesson clashing with a slot of {@code lesson}, as defined by
+     * {@link LessonSlot#clashesWith}, slot by slot and with weekly lessons before one-off lessons.
+     * Besides the lessons overlapping a slot, a weekly slot clashes with one-off lessons on its day
+     * and a one-off slot with weekly lessons on its day. Each slot takes two tree lookups: one in the weekly
+     * lessons of its day, and one in the one-off lessons of its date, or of its day if it is weekly.
+     */
+    public List<Person> getClashing(Schedule lesson) {
+        requireNonNull(lesson);
+        Set<Person> clashing = new LinkedHashSet<>();
+        for (LessonSlot slot : lesson.getSlots()) {
+            int start = slot.getStartMinute();
+            int end = slot.getEndMinute();
+            IntervalTree<Person> weekly = weeklyLessons.get(slot.getLessonDay());
+            if (weekly != null) {
+                clashing.addAll(weekly.getOverlapping(start, end));
+            }
+            if (slot.isWeekly()) {
+                IntervalTree<DatedLesson> dated = datedLessonsByDay.get(slot.getDayOfWeek());
+                if (dated != null) {
+                    dated.getOverlapping(start, end).forEach(datedLesson -> clashing.add(datedLesson.person));
+                }
+            } else {
+                IntervalTree<Person> dated = datedLessons.get(slot.getDate());
+                if (dated != null) {
+                    clashing.addAll(dated.getOverlapping(start, end));
+                }
+            }
+        }
+        return new ArrayList<>(clashing);
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                List<? extends Person> removed = change.getRemoved();
+                List<? extends Person> added = change.getAddedSubList();
+                for (int i = 0; i < removed.size(); i++) {
+                    replace(removed.get(i), added.get(i));
+                }
+            } else {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code after} in place of {@code before}. If {@code after} has the very same schedule as
+     * {@code before}, as is the case after an edit of its other fields, it takes the place of {@code before} under
+     * each lesson without re-indexing the lessons.
+     */
+    private void replace(Person before, Person after) {
+        if (!(before instanceof Student) || !(after instanceof Student)
+                || ((Student) before).getSchedule() != ((Student) after).getSchedule()) {
+            remove(before);
+            add(after);
+            return;
+        }
+
+        for (LessonSlot slot : getSlots(before)) {
+            IntervalTree<Person> lessons = getLessons(slot);
+            if (lessons != null) {
+                lessons.replace(slot.getStartMinute(), slot.getEndMinute(), before, after);
+            }
+            if (!slot.isWeekly()) {
+                datedLessonsByDay.get(slot.getLessonDay()).replace(slot.getStartMinute(), slot.getEndMinute(),
+                        new DatedLesson(slot.getDate(), before), new DatedLesson(slot.getDate(), after));
+            }
+        }
+    }
+
+    private void add(Person person) {
+        for (LessonSlot slot : getSlots(person)) {
+            IntervalTree<Person> lessons;
+            if (slot.isWeekly()) {
+                lessons = weeklyLessons.computeIfAbsent(slot.getDayOfWeek(), unused -> new IntervalTree<>());
+            } else {
+                lessons = datedLessons.computeIfAbsent(slot.getDate(), unused -> new IntervalTree<>());
+                datedLessonsByDay.computeIfAbsent(slot.getLessonDay(), unused -> new IntervalTree<>())
+                        .add(slot.getStartMinute(), slot.getEndMinute(), new DatedLesson(slot.getDate(), person));
+            }
+            lessons.add(slot.getStartMinute(), slot.getEndMinute(), person);
+        }
+    }
+
+    private void remove(Person person) {
+        for (LessonSlot slot : getSlots(person)) {
+            IntervalTree<Person> lessons = getLessons(slot);
+            if (lessons == null) {
+                continue;
+            }
+
+            lessons.remove(slot.getStartMinute(), slot.getEndMinute(), person);
+            if (slot.isWeekly()) {
+                continue;
+            }
+            if (lessons.isEmpty()) {
+                datedLessons.remove(slot.getDate());
+            }
+            IntervalTree<DatedLesson> lessonsOnDay = datedLessonsByDay.get(slot.getLessonDay());
+            lessonsOnDay.remove(slot.getStartMinute(), slot.getEndMinute(), new DatedLesson(slot.getDate(), person));
+            if (lessonsOnDay.isEmpty()) {
+                datedLessonsByDay.remove(slot.getLessonDay());
+            }
+        }
+    }
+
+    private IntervalTree<Person> getLessons(LessonSlot slot) {
+        return slot.isWeekly() ? weeklyLessons.get(slot.getDayOfWeek()) : datedLessons.get(slot.getDate());
+    }
+
+    private static List<LessonSlot> getSlots(Person person) {
+        if (!(person instanceof Student)) {
+            return List.of();
+        }
+        Schedule schedule = ((Student) person).getSchedule();
+        return schedule == null ? List.of() : schedule.getSlots();
+    }
+
+    /**
+     * A one-off lesson of a person, told apart from the person's lessons at the same time on other dates.
+     */
+    private static final class DatedLesson {
+        private final LocalDate date;
+        private final Person person;
+
+        DatedLesson(LocalDate date, Person person) {
+            this.date = date;
+            this.person = person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof DatedLesson
+                    && date.equals(((DatedLesson) other).date)
+                    && person.equals(((DatedLesson) other).person));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(date, person);
+        }
+    }
+}
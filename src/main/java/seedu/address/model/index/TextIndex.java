@@ -0,0 +1,216 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index of the words in the names, tags, notes and addresses of a list of persons, which ranks the
+ * persons containing some words by relevance.
+ * Each word maps to the persons containing it and how often, with a word in a name counting more than one in a
+ * tag, and one in a tag more than one in a note or address. Persons are ranked by the Okapi BM25 score of these
+ * weighted counts, so a rarer word, or one making up more of a shorter text, ranks a person higher.
+ *
+ * The index listens to the list and, on every add, replace and remove, re-indexes only the persons that changed,
+ * and only if one of their indexed fields changed.
+ */
+public class TextIndex {
+
+    private static final double NAME_WEIGHT = 3;
+    private static final double TAG_WEIGHT = 2;
+    private static final double NOTE_WEIGHT = 1;
+    private static final double ADDRESS_WEIGHT = 1;
+
+    /** How quickly repeating a word stops raising the score. */
+    private static final double K1 = 1.2;
+    /** How much a longer text lowers the score of the words in it, from 0 (not at all) to 1. */
+    private static final double B = 0.75;
+
+    /** The weighted count of each word in each person containing it, keyed by the name that identifies them. */
+    private final Map<String, Map<Name, Double>> postings = new HashMap<>();
+    private final Map<Name, Document> documents = new HashMap<>();
+    private double totalLength;
+
+    /**
+     * Creates an index of the text in {@code persons} that is kept up to date as {@code persons} changes.
+     */
+    public TextIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the lowercase words of {@code text}, which are its longest runs of letters and digits, in order.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if the name, a tag, the note or the address of {@code person} contains one of {@code words},
+     * which must be lowercase.
+     */
+    public static boolean containsAny(Person person, Collection<String> words) {
+        requireNonNull(person);
+        requireNonNull(words);
+        return countWords(person).keySet().stream().anyMatch(words::contains);
+    }
+
+    /**
+     * Returns the persons containing at least one of {@code words}, which must be lowercase, from the most relevant
+     * to the least relevant. Persons that are equally relevant are in the order of their names.
+     * This takes time proportional to the number of persons containing the words.
+     */
+    public List<Person> search(Collection<String> words) {
+        requireNonNull(words);
+        Map<Name, Double> scores = new HashMap<>();
+        double averageLength = documents.isEmpty() ? 0 : totalLength / documents.size();
+        for (String word : new LinkedHashSet<>(words)) {
+            Map<Name, Double> counts = postings.get(word);
+            if (counts == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (documents.size() - counts.size() + 0.5) / (counts.size() + 0.5));
+            for (Map.Entry<Name, Double> entry : counts.entrySet()) {
+                double count = entry.getValue();
+                double lengthRatio = documents.get(entry.getKey()).length / averageLength;
+                double score = idf * count * (K1 + 1) / (count + K1 * (1 - B + B * lengthRatio));
+                scores.merge(entry.getKey(), score, Double::sum);
+            }
+        }
+
+        List<Name> ranked = new ArrayList<>(scores.keySet());
+        ranked.sort(Comparator.<Name>comparingDouble(scores::get).reversed()
+                .thenComparing(name -> name.fullName));
+        List<Person> persons = new ArrayList<>(ranked.size());
+        for (Name name : ranked) {
+            persons.add(documents.get(name).person);
+        }
+        return persons;
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                List<? extends Person> removed = change.getRemoved();
+                List<? extends Person> added = change.getAddedSubList();
+                for (int i = 0; i < removed.size(); i++) {
+                    replace(removed.get(i), added.get(i));
+                }
+            } else {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code after} in place of {@code before}, keeping the words of {@code before} without counting them
+     * again if none of the indexed fields changed.
+     */
+    private void replace(Person before, Person after) {
+        boolean isTextUnchanged = before.getName() == after.getName()
+                && before.getTags() == after.getTags()
+                && before.getNote() == after.getNote()
+                && before.getAddress() == after.getAddress();
+        if (!isTextUnchanged) {
+            remove(before);
+            add(after);
+            return;
+        }
+        documents.get(after.getName()).person = after;
+    }
+
+    private void add(Person person) {
+        Map<String, Double> counts = countWords(person);
+        double length = 0;
+        for (Map.Entry<String, Double> entry : counts.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), unused -> new HashMap<>()).put(person.getName(), entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(person.getName(), new Document(person, counts.keySet(), length));
+        totalLength += length;
+    }
+
+    private void remove(Person person) {
+        Document document = documents.remove(person.getName());
+        if (document == null) {
+            return;
+        }
+        for (String word : document.words) {
+            Map<Name, Double> counts = postings.get(word);
+            counts.remove(person.getName());
+            if (counts.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    /**
+     * Returns the weighted number of times each word appears in the indexed fields of {@code person}.
+     */
+    private static Map<String, Double> countWords(Person person) {
+        Map<String, Double> counts = new HashMap<>();
+        countWords(counts, person.getName().fullName, NAME_WEIGHT);
+        for (Tag tag : person.getTags()) {
+            countWords(counts, tag.tagName, TAG_WEIGHT);
+        }
+        if (person.getNote() != null) {
+            countWords(counts, person.getNote().value, NOTE_WEIGHT);
+        }
+        countWords(counts, person.getAddress().value, ADDRESS_WEIGHT);
+        return counts;
+    }
+
+    private static void countWords(Map<String, Double> counts, String text, double weight) {
+        for (String word : tokenize(text)) {
+            counts.merge(word, weight, Double::sum);
+        }
+    }
+
+    /**
+     * The indexed words of the current version of a person, and their total weighted count.
+     */
+    private static class Document {
+        private Person person;
+        private final Set<String> words;
+        private final double length;
+
+        Document(Person person, Set<String> words, double length) {
+            this.person = person;
+            this.words = words;
+            this.length = length;
+        }
+    }
+}
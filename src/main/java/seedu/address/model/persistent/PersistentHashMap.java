@@ -0,0 +1,370 @@
+package seedu.address.model.persistent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable hash map with non-null keys and values.
+ * Every update returns a new map that shares all but O(log n) of its nodes with the old one, so keeping
+ * earlier versions costs only the nodes that differ, and copying a map is free.
+ *
+ * The map is a hash array mapped trie: each level of the trie is indexed by the next 5 bits of the key's hash,
+ * and a node stores only its occupied slots, compacted into an array and located through a 32-bit bitmap.
+ * Keys whose hashes are all equal share a collision node.
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private final BitmapNode root;
+    private final int size;
+
+    private PersistentHashMap(BitmapNode root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map has no such key.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        requireNonNull(key);
+        Leaf leaf = root.find(key, hash(key), 0);
+        return leaf == null ? null : (V) leaf.value;
+    }
+
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map in which {@code key} has the value {@code value}, or this map if it already does.
+     */
+    public PersistentHashMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        boolean wasAbsent = !containsKey(key);
+        BitmapNode newRoot = (BitmapNode) root.put(new Leaf(hash(key), key, value), 0);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, wasAbsent ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it has no such key.
+     */
+    public PersistentHashMap<K, V> remove(Object key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        Object newRoot = root.remove(key, hash(key), 0);
+        return new PersistentHashMap<>(asRoot(newRoot), size - 1);
+    }
+
+    /**
+     * Performs {@code action} on every key and value in the map, in no particular order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+        root.forEach((key, value) -> action.accept((K) key, (V) value));
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bitAt(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * Returns {@code node}, the result of removing a key from a root, as a root node.
+     */
+    private static BitmapNode asRoot(Object node) {
+        if (node == null) {
+            return BitmapNode.EMPTY;
+        } else if (node instanceof BitmapNode) {
+            return (BitmapNode) node;
+        }
+        return (BitmapNode) BitmapNode.EMPTY.put(node, 0);
+    }
+
+    /**
+     * Returns a node holding the distinct keys of {@code first} and {@code second}, starting at level {@code shift}.
+     * {@code first} is a leaf or a collision node; {@code second} is a leaf.
+     */
+    private static Object merge(Object first, Leaf second, int shift) {
+        int firstHash = first instanceof Leaf ? ((Leaf) first).hash : ((CollisionNode) first).hash;
+        if (firstHash == second.hash) {
+            return first instanceof Leaf
+                    ? new CollisionNode(firstHash, new Leaf[] {(Leaf) first, second})
+                    : ((CollisionNode) first).put(second);
+        }
+
+        int firstBit = bitAt(firstHash, shift);
+        int secondBit = bitAt(second.hash, shift);
+        if (firstBit == secondBit) {
+            return new BitmapNode(firstBit, new Object[] {merge(first, second, shift + BITS_PER_LEVEL)});
+        }
+        Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[] {first, second}
+                : new Object[] {second, first};
+        return new BitmapNode(firstBit | secondBit, slots);
+    }
+
+    private static int hashOf(Object node) {
+        if (node instanceof Leaf) {
+            return ((Leaf) node).hash;
+        }
+        return ((CollisionNode) node).hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentHashMap)) {
+            return false;
+        }
+
+        PersistentHashMap<?, ?> otherMap = (PersistentHashMap<?, ?>) other;
+        if (size != otherMap.size) {
+            return false;
+        }
+        boolean[] isEqual = {true};
+        root.forEach((key, value) -> isEqual[0] &= value.equals(otherMap.get(key)));
+        return isEqual[0];
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {0};
+        root.forEach((key, value) -> hash[0] += key.hashCode() ^ value.hashCode());
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        root.forEach((key, value) -> builder.append(builder.length() > 1 ? ", " : "")
+                .append(key).append('=').append(value));
+        return builder.append('}').toString();
+    }
+
+    /**
+     * A key and its value, stored in a slot of a node.
+     */
+    private static final class Leaf {
+        private final int hash;
+        private final Object key;
+        private final Object value;
+
+        Leaf(int hash, Object key, Object value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean hasKey(Object otherKey, int otherHash) {
+            return hash == otherHash && key.equals(otherKey);
+        }
+    }
+
+    /**
+     * A level of the trie. Its slots are leaves, collision nodes or bitmap nodes of the next level, stored in the
+     * order of the bits set in {@code bitmap}.
+     */
+    private static final class BitmapNode {
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        Leaf find(Object key, int hash, int shift) {
+            int bit = bitAt(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[indexOf(bit)];
+            if (slot instanceof Leaf) {
+                Leaf leaf = (Leaf) slot;
+                return leaf.hasKey(key, hash) ? leaf : null;
+            } else if (slot instanceof CollisionNode) {
+                return ((CollisionNode) slot).find(key, hash);
+            }
+            return ((BitmapNode) slot).find(key, hash, shift + BITS_PER_LEVEL);
+        }
+
+        /**
+         * Returns this node with {@code entry}, a leaf or a collision node, added at level {@code shift}.
+         * A leaf replaces the leaf of an equal key, and this node is returned if that leaf has the same value.
+         */
+        Object put(Object entry, int shift) {
+            int bit = bitAt(hashOf(entry), shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new BitmapNode(bitmap | bit, newSlots);
+            }
+
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof BitmapNode) {
+                newSlot = ((BitmapNode) slot).put(entry, shift + BITS_PER_LEVEL);
+            } else if (entry instanceof Leaf) {
+                Leaf leaf = (Leaf) entry;
+                if (slot instanceof Leaf && ((Leaf) slot).hasKey(leaf.key, leaf.hash)) {
+                    newSlot = ((Leaf) slot).value == leaf.value ? slot : leaf;
+                } else {
+                    newSlot = merge(slot, leaf, shift + BITS_PER_LEVEL);
+                }
+            } else {
+                throw new AssertionError("A collision node is only ever put into an empty slot of a root");
+            }
+            return newSlot == slot ? this : withSlot(index, newSlot);
+        }
+
+        /**
+         * Returns this node without {@code key}, which must be present at or below level {@code shift}.
+         * Returns null if no keys remain, and the remaining slot if it is the only one and not a bitmap node,
+         * so that the parent can hold it directly.
+         */
+        Object remove(Object key, int hash, int shift) {
+            int bit = bitAt(hash, shift);
+            int index = indexOf(bit);
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof Leaf) {
+                newSlot = null;
+            } else if (slot instanceof CollisionNode) {
+                newSlot = ((CollisionNode) slot).remove(key, hash);
+            } else {
+                newSlot = ((BitmapNode) slot).remove(key, hash, shift + BITS_PER_LEVEL);
+            }
+
+            if (newSlot != null) {
+                return slots.length == 1 && !(newSlot instanceof BitmapNode) ? newSlot : withSlot(index, newSlot);
+            } else if (slots.length == 1) {
+                return null;
+            } else if (slots.length == 2 && !(slots[1 - index] instanceof BitmapNode)) {
+                return slots[1 - index];
+            }
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, newSlots);
+        }
+
+        void forEach(BiConsumer<Object, Object> action) {
+            for (Object slot : slots) {
+                if (slot instanceof Leaf) {
+                    action.accept(((Leaf) slot).key, ((Leaf) slot).value);
+                } else if (slot instanceof CollisionNode) {
+                    for (Leaf leaf : ((CollisionNode) slot).leaves) {
+                        action.accept(leaf.key, leaf.value);
+                    }
+                } else {
+                    ((BitmapNode) slot).forEach(action);
+                }
+            }
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode withSlot(int index, Object slot) {
+            Object[] newSlots = slots.clone();
+            newSlots[index] = slot;
+            return new BitmapNode(bitmap, newSlots);
+        }
+    }
+
+    /**
+     * The leaves of distinct keys whose hashes are all {@code hash}.
+     */
+    private static final class CollisionNode {
+        private final int hash;
+        private final Leaf[] leaves;
+
+        CollisionNode(int hash, Leaf[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        Leaf find(Object key, int otherHash) {
+            for (Leaf leaf : leaves) {
+                if (leaf.hasKey(key, otherHash)) {
+                    return leaf;
+                }
+            }
+            return null;
+        }
+
+        CollisionNode put(Leaf leaf) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].key.equals(leaf.key)) {
+                    if (leaves[i].value == leaf.value) {
+                        return this;
+                    }
+                    Leaf[] newLeaves = leaves.clone();
+                    newLeaves[i] = leaf;
+                    return new CollisionNode(hash, newLeaves);
+                }
+            }
+            Leaf[] newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+            newLeaves[leaves.length] = leaf;
+            return new CollisionNode(hash, newLeaves);
+        }
+
+        /**
+         * Returns this node without {@code key}, which must be present, or the remaining leaf if only one remains.
+         */
+        Object remove(Object key, int otherHash) {
+            if (leaves.length == 2) {
+                return leaves[0].hasKey(key, otherHash) ? leaves[1] : leaves[0];
+            }
+            Leaf[] newLeaves = new Leaf[leaves.length - 1];
+            int next = 0;
+            for (Leaf leaf : leaves) {
+                if (!leaf.hasKey(key, otherHash)) {
+                    newLeaves[next++] = leaf;
+                }
+            }
+            return new CollisionNode(hash, newLeaves);
+        }
+    }
+}
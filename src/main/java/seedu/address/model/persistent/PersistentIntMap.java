@@ -0,0 +1,408 @@
+package seedu.address.model.persistent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * An immutable map from {@code int} keys to non-null values, kept in ascending key order.
+ * Every update returns a new map that shares all but O(log n) of its nodes with the old one, so keeping
+ * earlier versions costs only the nodes that differ, and copying a map is free.
+ *
+ * The map is a weight-balanced binary search tree in which every node knows the size of its subtree,
+ * so the value at a given position and the position of a given key are also found in O(log n).
+ */
+public final class PersistentIntMap<V> {
+
+    private static final PersistentIntMap<?> EMPTY = new PersistentIntMap<>(null);
+
+    /** A subtree is rebalanced when it holds more than {@code DELTA} times as many nodes as its sibling. */
+    private static final int DELTA = 3;
+    /** A double rotation is used when the inner grandchild holds at least {@code RATIO} times the outer one. */
+    private static final int RATIO = 2;
+
+    private final Node<V> root;
+
+    private PersistentIntMap(Node<V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentIntMap<V> empty() {
+        return (PersistentIntMap<V>) EMPTY;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map has no such key.
+     */
+    public V get(int key) {
+        Node<V> node = root;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the value at {@code position} in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is not in {@code [0, size())}.
+     */
+    public V getAt(int position) {
+        return nodeAt(position).value;
+    }
+
+    /**
+     * Returns the key at {@code position} in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is not in {@code [0, size())}.
+     */
+    public int keyAt(int position) {
+        return nodeAt(position).key;
+    }
+
+    /**
+     * Returns the position of {@code key} in key order, or -1 if the map has no such key.
+     */
+    public int indexOf(int key) {
+        int position = 0;
+        Node<V> node = root;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                position += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return position + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of keys less than {@code key}, which is the position {@code key} has, or would have if it
+     * were added, in key order.
+     */
+    public int rank(int key) {
+        int position = 0;
+        Node<V> node = root;
+        while (node != null) {
+            if (key <= node.key) {
+                node = node.left;
+            } else {
+                position += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns a map in which {@code key} has the value {@code value}, or this map if it already does.
+     */
+    public PersistentIntMap<V> put(int key, V value) {
+        requireNonNull(value);
+        Node<V> newRoot = put(root, key, value);
+        return newRoot == root ? this : new PersistentIntMap<>(newRoot);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it has no such key.
+     */
+    public PersistentIntMap<V> remove(int key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        return new PersistentIntMap<>(remove(root, key));
+    }
+
+    /**
+     * Returns a map of the values {@code valueOf(0)} to {@code valueOf(count - 1)} under the keys 0 to
+     * {@code count - 1}, built bottom-up in O(count) time.
+     */
+    public static <V> PersistentIntMap<V> sequential(int count, IntFunction<? extends V> valueOf) {
+        requireNonNull(valueOf);
+        return new PersistentIntMap<>(build(0, count, valueOf));
+    }
+
+    /**
+     * Returns an unmodifiable list view of the values in key order.
+     * The view reads this version of the map and is unaffected by later updates, which create new versions.
+     */
+    public List<V> values() {
+        return new Values<>(this);
+    }
+
+    private Node<V> nodeAt(int position) {
+        Objects.checkIndex(position, size());
+        Node<V> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position > leftSize) {
+                position -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <V> Node<V> build(int from, int to, IntFunction<? extends V> valueOf) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(middle, requireNonNull(valueOf.apply(middle)),
+                build(from, middle, valueOf), build(middle + 1, to, valueOf));
+    }
+
+    private static <V> Node<V> put(Node<V> node, int key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        if (key < node.key) {
+            Node<V> left = put(node.left, key, value);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        } else if (key > node.key) {
+            Node<V> right = put(node.right, key, value);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+        return node.value == value ? node : new Node<>(key, value, node.left, node.right);
+    }
+
+    private static <V> Node<V> remove(Node<V> node, int key) {
+        if (key < node.key) {
+            return balance(node.key, node.value, remove(node.left, key), node.right);
+        } else if (key > node.key) {
+            return balance(node.key, node.value, node.left, remove(node.right, key));
+        }
+        return glue(node.left, node.right);
+    }
+
+    /**
+     * Joins two balanced subtrees of similar size, all of whose keys in {@code left} are less than those in
+     * {@code right}, by lifting the nearest key of the larger subtree to the root.
+     */
+    private static <V> Node<V> glue(Node<V> left, Node<V> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        }
+
+        if (left.size > right.size) {
+            Node<V> max = left;
+            while (max.right != null) {
+                max = max.right;
+            }
+            return balance(max.key, max.value, remove(left, max.key), right);
+        }
+        Node<V> min = right;
+        while (min.left != null) {
+            min = min.left;
+        }
+        return balance(min.key, min.value, left, remove(right, min.key));
+    }
+
+    /**
+     * Returns a node of {@code key} and {@code value} over {@code left} and {@code right}, rotating once or twice
+     * if a single insertion or removal has left one side too heavy.
+     */
+    private static <V> Node<V> balance(int key, V value, Node<V> left, Node<V> right) {
+        int leftSize = size(left);
+        int rightSize = size(right);
+        if (leftSize + rightSize <= 1) {
+            return new Node<>(key, value, left, right);
+        }
+
+        if (rightSize > DELTA * leftSize) {
+            if (size(right.left) < RATIO * size(right.right)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<V> inner = right.left;
+            return new Node<>(inner.key, inner.value, new Node<>(key, value, left, inner.left),
+                    new Node<>(right.key, right.value, inner.right, right.right));
+        } else if (leftSize > DELTA * rightSize) {
+            if (size(left.right) < RATIO * size(left.left)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<V> inner = left.right;
+            return new Node<>(inner.key, inner.value, new Node<>(left.key, left.value, left.left, inner.left),
+                    new Node<>(key, value, inner.right, right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentIntMap)) {
+            return false;
+        }
+
+        PersistentIntMap<?> otherMap = (PersistentIntMap<?>) other;
+        if (root == otherMap.root) {
+            return true;
+        } else if (size() != otherMap.size()) {
+            return false;
+        }
+
+        Iterator<? extends Node<?>> nodes = new InOrder<>(root);
+        Iterator<? extends Node<?>> otherNodes = new InOrder<>(otherMap.root);
+        while (nodes.hasNext()) {
+            Node<?> node = nodes.next();
+            Node<?> otherNode = otherNodes.next();
+            if (node.key != otherNode.key || !node.value.equals(otherNode.value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Iterator<Node<V>> nodes = new InOrder<>(root); nodes.hasNext();) {
+            Node<V> node = nodes.next();
+            hash += node.key ^ node.value.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (Iterator<Node<V>> nodes = new InOrder<>(root); nodes.hasNext();) {
+            Node<V> node = nodes.next();
+            builder.append(node.key).append('=').append(node.value);
+            if (nodes.hasNext()) {
+                builder.append(", ");
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private static final class Node<V> {
+        private final int key;
+        private final V value;
+        private final Node<V> left;
+        private final Node<V> right;
+        private final int size;
+
+        Node(int key, V value, Node<V> left, Node<V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+
+    /**
+     * Visits the nodes of a tree in key order, keeping the path to the next node on a stack.
+     */
+    private static final class InOrder<V> implements Iterator<Node<V>> {
+        private final Deque<Node<V>> path = new ArrayDeque<>();
+
+        InOrder(Node<V> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Node<V> next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<V> node = path.pop();
+            pushLeftSpine(node.right);
+            return node;
+        }
+
+        private void pushLeftSpine(Node<V> node) {
+            for (Node<V> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+
+    /**
+     * The values of one version of a map, in key order.
+     */
+    private static final class Values<V> extends AbstractList<V> {
+        private final PersistentIntMap<V> map;
+
+        Values(PersistentIntMap<V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public V get(int index) {
+            return map.getAt(index);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            Iterator<Node<V>> nodes = new InOrder<>(map.root);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return nodes.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    return nodes.next().value;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package seedu.address.model.persistent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable trie of string keys, each holding a multiset of string values, which lists the values of the keys
+ * starting with a given prefix in key order.
+ * Every update returns a new trie that shares all but the nodes on the path to the updated key with the old one,
+ * so a trie can be read from any thread while a newer version is being built.
+ *
+ * Each node stores the characters leading to its children in ascending order, and the values of the key ending at
+ * it in ascending order, each with the number of times it was added.
+ */
+public final class PersistentTrie {
+
+    private static final PersistentTrie EMPTY = new PersistentTrie(Node.EMPTY);
+
+    private final Node root;
+
+    private PersistentTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty trie.
+     */
+    public static PersistentTrie empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return root == Node.EMPTY;
+    }
+
+    /**
+     * Returns a trie in which {@code key} holds {@code value} once more.
+     */
+    public PersistentTrie with(String key, String value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        return new PersistentTrie(root.with(key, 0, value));
+    }
+
+    /**
+     * Returns a trie in which {@code key} holds {@code value} once less, or this trie if it does not hold it.
+     */
+    public PersistentTrie without(String key, String value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Node newRoot = root.without(key, 0, value);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? EMPTY : new PersistentTrie(newRoot);
+    }
+
+    /**
+     * Returns at most {@code limit} distinct values of the keys starting with {@code prefix}, in the order of their
+     * keys, and the values of a key in ascending order.
+     * This takes time proportional to the length of {@code prefix} and the size of the part of the trie holding the
+     * values returned, however many keys start with {@code prefix}.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        Set<String> values = new LinkedHashSet<>();
+        if (node != null && limit > 0) {
+            node.collect(values, limit);
+        }
+        return new ArrayList<>(values);
+    }
+
+    /**
+     * A node of the trie, reached from the root by the characters of the key ending at it.
+     */
+    private static final class Node {
+        private static final Node EMPTY = new Node(new char[0], new Node[0], new String[0], new int[0]);
+
+        private final char[] labels;
+        private final Node[] children;
+        private final String[] values;
+        private final int[] counts;
+
+        Node(char[] labels, Node[] children, String[] values, int[] counts) {
+            this.labels = labels;
+            this.children = children;
+            this.values = values;
+            this.counts = counts;
+        }
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+
+        /**
+         * Returns this node with {@code value} added once more to the key {@code key}, of which the first
+         * {@code depth} characters lead to this node.
+         */
+        Node with(String key, int depth, String value) {
+            if (depth == key.length()) {
+                int index = Arrays.binarySearch(values, value);
+                if (index >= 0) {
+                    int[] newCounts = counts.clone();
+                    newCounts[index]++;
+                    return new Node(labels, children, values, newCounts);
+                }
+                int insertion = -index - 1;
+                return new Node(labels, children, insert(values, insertion, value), insert(counts, insertion, 1));
+            }
+
+            char label = key.charAt(depth);
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                Node[] newChildren = children.clone();
+                newChildren[index] = children[index].with(key, depth + 1, value);
+                return new Node(labels, newChildren, values, counts);
+            }
+            int insertion = -index - 1;
+            return new Node(insert(labels, insertion, label),
+                    insert(children, insertion, EMPTY.with(key, depth + 1, value)), values, counts);
+        }
+
+        /**
+         * Returns this node with {@code value} removed once from the key {@code key}, of which the first
+         * {@code depth} characters lead to this node, or this node if the key does not hold the value.
+         * Returns null if the node would hold no values and have no children.
+         */
+        Node without(String key, int depth, String value) {
+            if (depth == key.length()) {
+                int index = Arrays.binarySearch(values, value);
+                if (index < 0) {
+                    return this;
+                }
+                if (counts[index] > 1) {
+                    int[] newCounts = counts.clone();
+                    newCounts[index]--;
+                    return new Node(labels, children, values, newCounts);
+                }
+                if (values.length == 1 && children.length == 0) {
+                    return null;
+                }
+                return new Node(labels, children, remove(values, index), remove(counts, index));
+            }
+
+            int index = Arrays.binarySearch(labels, key.charAt(depth));
+            if (index < 0) {
+                return this;
+            }
+            Node newChild = children[index].without(key, depth + 1, value);
+            if (newChild == children[index]) {
+                return this;
+            } else if (newChild != null) {
+                Node[] newChildren = children.clone();
+                newChildren[index] = newChild;
+                return new Node(labels, newChildren, values, counts);
+            } else if (children.length == 1 && values.length == 0) {
+                return null;
+            }
+            return new Node(remove(labels, index), remove(children, index), values, counts);
+        }
+
+        /**
+         * Adds the values of this node and its descendants to {@code result} in key order, until it has
+         * {@code limit} values. Returns true if it has.
+         */
+        boolean collect(Set<String> result, int limit) {
+            for (String value : values) {
+                result.add(value);
+                if (result.size() >= limit) {
+                    return true;
+                }
+            }
+            for (Node child : children) {
+                if (child.collect(result, limit)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static char[] insert(char[] array, int index, char element) {
+            char[] result = new char[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = element;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static int[] insert(int[] array, int index, int element) {
+            int[] result = new int[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = element;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static <T> T[] insert(T[] array, int index, T element) {
+            T[] result = Arrays.copyOf(array, array.length + 1);
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            result[index] = element;
+            return result;
+        }
+
+        private static char[] remove(char[] array, int index) {
+            char[] result = new char[array.length - 1];
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+
+        private static int[] remove(int[] array, int index) {
+            int[] result = new int[array.length - 1];
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+
+        private static <T> T[] remove(T[] array, int index) {
+            T[] result = Arrays.copyOf(array, array.length - 1);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+    }
+}
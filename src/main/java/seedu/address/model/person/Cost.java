@@ -5,15 +5,23 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Person's cost per lesson in the address book.
+ * The amount is held as a whole number of cents, so sums of costs are plain {@code long} additions.
+ * The text the cost was entered with is kept for display and storage.
+ * Costs entered by the user have at most 2 decimal places; costs saved before that limit may have more, and are
+ * rounded to the nearest cent when loaded.
  * Guarantees: immutable; is always valid
  */
 public class Cost {
 
     public static final String MESSAGE_CONSTRAINTS =
-            "Cost per lesson should be a numeric value. E.g pay/72.5";
-    public static final String VALIDATION_REGEX = "^\\d+(\\.\\d+)?$";
+            "Cost per lesson should be a non-negative amount with at most 2 decimal places. E.g pay/72.5";
+
+    private static final int MAX_WHOLE_DIGITS = 13;
+    private static final int MAX_FRACTION_DIGITS = 2;
+    private static final int CENTS_PER_UNIT = 100;
 
     public final String value;
+    private final long cents;
 
     /**
      * Constructs a Cost with the specified value.
@@ -22,15 +30,148 @@ public class Cost {
      */
     public Cost(String cost) {
         requireNonNull(cost);
-        checkArgument(isValidCost(cost), MESSAGE_CONSTRAINTS);
+        long parsedCents = parseCents(cost);
+        checkArgument(parsedCents >= 0, MESSAGE_CONSTRAINTS);
         value = cost;
+        cents = parsedCents;
+    }
+
+    private Cost(long cents) {
+        this.cents = cents;
+        this.value = formatCents(cents);
+    }
+
+    private Cost(String value, long cents) {
+        this.value = value;
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the {@code Cost} saved as {@code cost}, which may have any number of decimal places, as costs saved
+     * before the limit of 2 could. It is rounded half up to the nearest cent, and keeps {@code cost} as its text.
+     *
+     * @throws IllegalArgumentException if {@code cost} is not a valid saved cost.
+     */
+    public static Cost fromStored(String cost) {
+        requireNonNull(cost);
+        long parsedCents = parseStoredCents(cost);
+        checkArgument(parsedCents >= 0, MESSAGE_CONSTRAINTS);
+        return new Cost(cost, parsedCents);
+    }
+
+    /**
+     * Returns a {@code Cost} of the given number of cents, written without trailing zeros (e.g. "72.5").
+     */
+    public static Cost fromCents(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        return new Cost(cents);
     }
 
     /**
      * Returns true if a given string is a valid cost.
      */
     public static boolean isValidCost(String test) {
-        return test.matches(VALIDATION_REGEX);
+        requireNonNull(test);
+        return parseCents(test) >= 0;
+    }
+
+    /**
+     * Returns true if a given string is a valid saved cost: a non-negative amount with any number of decimal places,
+     * small enough to be held in cents.
+     */
+    public static boolean isValidStoredCost(String test) {
+        requireNonNull(test);
+        return parseStoredCents(test) >= 0;
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    /**
+     * Returns the number of cents written in {@code text}, or -1 if {@code text} is not a valid cost.
+     * The text is read in a single pass without allocating.
+     */
+    private static long parseCents(String text) {
+        int length = text.length();
+        int point = text.indexOf('.');
+        int wholeEnd = point == -1 ? length : point;
+        int fractionDigits = point == -1 ? 0 : length - point - 1;
+        if (wholeEnd == 0 || wholeEnd > MAX_WHOLE_DIGITS
+                || (point != -1 && (fractionDigits == 0 || fractionDigits > MAX_FRACTION_DIGITS))) {
+            return -1;
+        }
+
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == point) {
+                continue;
+            }
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        for (int i = fractionDigits; i < MAX_FRACTION_DIGITS; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of cents written in {@code text}, rounded half up, or -1 if {@code text} is not a valid
+     * saved cost.
+     */
+    private static long parseStoredCents(String text) {
+        int length = text.length();
+        int point = text.indexOf('.');
+        int wholeEnd = point == -1 ? length : point;
+        if (wholeEnd == 0 || point == length - 1) {
+            return -1;
+        }
+
+        long result = 0;
+        int fractionDigits = 0;
+        boolean roundsUp = false;
+        try {
+            for (int i = 0; i < length; i++) {
+                if (i == point) {
+                    continue;
+                }
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                if (i < wholeEnd || fractionDigits < MAX_FRACTION_DIGITS) {
+                    result = Math.addExact(Math.multiplyExact(result, 10), c - '0');
+                    fractionDigits += i > wholeEnd ? 1 : 0;
+                } else if (i == wholeEnd + 1 + MAX_FRACTION_DIGITS) {
+                    roundsUp = c >= '5';
+                }
+            }
+            for (int i = fractionDigits; i < MAX_FRACTION_DIGITS; i++) {
+                result = Math.multiplyExact(result, 10);
+            }
+            return roundsUp ? Math.addExact(result, 1) : result;
+        } catch (ArithmeticException e) {
+            return -1;
+        }
+    }
+
+    private static String formatCents(long cents) {
+        long whole = cents / CENTS_PER_UNIT;
+        int fraction = (int) (cents % CENTS_PER_UNIT);
+        if (fraction == 0) {
+            return Long.toString(whole);
+        } else if (fraction % 10 == 0) {
+            return whole + "." + fraction / 10;
+        }
+        return whole + (fraction < 10 ? ".0" : ".") + fraction;
     }
 
     @Override
@@ -42,11 +183,11 @@ public class Cost {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Cost // instanceof handles nulls
-                && value.equals(((Cost) other).value)); // state check
+                && cents == ((Cost) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 }
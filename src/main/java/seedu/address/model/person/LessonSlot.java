@@ -0,0 +1,195 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents one lesson of a {@code Schedule}: a time range on either a day of the week (a weekly lesson)
+ * or a date (a one-off lesson).
+ * Guarantees: immutable; exactly one of the day of the week and the date is set; end time is after start time.
+ */
+public class LessonSlot implements Comparable<LessonSlot> {
+
+    public static final String MESSAGE_CONSTRAINTS = "End time must be after start time and cannot cross midnight.";
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final String[] DAY_NAMES = Arrays.stream(DayOfWeek.values())
+            .map(day -> day.name().charAt(0) + day.name().substring(1).toLowerCase())
+            .toArray(String[]::new);
+
+    private final DayOfWeek dayOfWeek;
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    private LessonSlot(DayOfWeek dayOfWeek, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        checkArgument(endTime.isAfter(startTime), MESSAGE_CONSTRAINTS);
+        this.dayOfWeek = dayOfWeek;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Returns a lesson taking place every week on {@code dayOfWeek} from {@code startTime} to {@code endTime}.
+     */
+    public static LessonSlot weekly(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        requireNonNull(dayOfWeek);
+        return new LessonSlot(dayOfWeek, null, startTime, endTime);
+    }
+
+    /**
+     * Returns a lesson taking place once on {@code date} from {@code startTime} to {@code endTime}.
+     */
+    public static LessonSlot oneOff(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        requireNonNull(date);
+        return new LessonSlot(null, date, startTime, endTime);
+    }
+
+    public boolean isWeekly() {
+        return dayOfWeek != null;
+    }
+
+    /**
+     * Returns the day of the week of a weekly lesson, or null for a one-off lesson.
+     */
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    /**
+     * Returns the date of a one-off lesson, or null for a weekly lesson.
+     */
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Returns the day of the week the lesson takes place on, whether it is weekly or one-off.
+     */
+    public DayOfWeek getLessonDay() {
+        return dayOfWeek != null ? dayOfWeek : date.getDayOfWeek();
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public int getStartMinute() {
+        return startTime.toSecondOfDay() / SECONDS_PER_MINUTE;
+    }
+
+    public int getEndMinute() {
+        return endTime.toSecondOfDay() / SECONDS_PER_MINUTE;
+    }
+
+    /**
+     * Returns true if both lessons are weekly lessons on the same day of the week or one-off lessons
+     * on the same date, and their time ranges overlap.
+     */
+    public boolean overlaps(LessonSlot other) {
+        requireNonNull(other);
+        boolean isSameDay = Objects.equals(dayOfWeek, other.dayOfWeek) && Objects.equals(date, other.date);
+        return isSameDay && isTimeOverlapping(other);
+    }
+
+    /**
+     * Returns true if this lesson and {@code other} could take place at the same time.
+     * Unlike {@link #overlaps}, a weekly lesson also clashes with a one-off lesson on a date
+     * falling on the same day of the week.
+     */
+    public boolean clashesWith(LessonSlot other) {
+        requireNonNull(other);
+        boolean isSameDay = date != null && other.date != null
+                ? date.equals(other.date)
+                : getLessonDay().equals(other.getLessonDay());
+        return isSameDay && isTimeOverlapping(other);
+    }
+
+    private boolean isTimeOverlapping(LessonSlot other) {
+        return startTime.isBefore(other.endTime) && other.startTime.isBefore(endTime);
+    }
+
+    /**
+     * Compares lessons chronologically. One-off lessons come before weekly lessons.
+     */
+    @Override
+    public int compareTo(LessonSlot other) {
+        if (isWeekly() != other.isWeekly()) {
+            return isWeekly() ? 1 : -1;
+        }
+
+        int dayCompare = isWeekly() ? dayOfWeek.compareTo(other.dayOfWeek) : date.compareTo(other.date);
+        if (dayCompare != 0) {
+            return dayCompare;
+        }
+        int startCompare = startTime.compareTo(other.startTime);
+        return startCompare != 0 ? startCompare : endTime.compareTo(other.endTime);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonSlot)) {
+            return false;
+        }
+
+        LessonSlot otherSlot = (LessonSlot) other;
+        return Objects.equals(dayOfWeek, otherSlot.dayOfWeek)
+                && Objects.equals(date, otherSlot.date)
+                && startTime.equals(otherSlot.startTime)
+                && endTime.equals(otherSlot.endTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dayOfWeek, date, startTime, endTime);
+    }
+
+    /**
+     * Returns the lesson in the format it is entered in, e.g. "Monday 14:00-16:00" or "12-10-2025 14:00-16:00".
+     */
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the lesson to {@code builder} in the format of {@link #toString}, without intermediate strings.
+     */
+    StringBuilder appendTo(StringBuilder builder) {
+        if (isWeekly()) {
+            builder.append(DAY_NAMES[dayOfWeek.ordinal()]);
+        } else {
+            appendTwoDigits(builder, date.getMonthValue()).append('-');
+            appendTwoDigits(builder, date.getDayOfMonth()).append('-');
+            appendTwoDigits(builder, date.getYear() / 100);
+            appendTwoDigits(builder, date.getYear() % 100);
+        }
+        builder.append(' ');
+        appendTwoDigits(builder, startTime.getHour()).append(':');
+        appendTwoDigits(builder, startTime.getMinute()).append('-');
+        appendTwoDigits(builder, endTime.getHour()).append(':');
+        return appendTwoDigits(builder, endTime.getMinute());
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, int value) {
+        return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,6 +26,9 @@ public class Name {
 
     public final String fullName;
 
+    /** The distinct lowercase words of the name, derived on first use. */
+    private Set<String> tokens;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -39,6 +47,22 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the distinct words of this name in lowercase, in the order they appear.
+     * Two names share a word, ignoring case, exactly when their tokens share an element.
+     */
+    public Set<String> getTokens() {
+        if (tokens == null) {
+            Set<String> words = new LinkedHashSet<>();
+            for (String word : fullName.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    words.add(word.toLowerCase(Locale.ROOT));
+                }
+            }
+            tokens = Collections.unmodifiableSet(words);
+        }
+        return tokens;
+    }
 
     @Override
     public String toString() {
@@ -1,25 +1,62 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name} matches any of the keywords given, or all of them.
+ * A keyword matches a name that has it as a whole word, ignoring case.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final boolean isMatchAll;
+    /** The distinct keywords in lowercase, as they are compared with the tokens of a name. */
+    private final Set<String> keywordTokens;
 
+    /**
+     * Creates a predicate that tests that a name matches any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, false);
+    }
+
+    /**
+     * Creates a predicate that tests that a name matches all of {@code keywords} if {@code isMatchAll},
+     * and any of them otherwise.
+     */
+    public NameContainsKeywordsPredicate(List<String> keywords, boolean isMatchAll) {
         this.keywords = keywords;
+        this.isMatchAll = isMatchAll;
+        this.keywordTokens = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            keywordTokens.add(keyword.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Returns the distinct keywords in lowercase, which are the name tokens this predicate looks for.
+     */
+    public Set<String> getKeywordTokens() {
+        return Collections.unmodifiableSet(keywordTokens);
+    }
+
+    public boolean isMatchAll() {
+        return isMatchAll;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Set<String> nameTokens = person.getName().getTokens();
+        if (isMatchAll) {
+            return !keywordTokens.isEmpty() && nameTokens.containsAll(keywordTokens);
+        }
+        return keywordTokens.stream().anyMatch(nameTokens::contains);
     }
 
     @Override
@@ -34,7 +71,8 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherNameContainsKeywordsPredicate.keywords)
+                && isMatchAll == otherNameContainsKeywordsPredicate.isMatchAll;
     }
 
     @Override
@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word similar to any of the keywords given, ignoring case.
+ * A word is similar to a keyword if it is at most {@link #maxDistanceFor} edits away from it, so that a keyword
+ * with a typo still finds the name it was meant for.
+ */
+public class NameSimilarToKeywordsPredicate implements Predicate<Person> {
+    private final List<String> keywords;
+    /** The distinct keywords in lowercase, as they are compared with the tokens of a name. */
+    private final List<String> keywordTokens;
+
+    /**
+     * Creates a predicate that tests that a name has a word similar to any of {@code keywords}.
+     */
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            tokens.add(keyword.trim().toLowerCase(Locale.ROOT));
+        }
+        this.keywordTokens = new ArrayList<>(tokens);
+    }
+
+    /**
+     * Returns the largest number of edits a word may be away from {@code keyword} to be similar to it.
+     * Short keywords must match exactly, as a single edit already turns them into most other short words.
+     */
+    public static int maxDistanceFor(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Returns the distinct keywords in lowercase, which are the name tokens this predicate looks for.
+     */
+    public List<String> getKeywordTokens() {
+        return Collections.unmodifiableList(keywordTokens);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String nameToken : person.getName().getTokens()) {
+            for (String keyword : keywordTokens) {
+                int maxDistance = maxDistanceFor(keyword);
+                if (StringUtil.editDistance(keyword, nameToken, maxDistance) <= maxDistance) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherNameSimilarToKeywordsPredicate = (NameSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherNameSimilarToKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
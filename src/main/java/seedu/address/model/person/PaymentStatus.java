@@ -2,10 +2,13 @@ package seedu.address.model.person;
 
 /**
  * Represents whether a person has completed payment.
- * This is immutable.
+ * This is immutable, so the two possible statuses are shared through {@link #of(boolean)}.
  */
 public class PaymentStatus {
 
+    public static final PaymentStatus PAID = new PaymentStatus(true);
+    public static final PaymentStatus UNPAID = new PaymentStatus(false);
+
     private final boolean isPaid;
 
     /**
@@ -15,6 +18,13 @@ public class PaymentStatus {
         this.isPaid = isPaid;
     }
 
+    /**
+     * Returns the shared {@code PaymentStatus} for {@code isPaid}.
+     */
+    public static PaymentStatus of(boolean isPaid) {
+        return isPaid ? PAID : UNPAID;
+    }
+
     /**
      * Returns true if payment has been made.
      */
@@ -2,12 +2,11 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -26,7 +25,7 @@ public abstract class Person {
     private final Note note;
     private final Cost cost;
     private final PaymentStatus paymentStatus;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     /**
      * Every field must be present and not null.
@@ -42,7 +41,7 @@ public abstract class Person {
         this.note = note;
         this.cost = cost;
         this.paymentStatus = paymentStatus;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Type getType() {
@@ -82,7 +81,7 @@ public abstract class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+/**
+ * A field of a {@code Person} that can be changed by a {@code PersonPatch}.
+ */
+public enum PersonField {
+    NAME,
+    PHONE,
+    EMAIL,
+    ADDRESS,
+    NOTE,
+    COST,
+    PAYMENT_STATUS,
+    TAGS,
+    SCHEDULE
+}
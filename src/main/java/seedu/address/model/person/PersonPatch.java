@@ -0,0 +1,250 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A change to some fields of a person, naming the fields it changes.
+ * Applying a patch keeps every other field of the person as the very same object, so that derived state can tell
+ * by reference which fields of an edited person are unchanged.
+ * Guarantees: immutable.
+ */
+public final class PersonPatch {
+
+    private static final PersonPatch EMPTY = new PersonPatch(EnumSet.noneOf(PersonField.class), null, null, null,
+            null, null, null, null, null, null);
+
+    private final Set<PersonField> changedFields;
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final Note note;
+    private final Cost cost;
+    private final PaymentStatus paymentStatus;
+    private final Set<Tag> tags;
+    private final Schedule schedule;
+
+    private PersonPatch(Set<PersonField> changedFields, Name name, Phone phone, Email email, Address address,
+                        Note note, Cost cost, PaymentStatus paymentStatus, Set<Tag> tags, Schedule schedule) {
+        this.changedFields = changedFields;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.note = note;
+        this.cost = cost;
+        this.paymentStatus = paymentStatus;
+        this.tags = tags;
+        this.schedule = schedule;
+    }
+
+    /**
+     * Returns the patch that changes no field.
+     */
+    public static PersonPatch empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a patch that also sets the name.
+     */
+    public PersonPatch withName(Name name) {
+        requireNonNull(name);
+        return new PersonPatch(with(PersonField.NAME), name, phone, email, address, note, cost, paymentStatus,
+                tags, schedule);
+    }
+
+    /**
+     * Returns a patch that also sets the phone.
+     */
+    public PersonPatch withPhone(Phone phone) {
+        requireNonNull(phone);
+        return new PersonPatch(with(PersonField.PHONE), name, phone, email, address, note, cost, paymentStatus,
+                tags, schedule);
+    }
+
+    /**
+     * Returns a patch that also sets the email.
+     */
+    public PersonPatch withEmail(Email email) {
+        requireNonNull(email);
+        return new PersonPatch(with(PersonField.EMAIL), name, phone, email, address, note, cost, paymentStatus,
+                tags, schedule);
+    }
+
+    /**
+     * Returns a patch that also sets the address.
+     */
+    public PersonPatch withAddress(Address address) {
+        requireNonNull(address);
+        return new PersonPatch(with(PersonField.ADDRESS), name, phone, email, address, note, cost, paymentStatus,
+                tags, schedule);
+    }
+
+    /**
+     * Returns a patch that also sets the note.
+     */
+    public PersonPatch withNote(Note note) {
+        requireNonNull(note);
+        return new PersonPatch(with(PersonField.NOTE), name, phone, email, address, note, cost, paymentStatus,
+                tags, schedule);
+    }
+
+    /**
+     * Returns a patch that also sets the cost.
+     */
+    public PersonPatch withCost(Cost cost) {
+        requireNonNull(cost);
+        return new PersonPatch(with(PersonField.COST), name, phone, email, address, note, cost, paymentStatus,
+                tags, schedule);
+    }
+
+    /**
+     * Returns a patch that also sets the payment status.
+     */
+    public PersonPatch withPaymentStatus(PaymentStatus paymentStatus) {
+        requireNonNull(paymentStatus);
+        return new PersonPatch(with(PersonField.PAYMENT_STATUS), name, phone, email, address, note, cost,
+                paymentStatus, tags, schedule);
+    }
+
+    /**
+     * Returns a patch that also sets the tags.
+     */
+    public PersonPatch withTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        return new PersonPatch(with(PersonField.TAGS), name, phone, email, address, note, cost, paymentStatus,
+                TagSet.of(tags), schedule);
+    }
+
+    /**
+     * Returns a patch that also sets the schedule, which only a {@code Student} has.
+     */
+    public PersonPatch withSchedule(Schedule schedule) {
+        requireNonNull(schedule);
+        return new PersonPatch(with(PersonField.SCHEDULE), name, phone, email, address, note, cost, paymentStatus,
+                tags, schedule);
+    }
+
+    /**
+     * Returns an unmodifiable view of the fields this patch changes.
+     */
+    public Set<PersonField> getChangedFields() {
+        return Collections.unmodifiableSet(changedFields);
+    }
+
+    /**
+     * Returns true if this patch changes any of {@code fields}.
+     */
+    public boolean changesAnyOf(PersonField... fields) {
+        for (PersonField field : fields) {
+            if (changedFields.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return changedFields.isEmpty();
+    }
+
+    /**
+     * Returns a copy of {@code person} with the fields of this patch changed, or {@code person} itself if this patch
+     * is empty. Fields that this patch does not change are shared with {@code person}.
+     *
+     * @throws IllegalArgumentException if this patch sets a schedule and {@code person} is not a {@code Student}.
+     */
+    public Person applyTo(Person person) {
+        requireNonNull(person);
+        if (isEmpty()) {
+            return person;
+        }
+
+        Name updatedName = pick(PersonField.NAME, name, person.getName());
+        Phone updatedPhone = pick(PersonField.PHONE, phone, person.getPhone());
+        Email updatedEmail = pick(PersonField.EMAIL, email, person.getEmail());
+        Address updatedAddress = pick(PersonField.ADDRESS, address, person.getAddress());
+        Note updatedNote = pick(PersonField.NOTE, note, person.getNote());
+        Cost updatedCost = pick(PersonField.COST, cost, person.getCost());
+        PaymentStatus updatedPaymentStatus = pick(PersonField.PAYMENT_STATUS, paymentStatus,
+                person.getPaymentStatus());
+        Set<Tag> updatedTags = pick(PersonField.TAGS, tags, person.getTags());
+
+        if (person instanceof Student student) {
+            Schedule updatedSchedule = pick(PersonField.SCHEDULE, schedule, student.getSchedule());
+            return new Student(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedNote, updatedSchedule,
+                    updatedCost, updatedPaymentStatus, updatedTags);
+        }
+        checkArgument(!changedFields.contains(PersonField.SCHEDULE), "Only a student has a schedule");
+        return new Parent(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedNote, updatedCost,
+                updatedPaymentStatus, updatedTags);
+    }
+
+    private Set<PersonField> with(PersonField field) {
+        Set<PersonField> fields = EnumSet.noneOf(PersonField.class);
+        fields.addAll(changedFields);
+        fields.add(field);
+        return fields;
+    }
+
+    private <T> T pick(PersonField field, T patchedValue, T currentValue) {
+        return changedFields.contains(field) ? patchedValue : currentValue;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonPatch)) {
+            return false;
+        }
+
+        PersonPatch otherPatch = (PersonPatch) other;
+        return changedFields.equals(otherPatch.changedFields)
+                && Objects.equals(name, otherPatch.name)
+                && Objects.equals(phone, otherPatch.phone)
+                && Objects.equals(email, otherPatch.email)
+                && Objects.equals(address, otherPatch.address)
+                && Objects.equals(note, otherPatch.note)
+                && Objects.equals(cost, otherPatch.cost)
+                && Objects.equals(paymentStatus, otherPatch.paymentStatus)
+                && Objects.equals(tags, otherPatch.tags)
+                && Objects.equals(schedule, otherPatch.schedule);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changedFields, name, phone, email, address, note, cost, paymentStatus, tags,
+                schedule);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("changedFields", changedFields)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .add("address", address)
+                .add("note", note)
+                .add("cost", cost)
+                .add("paymentStatus", paymentStatus)
+                .add("tags", tags)
+                .add("schedule", schedule)
+                .toString();
+    }
+}
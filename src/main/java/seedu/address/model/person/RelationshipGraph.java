@@ -0,0 +1,172 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.persistent.PersistentIntMap;
+
+/**
+ * An index of the links between students and their parents, keyed by person ID.
+ * Both directions of every link are kept, so the parents of a student and the children of a parent
+ * are found in time proportional to the number of links of that person.
+ * Persons hold no references to each other and keep their ID when edited or renamed,
+ * so replacing a person never requires rewiring links.
+ *
+ * The links are held in persistent maps of unmodifiable sets, which are replaced rather than modified,
+ * so copying a graph takes O(1) time and a copy is unaffected by later changes to either graph.
+ *
+ * Supports a minimal set of operations.
+ */
+public class RelationshipGraph {
+
+    private PersistentIntMap<Set<Integer>> parentsOfStudent = PersistentIntMap.empty();
+    private PersistentIntMap<Set<Integer>> childrenOfParent = PersistentIntMap.empty();
+
+    public RelationshipGraph() {}
+
+    /**
+     * Creates a graph with the links in {@code toBeCopied}, in O(1) time.
+     */
+    public RelationshipGraph(RelationshipGraph toBeCopied) {
+        setLinks(toBeCopied);
+    }
+
+    /**
+     * Returns true if the student with ID {@code student} is linked to the parent with ID {@code parent}.
+     */
+    public boolean isLinked(int student, int parent) {
+        return getParents(student).contains(parent);
+    }
+
+    /**
+     * Links the student with ID {@code student} to the parent with ID {@code parent}.
+     *
+     * @throws IllegalStateException if the two are already linked
+     */
+    public void link(int student, int parent) {
+        if (isLinked(student, parent)) {
+            throw new IllegalStateException("Student " + student + " is already linked to parent " + parent);
+        }
+        parentsOfStudent = addEdge(parentsOfStudent, student, parent);
+        childrenOfParent = addEdge(childrenOfParent, parent, student);
+    }
+
+    /**
+     * Removes the link between the student with ID {@code student} and the parent with ID {@code parent}.
+     *
+     * @throws IllegalStateException if the two are not linked
+     */
+    public void unlink(int student, int parent) {
+        if (!isLinked(student, parent)) {
+            throw new IllegalStateException("Student " + student + " is not linked to parent " + parent);
+        }
+        parentsOfStudent = removeEdge(parentsOfStudent, student, parent);
+        childrenOfParent = removeEdge(childrenOfParent, parent, student);
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the parents linked to the student with ID {@code student}.
+     */
+    public Set<Integer> getParents(int student) {
+        return neighboursOf(parentsOfStudent, student);
+    }
+
+    /**
+     * Returns an unmodifiable view of the IDs of the children linked to the parent with ID {@code parent}.
+     */
+    public Set<Integer> getChildren(int parent) {
+        return neighboursOf(childrenOfParent, parent);
+    }
+
+    /**
+     * Removes every link of the person with ID {@code person}.
+     *
+     * @return the IDs of the persons that were linked to {@code person}
+     */
+    public Set<Integer> remove(int person) {
+        Set<Integer> linked = new LinkedHashSet<>();
+
+        Set<Integer> parents = getParents(person);
+        for (int parent : parents) {
+            childrenOfParent = removeEdge(childrenOfParent, parent, person);
+        }
+        parentsOfStudent = parentsOfStudent.remove(person);
+        linked.addAll(parents);
+
+        Set<Integer> children = getChildren(person);
+        for (int child : children) {
+            parentsOfStudent = removeEdge(parentsOfStudent, child, person);
+        }
+        childrenOfParent = childrenOfParent.remove(person);
+        linked.addAll(children);
+        return linked;
+    }
+
+    /**
+     * Replaces the links in this graph with the links in {@code replacement}, in O(1) time.
+     */
+    public void setLinks(RelationshipGraph replacement) {
+        requireNonNull(replacement);
+        parentsOfStudent = replacement.parentsOfStudent;
+        childrenOfParent = replacement.childrenOfParent;
+    }
+
+    /**
+     * Removes every link in this graph.
+     */
+    public void clear() {
+        parentsOfStudent = PersistentIntMap.empty();
+        childrenOfParent = PersistentIntMap.empty();
+    }
+
+    private static Set<Integer> neighboursOf(PersistentIntMap<Set<Integer>> adjacency, int from) {
+        Set<Integer> neighbours = adjacency.get(from);
+        return neighbours == null ? Set.of() : neighbours;
+    }
+
+    private static PersistentIntMap<Set<Integer>> addEdge(PersistentIntMap<Set<Integer>> adjacency, int from, int to) {
+        Set<Integer> neighbours = new LinkedHashSet<>(neighboursOf(adjacency, from));
+        neighbours.add(to);
+        return adjacency.put(from, Collections.unmodifiableSet(neighbours));
+    }
+
+    private static PersistentIntMap<Set<Integer>> removeEdge(PersistentIntMap<Set<Integer>> adjacency,
+            int from, int to) {
+        Set<Integer> neighbours = new LinkedHashSet<>(neighboursOf(adjacency, from));
+        neighbours.remove(to);
+        return neighbours.isEmpty()
+                ? adjacency.remove(from)
+                : adjacency.put(from, Collections.unmodifiableSet(neighbours));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RelationshipGraph)) {
+            return false;
+        }
+
+        RelationshipGraph otherGraph = (RelationshipGraph) other;
+        return parentsOfStudent.equals(otherGraph.parentsOfStudent);
+    }
+
+    @Override
+    public int hashCode() {
+        return parentsOfStudent.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("parentsOfStudent", parentsOfStudent)
+                .toString();
+    }
+}
@@ -2,237 +2,177 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
 import java.util.logging.Logger;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
- * Represents a schedule for a lesson.
- * Supports two formats:
- *  - "Monday 14:00-16:00"
- *  - "10-20-2025 14:00-16:00"
+ * Represents the lessons of a student: one or more lesson slots separated by commas.
+ * Each slot is in one of two formats:
+ *  - "Monday 14:00-16:00" (weekly)
+ *  - "10-20-2025 14:00-16:00" (one-off)
+ * The weekly slots are also kept as a {@link WeeklyCells} bitmap, so that comparing two schedules made of
+ * quarter-hour aligned weekly slots takes a few word-level operations however many slots they have.
+ * Schedules are immutable, so equal schedules obtained through {@link #of} share a single instance while any of
+ * them is in use.
  */
 public class Schedule implements Comparable<Schedule> {
     public static final String MESSAGE_CONSTRAINTS =
             "Invalid schedule format. Use either: DAY HH:mm-HH:mm or MM-DD-YYYY HH:mm-HH:mm "
                     + "Example: 'Monday 14:00-16:00', '12-10-2025 14:00-16:00' End time must be after start time"
-                    + " and cannot cross midnight.";
-    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+                    + " and cannot cross midnight. Separate multiple lessons with commas, "
+                    + "e.g. 'Monday 10:00-12:00, Wednesday 14:00-15:00'.";
+    public static final String MESSAGE_SLOTS_CLASH = "Lessons in a schedule must not clash with each other.";
+    private static final char SLOT_SEPARATOR = ',';
+    private static final WeakInterner<Schedule> INTERNED = new WeakInterner<>();
     private static final Logger logger = Logger.getLogger(Schedule.class.getName());
 
     public final String value;
-    private final LocalDate date;
-    private final DayOfWeek dayOfWeek;
-    private final LocalTime startTime;
-    private final LocalTime endTime;
+    private final List<LessonSlot> slots;
+    private final WeeklyCells weeklyCells;
+    private final boolean hasOnlyAlignedWeeklySlots;
 
     /**
      * Constructs a {@code Schedule}.
      *
-     * @param value A valid date or day + time range.
+     * @param value Zero or more valid date or day + time ranges, separated by commas.
      */
     public Schedule(String value) {
-        requireNonNull(value);
-        value = value.strip();
+        this(scanOrThrow(value));
+    }
 
-        assert value != null : "Schedule value should not be null after requireNonNull(value)";
+    private Schedule(List<LessonSlot> slots) {
+        this.slots = Collections.unmodifiableList(slots);
+        weeklyCells = WeeklyCells.of(slots);
 
-        if (value.isEmpty()) {
-            this.value = "";
-            this.date = null;
-            this.dayOfWeek = null;
-            this.startTime = null;
-            this.endTime = null;
-            return;
+        boolean isAligned = true;
+        StringBuilder builder = new StringBuilder();
+        for (LessonSlot slot : slots) {
+            isAligned &= slot.isWeekly()
+                    && WeeklyCells.isCellBoundary(slot.getStartMinute())
+                    && WeeklyCells.isCellBoundary(slot.getEndMinute());
+            if (builder.length() > 0) {
+                builder.append(SLOT_SEPARATOR).append(' ');
+            }
+            slot.appendTo(builder);
         }
+        hasOnlyAlignedWeeklySlots = isAligned;
+        this.value = builder.toString();
+    }
 
-        ParsedSchedule parsed = parse(value);
-        this.date = parsed.getDate();
-        this.dayOfWeek = parsed.getDayOfWeek();
-        this.startTime = parsed.getStartTime();
-        this.endTime = parsed.getEndTime();
-
-        if (this.dayOfWeek != null) {
-            String dayStr = this.dayOfWeek.toString().substring(0, 1).toUpperCase()
-                    + this.dayOfWeek.toString().substring(1).toLowerCase();
-            this.value = dayStr + " " + TIME_FORMAT.format(this.startTime) + "-" + TIME_FORMAT.format(this.endTime);
-        } else if (this.date != null) {
-            this.value = DATE_FORMAT.format(this.date) + " " + TIME_FORMAT.format(this.startTime)
-                    + "-" + TIME_FORMAT.format(this.endTime);
-        } else {
-            this.value = "";
+    private static List<LessonSlot> scanOrThrow(String value) {
+        requireNonNull(value);
+        ScheduleScanner.Result result = ScheduleScanner.scan(value);
+        if (!result.isValid()) {
+            throw new IllegalArgumentException(result.getError());
         }
+        return result.getSlots();
     }
 
     /**
-     * Internal parsed result holder.
+     * Returns the canonical {@code Schedule} of {@code value}, so that students with the same lessons share one
+     * instance. Text already in canonical form, such as a schedule read back from storage, is found in the pool
+     * without being parsed.
+     *
+     * @throws IllegalArgumentException if {@code value} is not a valid schedule.
      */
-    private static class ParsedSchedule {
-        private LocalDate date;
-        private DayOfWeek dayOfWeek;
-        private LocalTime startTime;
-        private LocalTime endTime;
-
-        public LocalDate getDate() {
-            return date;
-        }
-
-        public DayOfWeek getDayOfWeek() {
-            return dayOfWeek;
-        }
-
-        public LocalTime getStartTime() {
-            return startTime;
-        }
-
-        public LocalTime getEndTime() {
-            return endTime;
-        }
+    public static Schedule of(String value) {
+        requireNonNull(value);
+        Schedule interned = INTERNED.get(value);
+        return interned != null ? interned : intern(new Schedule(scanOrThrow(value)));
     }
 
     /**
-     * Parses and validates a schedule string into a {@link ParsedSchedule}.
-     * Supports formats: "DAY HH:mm-HH:mm" or "MM-DD-YYYY HH:mm-HH:mm".
-     * @param input The schedule string to parse.
-     * @return A {@link ParsedSchedule} object with parsed date/day and times.
-     * @throws IllegalArgumentException if input is invalid.
+     * Returns the canonical {@code Schedule} of {@code value} as {@link #of} does, or an empty {@code Optional}
+     * if {@code value} is not a valid schedule. Never throws.
      */
-    private static ParsedSchedule parse(String input) {
-        input = normalizeInput(input);
-        if (input.isEmpty()) {
-            return new ParsedSchedule();
+    public static Optional<Schedule> tryParse(String value) {
+        requireNonNull(value);
+        Schedule interned = INTERNED.get(value);
+        if (interned != null) {
+            return Optional.of(interned);
         }
+        ScheduleScanner.Result result = ScheduleScanner.scan(value);
+        return result.isValid() ? Optional.of(intern(new Schedule(result.getSlots()))) : Optional.empty();
+    }
 
-        String dayOrDate = extractDayOrDate(input);
-        String timeRange = extractTimeRange(input);
-
-        ParsedSchedule result = new ParsedSchedule();
-        parseTimeRange(timeRange, result);
-        parseDayOrDate(dayOrDate, result);
-
-        return result;
+    private static Schedule intern(Schedule schedule) {
+        return INTERNED.intern(schedule.value, schedule);
     }
 
     /**
-     * Normalizes input by trimming and replacing multiple spaces with a single space.
-     * @param input Raw schedule string.
-     * @return Normalized schedule string.
+     * Returns true if a given string is a valid schedule.
      */
-    private static String normalizeInput(String input) {
-        return input.strip().replaceAll("\\s+", " ");
+    public static boolean isValidSchedule(String test) {
+        if (test == null) {
+            return true;
+        }
+        ScheduleScanner.Result result = ScheduleScanner.scan(test);
+        if (!result.isValid()) {
+            logger.fine(() -> "Invalid schedule: " + test + " — " + result.getError());
+        }
+        return result.isValid();
+    }
+
+    public boolean isEmpty() {
+        return value.isEmpty();
     }
 
     /**
-     * Extracts the first part of the schedule string representing day or date.
-     * @param input Normalized schedule string.
-     * @return Day of week or date portion of the input.
-     * @throws IllegalArgumentException if input does not contain a space separator.
+     * Returns the lesson slots of this schedule in chronological order.
      */
-    private static String extractDayOrDate(String input) {
-        int firstSpace = input.indexOf(' ');
-        if (firstSpace == -1) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-        }
-        return input.substring(0, firstSpace);
+    public List<LessonSlot> getSlots() {
+        return slots;
     }
 
     /**
-     * Extracts the time range portion from the schedule string.
-     * @param input Normalized schedule string.
-     * @return Time range string (e.g., "14:00-16:00").
+     * Returns the cells of the week occupied by the weekly slots of this schedule.
      */
-    private static String extractTimeRange(String input) {
-        int firstSpace = input.indexOf(' ');
-        return input.substring(firstSpace + 1).strip();
+    public WeeklyCells getWeeklyCells() {
+        return weeklyCells;
     }
 
     /**
-     * Parses a time range string into start and end times, and stores them in the result.
-     * @param timeRange Time range string (format "HH:mm-HH:mm").
-     * @param result ParsedSchedule object to store start and end times.
-     * @throws IllegalArgumentException if time format is invalid or end time is before start time.
+     * Returns true if a slot of this schedule and a slot of {@code other} fall on the same day of the week
+     * or the same date and their time ranges overlap. An empty schedule overlaps nothing.
      */
-    private static void parseTimeRange(String timeRange, ParsedSchedule result) {
-        String[] parts = timeRange.split("\\s*-\\s*");
-        if (parts.length != 2) {
-            throw new IllegalArgumentException("Invalid time range format. Use HH:mm-HH:mm (e.g., 14:00-16:00).");
-        }
-        try {
-            result.startTime = LocalTime.parse(parts[0], TIME_FORMAT);
-            result.endTime = LocalTime.parse(parts[1], TIME_FORMAT);
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid time format. Time must be in HH:mm (24-hour) format.");
-        }
-        if (!result.endTime.isAfter(result.startTime)) {
-            throw new IllegalArgumentException("Invalid time format. End time must be after start time "
-                    + "and cannot cross midnight (e.g., 14:00-16:00).");
-        }
+    public boolean overlaps(Schedule other) {
+        requireNonNull(other);
+        return anySlotPair(other, LessonSlot::overlaps);
     }
 
     /**
-     * Parses a string representing a day or date and stores it in the result.
-     * @param dayOrDate String representing a day (e.g., "Monday") or date (e.g., "12-10-2025").
-     * @param result ParsedSchedule object to store the dayOfWeek or date.
-     * @throws IllegalArgumentException if the string is not a valid day or date.
+     * Returns true if a lesson of this schedule and a lesson of {@code other} could take place at the same time.
+     * Unlike {@link #overlaps}, a weekly slot also clashes with a one-off slot on a date
+     * falling on the same day of the week. An empty schedule clashes with nothing.
      */
-    private static void parseDayOrDate(String dayOrDate, ParsedSchedule result) {
-        try {
-            result.dayOfWeek = DayOfWeek.valueOf(dayOrDate.toUpperCase());
-            result.date = null;
-        } catch (IllegalArgumentException ignored) {
-            try {
-                result.date = LocalDate.parse(dayOrDate, DATE_FORMAT);
-                result.dayOfWeek = null;
-            } catch (DateTimeParseException ex) {
-                if (dayOrDate.matches(".*\\d.*")) {
-                    throw new IllegalArgumentException("Invalid date format. Use MM-DD-YYYY (e.g., 10-20-2025).");
-                } else {
-                    throw new IllegalArgumentException("Invalid day format. Use full day name (e.g., Monday).");
-                }
-            }
-        }
+    public boolean clashesWith(Schedule other) {
+        requireNonNull(other);
+        return anySlotPair(other, LessonSlot::clashesWith);
     }
 
     /**
-     * Returns true if a given string is a valid schedule.
+     * Returns true if {@code test} holds for a slot of this schedule and a slot of {@code other}.
+     * When both schedules only hold quarter-hour aligned weekly slots, their bitmaps are compared instead,
+     * which gives the same answer since such slots occupy their cells exactly.
      */
-    public static boolean isValidSchedule(String test) {
-        if (test == null || test.strip().isEmpty()) {
-            logger.fine("Empty schedule string — treating as valid.");
-            return true;
-        }
-        try {
-            parse(test.strip());
-            logger.fine("Valid schedule: " + test);
-            return true;
-        } catch (IllegalArgumentException e) {
-            logger.warning("Invalid schedule detected: " + test + " — " + e.getMessage());
-            return false;
+    private boolean anySlotPair(Schedule other, BiPredicate<LessonSlot, LessonSlot> test) {
+        if (hasOnlyAlignedWeeklySlots && other.hasOnlyAlignedWeeklySlots) {
+            return weeklyCells.intersects(other.weeklyCells);
         }
-    }
-
-    public boolean isEmpty() {
-        return value.isEmpty();
-    }
-
-    public LocalDate getDate() {
-        return date;
-    }
-
-    public DayOfWeek getDayOfWeek() {
-        return dayOfWeek;
-    }
-
-    public LocalTime getStartTime() {
-        return startTime;
-    }
 
-    public LocalTime getEndTime() {
-        return endTime;
+        for (LessonSlot slot : slots) {
+            for (LessonSlot otherSlot : other.slots) {
+                if (test.test(slot, otherSlot)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
@@ -262,7 +202,7 @@ public class Schedule implements Comparable<Schedule> {
     }
 
     /**
-     * Compare schedules chronologically.
+     * Compare schedules chronologically by their earliest slot.
      * Schedules with no date/time are treated as "after" valid ones.
      */
     @Override
@@ -277,17 +217,6 @@ public class Schedule implements Comparable<Schedule> {
             return -1;
         }
 
-        if (this.date != null && other.date != null) {
-            int dateCompare = this.date.compareTo(other.date);
-            return (dateCompare != 0) ? dateCompare : this.startTime.compareTo(other.startTime);
-        }
-
-        if (this.dayOfWeek != null && other.dayOfWeek != null) {
-            int dayCompare = this.dayOfWeek.compareTo(other.dayOfWeek);
-            return (dayCompare != 0) ? dayCompare : this.startTime.compareTo(other.startTime);
-        }
-
-        // If one uses date and the other uses day of week, date schedules come first
-        return (this.date != null) ? -1 : 1;
+        return this.slots.get(0).compareTo(other.slots.get(0));
     }
 }
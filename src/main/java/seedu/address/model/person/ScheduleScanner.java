@@ -0,0 +1,239 @@
+package seedu.address.model.person;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the text of a {@code Schedule} in a single pass over its characters.
+ * Malformed text is reported through the returned {@link Result} instead of an exception, so that checking whether
+ * text is a valid schedule and building the schedule take one scan between them, with no exceptions thrown and no
+ * intermediate strings created.
+ */
+final class ScheduleScanner {
+
+    static final String MESSAGE_INVALID_RANGE = "Invalid time range format. Use HH:mm-HH:mm (e.g., 14:00-16:00).";
+    static final String MESSAGE_INVALID_TIME = "Invalid time format. Time must be in HH:mm (24-hour) format.";
+    static final String MESSAGE_END_NOT_AFTER_START = "Invalid time format. End time must be after start time "
+            + "and cannot cross midnight (e.g., 14:00-16:00).";
+    static final String MESSAGE_INVALID_DATE = "Invalid date format. Use MM-DD-YYYY (e.g., 10-20-2025).";
+    static final String MESSAGE_INVALID_DAY = "Invalid day format. Use full day name (e.g., Monday).";
+
+    private static final char SLOT_SEPARATOR = ',';
+    private static final char RANGE_SEPARATOR = '-';
+    private static final int TIME_LENGTH = "HH:mm".length();
+    private static final int DATE_LENGTH = "MM-dd-yyyy".length();
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private final String text;
+    private String error;
+
+    // Fields of the slot being read
+    private DayOfWeek dayOfWeek;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    private ScheduleScanner(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Reads {@code text} as zero or more lesson slots separated by commas.
+     * Blank text is an empty schedule.
+     */
+    static Result scan(String text) {
+        return new ScheduleScanner(text).scanSlots();
+    }
+
+    private Result scanSlots() {
+        int end = trimEnd(0, text.length());
+        if (skipWhitespace(0, end) == end) {
+            return new Result(Collections.emptyList(), null);
+        }
+
+        List<LessonSlot> slots = new ArrayList<>();
+        int slotStart = 0;
+        while (slotStart <= end) {
+            int slotEnd = indexOf(SLOT_SEPARATOR, slotStart, end);
+            if (slotEnd == -1) {
+                slotEnd = end;
+            }
+            if (!scanSlot(slotStart, slotEnd)) {
+                return new Result(null, error);
+            }
+            slots.add(dayOfWeek != null
+                    ? LessonSlot.weekly(dayOfWeek, startTime, endTime)
+                    : LessonSlot.oneOff(date, startTime, endTime));
+            slotStart = slotEnd + 1;
+        }
+
+        Collections.sort(slots);
+        for (int i = 0; i < slots.size(); i++) {
+            for (int j = i + 1; j < slots.size(); j++) {
+                if (slots.get(i).clashesWith(slots.get(j))) {
+                    return new Result(null, Schedule.MESSAGE_SLOTS_CLASH);
+                }
+            }
+        }
+        return new Result(slots, null);
+    }
+
+    /**
+     * Reads the slot in {@code text[from, to)}, in the form "DAY_OR_DATE HH:mm-HH:mm" with any whitespace
+     * around the parts. Problems with the time range are reported before problems with the day or date.
+     *
+     * @return false if the slot is malformed, with {@code error} set
+     */
+    private boolean scanSlot(int from, int to) {
+        int dayStart = skipWhitespace(from, to);
+        int dayEnd = dayStart;
+        while (dayEnd < to && !Character.isWhitespace(text.charAt(dayEnd))) {
+            dayEnd++;
+        }
+        if (dayStart == dayEnd || dayEnd == to) {
+            return fail(Schedule.MESSAGE_CONSTRAINTS);
+        }
+
+        int rangeStart = skipWhitespace(dayEnd, to);
+        int rangeEnd = trimEnd(rangeStart, to);
+        int separator = indexOf(RANGE_SEPARATOR, rangeStart, rangeEnd);
+        if (separator == -1 || indexOf(RANGE_SEPARATOR, separator + 1, rangeEnd) != -1) {
+            return fail(MESSAGE_INVALID_RANGE);
+        }
+
+        startTime = scanTime(rangeStart, trimEnd(rangeStart, separator));
+        endTime = scanTime(skipWhitespace(separator + 1, rangeEnd), rangeEnd);
+        if (startTime == null || endTime == null) {
+            return fail(MESSAGE_INVALID_TIME);
+        }
+        if (!endTime.isAfter(startTime)) {
+            return fail(MESSAGE_END_NOT_AFTER_START);
+        }
+
+        return scanDayOrDate(dayStart, dayEnd);
+    }
+
+    /**
+     * Reads a full day name in any case, or a date in MM-dd-yyyy format, from {@code text[from, to)}.
+     * As with {@code DateTimeFormatter}'s default resolver, a day of month past the end of the month
+     * resolves to the last day of the month.
+     */
+    private boolean scanDayOrDate(int from, int to) {
+        int length = to - from;
+        dayOfWeek = null;
+        date = null;
+        for (DayOfWeek day : DAYS) {
+            if (day.name().length() == length && text.regionMatches(true, from, day.name(), 0, length)) {
+                dayOfWeek = day;
+                return true;
+            }
+        }
+
+        if (length == DATE_LENGTH && text.charAt(from + 2) == '-' && text.charAt(from + 5) == '-') {
+            int month = readDigits(from, 2);
+            int day = readDigits(from + 3, 2);
+            int year = readDigits(from + 6, 4);
+            if (month >= 1 && month <= 12 && day >= 1 && day <= 31 && year >= 1) {
+                YearMonth yearMonth = YearMonth.of(year, month);
+                date = yearMonth.atDay(Math.min(day, yearMonth.lengthOfMonth()));
+                return true;
+            }
+        }
+
+        for (int i = from; i < to; i++) {
+            if (Character.isDigit(text.charAt(i))) {
+                return fail(MESSAGE_INVALID_DATE);
+            }
+        }
+        return fail(MESSAGE_INVALID_DAY);
+    }
+
+    /**
+     * Returns the time in HH:mm format in {@code text[from, to)}, or null if there is none.
+     */
+    private LocalTime scanTime(int from, int to) {
+        if (to - from != TIME_LENGTH || text.charAt(from + 2) != ':') {
+            return null;
+        }
+        int hour = readDigits(from, 2);
+        int minute = readDigits(from + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /**
+     * Returns the number written with {@code count} ASCII digits from {@code from}, or -1 if any is not a digit.
+     */
+    private int readDigits(int from, int count) {
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first {@code c} in {@code text[from, to)}, or -1 if there is none.
+     */
+    private int indexOf(char c, int from, int to) {
+        int index = text.indexOf(c, from);
+        return index < to ? index : -1;
+    }
+
+    private int skipWhitespace(int from, int to) {
+        int i = from;
+        while (i < to && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int trimEnd(int from, int to) {
+        int i = to;
+        while (i > from && Character.isWhitespace(text.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private boolean fail(String message) {
+        error = message;
+        return false;
+    }
+
+    /**
+     * The outcome of a scan: either the lesson slots in chronological order, or what is wrong with the text.
+     */
+    static final class Result {
+        private final List<LessonSlot> slots;
+        private final String error;
+
+        private Result(List<LessonSlot> slots, String error) {
+            this.slots = slots;
+            this.error = error;
+        }
+
+        boolean isValid() {
+            return error == null;
+        }
+
+        List<LessonSlot> getSlots() {
+            return slots;
+        }
+
+        String getError() {
+            return error;
+        }
+    }
+}
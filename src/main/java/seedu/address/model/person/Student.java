@@ -1,21 +1,15 @@
 package seedu.address.model.person;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
-import seedu.address.model.person.exceptions.DuplicatePersonException;
-import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a student in the address book.
  * Inherits common fields and methods from {@link Person}.
+ * Links to parents are held by the address book, not by the student.
  */
 public class Student extends Person {
-    private final List<Parent> parents = new ArrayList<>();
-    private List<String> linkedNames = new ArrayList<>(); // temporary names from JSON
-
     private final Schedule schedule;
     /**
      * Constructs a {@code Student} with the specified details.
@@ -23,7 +17,7 @@ public class Student extends Person {
      */
     public Student(Name name, Phone phone, Email email, Address address, Note note, Schedule schedule,
                    Cost cost, PaymentStatus paymentStatus, Set<Tag> tags) {
-        super(new Type(Type.STUDENT), name, phone, email, address, note, cost, paymentStatus, tags);
+        super(Type.of(Type.STUDENT), name, phone, email, address, note, cost, paymentStatus, tags);
         this.schedule = schedule;
     }
 
@@ -50,44 +44,4 @@ public class Student extends Person {
     public String toString() {
         return super.toString() + "; Schedule: " + schedule;
     }
-    /**
-     * Adds a parent {@link Parent} to this student's list of parents.
-     * If the parent is already linked, throw an exception.
-     *
-     * @param parent the {@link Student} to be added
-     * @throws DuplicatePersonException if the parent is already linked
-     */
-    public void addParent(Parent parent) {
-        if (!this.parents.contains(parent)) {
-            parents.add(parent);
-        } else {
-            throw new DuplicatePersonException();
-        }
-    }
-    /**
-     * Removes a parent {@link Parent} from this student's list of parents.
-     * If the parent is not currently linked, an exception is thrown.
-     *
-     * @param parent the {@link Parent} to be removed from this student's parents
-     * @throws PersonNotFoundException if the parent is not currently linked
-     */
-    public void removeParent(Parent parent) {
-        if (this.parents.contains(parent)) {
-            parents.remove(parent);
-        } else {
-            throw new PersonNotFoundException();
-        }
-    }
-
-    public void setLinkedNames(List<String> names) {
-        this.linkedNames = names;
-    }
-
-    public List<String> getLinkedNames() {
-        return linkedNames;
-    }
-
-    public List<Parent> getParents() {
-        return parents;
-    }
 }
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Person's type (Student or Parent) in the address book.
+ * There are only two types, so {@link #of(String)} hands out one shared instance of each.
  * Guarantees: immutable; is valid as declared in {@link #isValidType(String)}
  */
 public class Type {
@@ -15,6 +16,9 @@ public class Type {
     public static final String STUDENT = "s";
     public static final String PARENT = "p";
 
+    private static final Type STUDENT_TYPE = new Type(STUDENT);
+    private static final Type PARENT_TYPE = new Type(PARENT);
+
     public final String value; //DEFENSIVE PROGRAMMING: IMMUTABILITY
 
     /**
@@ -28,6 +32,17 @@ public class Type {
         this.value = type.trim().toLowerCase();
     }
 
+    /**
+     * Returns the shared {@code Type} of the given type string.
+     *
+     * @param type A valid type string.
+     */
+    public static Type of(String type) {
+        requireNonNull(type);
+        checkArgument(isValidType(type), MESSAGE_CONSTRAINTS);
+        return type.trim().equalsIgnoreCase(STUDENT) ? STUDENT_TYPE : PARENT_TYPE;
+    }
+
     /**
      * Returns true if a given string is a valid type.
      */
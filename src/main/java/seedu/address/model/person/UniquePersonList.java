@@ -1,13 +1,23 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.persistent.PersistentHashMap;
+import seedu.address.model.persistent.PersistentIntMap;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,32 +30,157 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The contents are held in persistent maps, which are never modified: every change replaces them with new versions
+ * that share all but O(log n) of their nodes with the old ones. Copying the list is therefore O(1), and a copy is
+ * unaffected by later changes to either list. Each person is stored under a sequence number that increases in list
+ * order, and a hash map from each person's {@code Name} (their identity) to that number finds a person, and their
+ * position in the list, in O(log n) time.
+ *
+ * Every person in the list also has a numeric ID, assigned when the person is added and carried over when the person
+ * is replaced. IDs are never reused, so they can be persisted and used to refer to persons across edits and renames.
+ *
+ * Changes can be grouped into a batch, which is reported to the listeners of the list as one change when it ends,
+ * or undone without being reported if it is rolled back.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final ObservablePersons internalList = new ObservablePersons();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The persons in list order, keyed by sequence number. */
+    private PersistentIntMap<Person> persons = PersistentIntMap.empty();
+    private PersistentHashMap<Name, Slot> slots = PersistentHashMap.empty();
+    /** The sequence number of the person with each ID. */
+    private PersistentIntMap<Integer> sequenceNumbers = PersistentIntMap.empty();
+    private int nextId;
+    private int nextSequenceNumber;
+
+    /** The contents before the batch of changes in progress, or null if there is none. */
+    private UniquePersonList stateBeforeBatch;
+    /** The sequence numbers of the persons added, replaced or removed in the batch in progress. */
+    private final Set<Integer> sequenceNumbersChangedInBatch = new TreeSet<>();
+    /** Whether the batch in progress renumbered or replaced every person, so that it must report a full replacement. */
+    private boolean isReplacedInBatch;
+
+    public UniquePersonList() {}
+
+    /**
+     * Creates a list with the persons and IDs of {@code toBeCopied}, in O(1) time.
+     */
+    public UniquePersonList(UniquePersonList toBeCopied) {
+        requireNonNull(toBeCopied);
+        copyFrom(toBeCopied);
+    }
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slots.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list whose identity is {@code name}, if any.
+     */
+    public Optional<Person> find(Name name) {
+        requireNonNull(name);
+        Slot slot = slots.get(name);
+        return slot == null ? Optional.empty() : Optional.of(persons.get(slot.sequenceNumber));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> findById(int id) {
+        Integer sequenceNumber = sequenceNumbers.get(id);
+        return sequenceNumber == null ? Optional.empty() : Optional.of(persons.get(sequenceNumber));
+    }
+
+    /**
+     * Returns the ID of the person in the list with the same identity as {@code person}.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    public int getId(Person person) {
+        requireNonNull(person);
+        Slot slot = slots.get(person.getName());
+        if (slot == null) {
+            throw new PersonNotFoundException();
+        }
+        return slot.id;
+    }
+
+    /**
+     * Returns the position of the person in the list with exactly the same fields as {@code toFind},
+     * or -1 if there is no such person.
+     */
+    public int indexOf(Person toFind) {
+        requireNonNull(toFind);
+        Slot slot = slots.get(toFind.getName());
+        if (slot == null || !persons.get(slot.sequenceNumber).equals(toFind)) {
+            return -1;
+        }
+        return persons.indexOf(slot.sequenceNumber);
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a person to the list under a newly assigned ID.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(toAdd, nextId);
+    }
+
+    /**
+     * Adds a person to the list under the given {@code id}.
+     * The person must not already exist in the list, and {@code id} must be non-negative and not in use.
+     */
+    public void add(Person toAdd, int id) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        checkArgument(id >= 0 && !sequenceNumbers.containsKey(id), "Person ID " + id + " is invalid or already in use");
+
+        int sequenceNumber = nextSequenceNumber++;
+        persons = persons.put(sequenceNumber, toAdd);
+        slots = slots.put(toAdd.getName(), new Slot(sequenceNumber, id));
+        sequenceNumbers = sequenceNumbers.put(id, sequenceNumber);
+        nextId = Math.max(nextId, id + 1);
+        fireAdded(sequenceNumber, persons.size() - 1);
+    }
+
+    /**
+     * Inserts a person into the list at position {@code index} under the given {@code id}.
+     * The person must not already exist in the list, {@code id} must be non-negative and not in use,
+     * and {@code index} must be between 0 and the size of the list.
+     */
+    public void add(Person toAdd, int id, int index) {
+        requireNonNull(toAdd);
+        checkArgument(index >= 0 && index <= persons.size(), "Position " + index + " is out of range");
+        if (index == persons.size()) {
+            add(toAdd, id);
+            return;
+        }
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        checkArgument(id >= 0 && !sequenceNumbers.containsKey(id), "Person ID " + id + " is invalid or already in use");
+
+        if (index > 0 && persons.keyAt(index - 1) == persons.keyAt(index) - 1) {
+            spreadSequenceNumbers();
+        }
+        // The number just before that of the person now at the position is free, as no person lies between them
+        int sequenceNumber = persons.keyAt(index) - 1;
+        persons = persons.put(sequenceNumber, toAdd);
+        slots = slots.put(toAdd.getName(), new Slot(sequenceNumber, id));
+        sequenceNumbers = sequenceNumbers.put(id, sequenceNumber);
+        nextId = Math.max(nextId, id + 1);
+        fireAdded(sequenceNumber, index);
     }
 
     /**
@@ -56,7 +191,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +200,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Slot slot = slots.get(target.getName());
+        Person replaced = persons.get(slot.sequenceNumber);
+        if (!target.getName().equals(editedPerson.getName())) {
+            slots = slots.remove(target.getName()).put(editedPerson.getName(), slot);
+        }
+        persons = persons.put(slot.sequenceNumber, editedPerson);
+        fireSet(slot.sequenceNumber, index, replaced);
     }
 
     /**
@@ -74,27 +215,128 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Slot slot = slots.get(toRemove.getName());
+        Person removed = persons.get(slot.sequenceNumber);
+        persons = persons.remove(slot.sequenceNumber);
+        slots = slots.remove(toRemove.getName());
+        sequenceNumbers = sequenceNumbers.remove(slot.id);
+        fireRemoved(slot.sequenceNumber, index, removed);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, keeping their IDs.
+     * Takes O(1) time, and later changes to either list do not affect the other.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        List<Person> replaced = persons.values();
+        copyFrom(replacement);
+        fireReplaced(replaced);
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, numbering them from 0 in list order.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException naming every identity that occurs more than once in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<Integer> sequentialIds = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            sequentialIds.add(i);
+        }
+        setPersons(persons, sequentialIds);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, the i-th of which gets the i-th ID in {@code personIds}.
+     * {@code persons} must not contain duplicate persons, and {@code personIds} must be non-negative and distinct.
+     *
+     * @throws DuplicatePersonException naming every identity that occurs more than once in {@code persons}.
+     */
+    public void setPersons(List<Person> persons, List<Integer> personIds) {
+        requireAllNonNull(persons, personIds);
+        checkArgument(persons.size() == personIds.size(), "Every person must have exactly one ID");
+        List<Person> personsInOrder = List.copyOf(persons);
+
+        PersistentHashMap<Name, Slot> newSlots = PersistentHashMap.empty();
+        PersistentIntMap<Integer> newSequenceNumbers = PersistentIntMap.empty();
+        Set<Name> duplicateNames = new LinkedHashSet<>();
+        int newNextId = 0;
+        int sequenceNumber = 0;
+        Iterator<Integer> ids = personIds.iterator();
+        for (Person person : personsInOrder) {
+            int id = ids.next();
+            checkArgument(id >= 0 && !newSequenceNumbers.containsKey(id),
+                    "Person ID " + id + " is invalid or already in use");
+            if (newSlots.containsKey(person.getName())) {
+                duplicateNames.add(person.getName());
+            }
+            newSlots = newSlots.put(person.getName(), new Slot(sequenceNumber, id));
+            newSequenceNumbers = newSequenceNumbers.put(id, sequenceNumber);
+            newNextId = Math.max(newNextId, id + 1);
+            sequenceNumber++;
         }
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
+        }
+
+        List<Person> replaced = this.persons.values();
+        this.persons = PersistentIntMap.sequential(personsInOrder.size(), personsInOrder::get);
+        slots = newSlots;
+        sequenceNumbers = newSequenceNumbers;
+        nextId = newNextId;
+        nextSequenceNumber = personsInOrder.size();
+        fireReplaced(replaced);
+    }
+
+    /**
+     * Starts a batch of changes: until the batch ends, changes are not reported to the listeners of the list.
+     * Ending the batch reports them all as one change, and rolling it back undoes them without reporting them.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        if (stateBeforeBatch != null) {
+            throw new IllegalStateException("A batch of changes is already in progress");
+        }
+        stateBeforeBatch = new UniquePersonList(this);
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Ends the batch in progress, reporting its changes to the listeners of the list as one change.
+     * The change consists of one addition, replacement or removal for each person that differs from before the batch,
+     * in list order, so reporting it takes O(k log n) time for k such persons.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void endBatch() {
+        UniquePersonList before = finishBatch();
+        if (isReplacedInBatch) {
+            isReplacedInBatch = false;
+            internalList.fireReplaced(before.persons.values());
+        } else {
+            internalList.fireChanged(before.persons, sequenceNumbersChangedInBatch);
+        }
+        sequenceNumbersChangedInBatch.clear();
+    }
+
+    /**
+     * Ends the batch in progress by restoring the contents from before it, without reporting anything to the
+     * listeners of the list, which never saw its changes.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        copyFrom(finishBatch());
+        isReplacedInBatch = false;
+        sequenceNumbersChangedInBatch.clear();
     }
 
     /**
@@ -104,9 +346,83 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Renumbers the persons with even sequence numbers, in list order, so that there is a free number between
+     * every two adjacent persons.
+     */
+    private void spreadSequenceNumbers() {
+        List<Person> personsInOrder = persons.values();
+        PersistentHashMap<Name, Slot> newSlots = slots;
+        PersistentIntMap<Integer> newSequenceNumbers = sequenceNumbers;
+        PersistentIntMap<Person> newPersons = PersistentIntMap.empty();
+        int sequenceNumber = 0;
+        for (Person person : personsInOrder) {
+            int id = slots.get(person.getName()).id;
+            newSlots = newSlots.put(person.getName(), new Slot(sequenceNumber, id));
+            newSequenceNumbers = newSequenceNumbers.put(id, sequenceNumber);
+            newPersons = newPersons.put(sequenceNumber, person);
+            sequenceNumber += 2;
+        }
+        persons = newPersons;
+        slots = newSlots;
+        sequenceNumbers = newSequenceNumbers;
+        nextSequenceNumber = sequenceNumber;
+        // The sequence numbers recorded so far in a batch no longer identify the same persons
+        isReplacedInBatch = stateBeforeBatch != null;
+    }
+
+    private UniquePersonList finishBatch() {
+        if (stateBeforeBatch == null) {
+            throw new IllegalStateException("No batch of changes is in progress");
+        }
+        UniquePersonList before = stateBeforeBatch;
+        stateBeforeBatch = null;
+        return before;
+    }
+
+    private void fireAdded(int sequenceNumber, int index) {
+        if (stateBeforeBatch != null) {
+            sequenceNumbersChangedInBatch.add(sequenceNumber);
+        } else {
+            internalList.fireAdded(index);
+        }
+    }
+
+    private void fireSet(int sequenceNumber, int index, Person replaced) {
+        if (stateBeforeBatch != null) {
+            sequenceNumbersChangedInBatch.add(sequenceNumber);
+        } else {
+            internalList.fireSet(index, replaced);
+        }
+    }
+
+    private void fireRemoved(int sequenceNumber, int index, Person removed) {
+        if (stateBeforeBatch != null) {
+            sequenceNumbersChangedInBatch.add(sequenceNumber);
+        } else {
+            internalList.fireRemoved(index, removed);
+        }
+    }
+
+    private void fireReplaced(List<Person> replaced) {
+        if (stateBeforeBatch != null) {
+            isReplacedInBatch = true;
+        } else {
+            internalList.fireReplaced(replaced);
+        }
+    }
+
+    private void copyFrom(UniquePersonList source) {
+        persons = source.persons;
+        slots = source.slots;
+        sequenceNumbers = source.sequenceNumbers;
+        nextId = source.nextId;
+        nextSequenceNumber = source.nextSequenceNumber;
+    }
+
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return persons.values().iterator();
     }
 
     @Override
@@ -121,30 +437,95 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return persons.values().equals(otherUniquePersonList.persons.values());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return persons.values().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return persons.values().toString();
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Where a person is kept: their sequence number and their ID.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private static final class Slot {
+        private final int sequenceNumber;
+        private final int id;
+
+        Slot(int sequenceNumber, int id) {
+            this.sequenceNumber = sequenceNumber;
+            this.id = id;
+        }
+    }
+
+    /**
+     * The current version of the persons, observable as a list that reports each change to the list.
+     */
+    private final class ObservablePersons extends ObservableListBase<Person> {
+
+        @Override
+        public Person get(int index) {
+            return persons.getAt(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return persons.values().iterator();
+        }
+
+        void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        void fireSet(int index, Person replaced) {
+            beginChange();
+            nextSet(index, replaced);
+            endChange();
+        }
+
+        void fireRemoved(int index, Person removed) {
+            beginChange();
+            nextRemove(index, removed);
+            endChange();
+        }
+
+        void fireReplaced(List<Person> replaced) {
+            beginChange();
+            nextReplace(0, persons.size(), replaced);
+            endChange();
+        }
+
+        /**
+         * Reports as one change the differences from {@code before} of the persons under {@code sequenceNumbers},
+         * given in ascending order, so that the positions of the parts of the change ascend too.
+         */
+        void fireChanged(PersistentIntMap<Person> before, Collection<Integer> sequenceNumbers) {
+            beginChange();
+            for (int sequenceNumber : sequenceNumbers) {
+                Person oldPerson = before.get(sequenceNumber);
+                Person newPerson = persons.get(sequenceNumber);
+                int index = persons.rank(sequenceNumber);
+                if (oldPerson != null && newPerson != null) {
+                    nextSet(index, oldPerson);
+                } else if (oldPerson != null) {
+                    nextRemove(index, oldPerson);
+                } else if (newPerson != null) {
+                    nextAdd(index, index + 1);
                 }
             }
+            endChange();
         }
-        return true;
     }
 }
@@ -0,0 +1,214 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The weekly lesson times of a schedule as a bitmap of 7 x 96 fifteen-minute cells, one bit per cell,
+ * so that overlap, union and free-time computations over weekly lessons are word-level bit operations.
+ * A lesson that does not start or end on a quarter hour occupies every cell it touches.
+ * Guarantees: immutable
+ */
+public final class WeeklyCells {
+
+    public static final int MINUTES_PER_CELL = 15;
+    public static final int CELLS_PER_DAY = 24 * 60 / MINUTES_PER_CELL;
+    public static final int CELL_COUNT = 7 * CELLS_PER_DAY;
+    public static final WeeklyCells EMPTY = of(List.of());
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+    private static final int WORD_COUNT = (CELL_COUNT + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+
+    private final long[] words;
+
+    private WeeklyCells(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns the cells occupied by the weekly lessons in {@code slots}. One-off lessons are ignored.
+     */
+    public static WeeklyCells of(Collection<LessonSlot> slots) {
+        requireNonNull(slots);
+        long[] words = new long[WORD_COUNT];
+        for (LessonSlot slot : slots) {
+            if (slot.isWeekly()) {
+                int dayStart = slot.getDayOfWeek().ordinal() * CELLS_PER_DAY;
+                int firstCell = slot.getStartMinute() / MINUTES_PER_CELL;
+                int endCell = (slot.getEndMinute() + MINUTES_PER_CELL - 1) / MINUTES_PER_CELL;
+                setRange(words, dayStart + firstCell, dayStart + endCell);
+            }
+        }
+        return new WeeklyCells(words);
+    }
+
+    /**
+     * Returns the cells lying wholly between {@code startTime} and {@code endTime} on every day of the week.
+     * Unlike lessons, the range is rounded inward, so that every cell returned is within the range.
+     */
+    public static WeeklyCells everyDay(LocalTime startTime, LocalTime endTime) {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        int firstCell = (toMinuteOfDay(startTime) + MINUTES_PER_CELL - 1) / MINUTES_PER_CELL;
+        int endCell = toMinuteOfDay(endTime) / MINUTES_PER_CELL;
+        long[] words = new long[WORD_COUNT];
+        for (int dayStart = 0; dayStart < CELL_COUNT; dayStart += CELLS_PER_DAY) {
+            setRange(words, dayStart + firstCell, dayStart + endCell);
+        }
+        return new WeeklyCells(words);
+    }
+
+    /**
+     * Returns the cells occupied in any of {@code cells}.
+     */
+    public static WeeklyCells unionOf(Collection<WeeklyCells> cells) {
+        requireNonNull(cells);
+        long[] result = new long[WORD_COUNT];
+        for (WeeklyCells other : cells) {
+            for (int i = 0; i < WORD_COUNT; i++) {
+                result[i] |= other.words[i];
+            }
+        }
+        return new WeeklyCells(result);
+    }
+
+    /**
+     * Returns true if {@code minute} is the start of a cell, so that a time range bounded by such minutes
+     * occupies its cells exactly.
+     */
+    public static boolean isCellBoundary(int minute) {
+        return minute % MINUTES_PER_CELL == 0;
+    }
+
+    /**
+     * Returns true if this and {@code other} have an occupied cell in common.
+     */
+    public boolean intersects(WeeklyCells other) {
+        requireNonNull(other);
+        for (int i = 0; i < WORD_COUNT; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the cells occupied in this or {@code other}.
+     */
+    public WeeklyCells union(WeeklyCells other) {
+        requireNonNull(other);
+        long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new WeeklyCells(result);
+    }
+
+    /**
+     * Returns the cells occupied in this but not in {@code other}.
+     */
+    public WeeklyCells andNot(WeeklyCells other) {
+        requireNonNull(other);
+        long[] result = new long[WORD_COUNT];
+        for (int i = 0; i < WORD_COUNT; i++) {
+            result[i] = words[i] & ~other.words[i];
+        }
+        return new WeeklyCells(result);
+    }
+
+    /**
+     * Returns every maximal run of occupied cells within a day as a weekly lesson slot, in chronological order.
+     * A run reaching midnight ends at 23:59, as a slot cannot end at 24:00.
+     */
+    public List<LessonSlot> toSlots() {
+        List<LessonSlot> slots = new ArrayList<>();
+        int cell = nextCell(0, true);
+        while (cell < CELL_COUNT) {
+            int day = cell / CELLS_PER_DAY;
+            int dayStart = day * CELLS_PER_DAY;
+            int runEnd = Math.min(nextCell(cell, false), dayStart + CELLS_PER_DAY);
+            slots.add(LessonSlot.weekly(DayOfWeek.of(day + 1), toTime(cell - dayStart), toTime(runEnd - dayStart)));
+            cell = nextCell(runEnd, true);
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the first cell from {@code from} onwards that is occupied if {@code isOccupied},
+     * or free otherwise, or {@code CELL_COUNT} if there is none. Skips whole words at a time.
+     */
+    private int nextCell(int from, boolean isOccupied) {
+        int wordIndex = from / BITS_PER_WORD;
+        if (wordIndex >= WORD_COUNT) {
+            return CELL_COUNT;
+        }
+        long word = (isOccupied ? words[wordIndex] : ~words[wordIndex]) & (-1L << (from % BITS_PER_WORD));
+        while (word == 0) {
+            if (++wordIndex == WORD_COUNT) {
+                return CELL_COUNT;
+            }
+            word = isOccupied ? words[wordIndex] : ~words[wordIndex];
+        }
+        return Math.min(wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word), CELL_COUNT);
+    }
+
+    private static LocalTime toTime(int cellOfDay) {
+        return cellOfDay == CELLS_PER_DAY ? END_OF_DAY : LocalTime.of(0, 0).plusMinutes(cellOfDay * MINUTES_PER_CELL);
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Returns true if the cell starting {@code cell} x 15 minutes into {@code day} is occupied.
+     */
+    public boolean isOccupied(DayOfWeek day, int cell) {
+        requireNonNull(day);
+        int index = day.ordinal() * CELLS_PER_DAY + cell;
+        return (words[index / BITS_PER_WORD] & (1L << (index % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Returns true if no cell is occupied.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void setRange(long[] words, int from, int to) {
+        int cell = from;
+        while (cell < to) {
+            int bit = cell % BITS_PER_WORD;
+            int count = Math.min(BITS_PER_WORD - bit, to - cell);
+            long mask = count == BITS_PER_WORD ? -1L : ((1L << count) - 1) << bit;
+            words[cell / BITS_PER_WORD] |= mask;
+            cell += count;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WeeklyCells // instanceof handles nulls
+                && Arrays.equals(words, ((WeeklyCells) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
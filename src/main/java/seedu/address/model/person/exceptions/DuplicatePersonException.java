@@ -1,11 +1,38 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Name> duplicateNames;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateNames = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports the names shared by more than one person.
+     */
+    public DuplicatePersonException(Collection<Name> duplicateNames) {
+        super("Operation would result in duplicate persons: " + duplicateNames.stream()
+                .map(name -> name.fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicateNames = List.copyOf(duplicateNames);
+    }
+
+    /**
+     * Returns the names that collide, or an empty list if they were not recorded.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
     }
 }
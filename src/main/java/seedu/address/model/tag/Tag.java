@@ -3,8 +3,11 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the address book.
+ * Tags are shared by many persons, so {@link #of(String)} hands out one canonical instance per tag name in use.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
@@ -12,6 +15,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "^[A-Za-z0-9]+(?: [A-Za-z0-9]+)*$";
 
+    private static final WeakInterner<Tag> INTERNED = new WeakInterner<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +30,17 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        Tag interned = INTERNED.get(tagName);
+        return interned != null ? interned : INTERNED.intern(tagName, new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -23,8 +23,8 @@ import seedu.address.model.tag.Tag;
  */
 public class SampleDataUtil {
     public static final Note EMPTY_NOTE = new Note("");
-    public static final Schedule EMPTY_SCHEDULE = new Schedule("");
-    public static final PaymentStatus UNPAID_STATUS = new PaymentStatus(false);
+    public static final Schedule EMPTY_SCHEDULE = Schedule.of("");
+    public static final PaymentStatus UNPAID_STATUS = PaymentStatus.UNPAID;
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Student(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
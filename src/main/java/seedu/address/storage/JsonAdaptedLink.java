@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a link between a student and a parent, stored as a pair of person IDs.
+ */
+class JsonAdaptedLink {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Link's %s field is missing!";
+
+    private final Integer student;
+    private final Integer parent;
+
+    /**
+     * Constructs a {@code JsonAdaptedLink} with the given person IDs.
+     */
+    @JsonCreator
+    public JsonAdaptedLink(@JsonProperty("student") Integer student, @JsonProperty("parent") Integer parent) {
+        this.student = student;
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the ID of the linked student.
+     *
+     * @throws IllegalValueException if the field is missing.
+     */
+    int getStudent() throws IllegalValueException {
+        if (student == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "student"));
+        }
+        return student;
+    }
+
+    /**
+     * Returns the ID of the linked parent.
+     *
+     * @throws IllegalValueException if the field is missing.
+     */
+    int getParent() throws IllegalValueException {
+        if (parent == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "parent"));
+        }
+        return parent;
+    }
+}
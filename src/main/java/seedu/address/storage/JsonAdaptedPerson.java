@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -31,6 +32,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Integer id;
     private final String type;
     private final String name;
     private final String phone;
@@ -40,14 +42,25 @@ class JsonAdaptedPerson {
     private final String cost;
     private final Boolean paymentStatus;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
-    private final List<String> linkedNames = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> linkedNames = new ArrayList<>(); // links by name, only read from older data files
     private final String schedule;
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPerson(String type, String name, String phone, String email, String address, String note,
+                             String cost, Boolean paymentStatus, List<JsonAdaptedTag> tags,
+                             List<String> linkedNames, String schedule) {
+        this(null, type, name, phone, email, address, note, cost, paymentStatus, tags, linkedNames, schedule);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("type") String type, @JsonProperty("name") String name,
+    public JsonAdaptedPerson(@JsonProperty("id") Integer id,
+                             @JsonProperty("type") String type, @JsonProperty("name") String name,
                              @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email, @JsonProperty("address") String address,
                              @JsonProperty("note") String note, @JsonProperty("cost") String cost,
@@ -55,6 +68,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("linkedNames") List<String> linkedNames,
                              @JsonProperty("schedule") String schedule) {
+        this.id = id;
         this.type = type;
         this.name = name;
         this.phone = phone;
@@ -73,9 +87,17 @@ class JsonAdaptedPerson {
     }
 
     /**
-     * Converts a given {@code Person} into this class for Jackson use.
+     * Converts a given {@code Person} into this class for Jackson use, without an id.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Person} with the given {@code id} into this class for Jackson use.
+     */
+    public JsonAdaptedPerson(Person source, Integer id) {
+        this.id = id;
         type = source.getType().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
@@ -90,15 +112,23 @@ class JsonAdaptedPerson {
         if (source instanceof Student student) {
             // preserve schedule
             schedule = student.getSchedule() != null ? student.getSchedule().value : null;
-
-            // include linked parent names
-            for (Parent parent : student.getParents()) {
-                linkedNames.add(parent.getName().fullName);
-            }
         } else {
             schedule = null;
         }
+    }
 
+    /**
+     * Returns the id of this person, or null if the data file did not record one.
+     */
+    Integer getId() {
+        return id;
+    }
+
+    /**
+     * Returns the names of the parents this person was linked to in a data file that predates link ids.
+     */
+    List<String> getLinkedNames() {
+        return linkedNames;
     }
 
     /**
@@ -118,7 +148,7 @@ class JsonAdaptedPerson {
         if (!Type.isValidType(type)) {
             throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
         }
-        final Type modelType = new Type(type);
+        final Type modelType = Type.of(type);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -162,24 +192,25 @@ class JsonAdaptedPerson {
         final Cost modelCost;
         if (cost == null || cost.isEmpty()) {
             modelCost = null;
-        } else if (!Cost.isValidCost(cost)) {
+        } else if (!Cost.isValidStoredCost(cost)) {
             throw new IllegalValueException(Cost.MESSAGE_CONSTRAINTS);
         } else {
-            modelCost = new Cost(cost);
+            modelCost = Cost.fromStored(cost);
         }
 
         if (paymentStatus == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     PaymentStatus.class.getSimpleName()));
         }
-        final PaymentStatus modelPaymentStatus = new PaymentStatus(paymentStatus);
+        final PaymentStatus modelPaymentStatus = PaymentStatus.of(paymentStatus);
 
-        final Schedule modelSchedule = (schedule == null) ? new Schedule("") : new Schedule(schedule);
+        final Schedule modelSchedule = Schedule.tryParse(schedule == null ? "" : schedule)
+                .orElseThrow(() -> new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS));
 
 
         if (modelType.isStudent()) {
             // Use the constructor that preserves schedule
-            Student student = new Student(
+            return new Student(
                     modelName,
                     modelPhone,
                     modelEmail,
@@ -190,10 +221,6 @@ class JsonAdaptedPerson {
                     modelPaymentStatus,
                     modelTags
             );
-
-            student.setLinkedNames(linkedNames == null ? new ArrayList<>() : new ArrayList<>(linkedNames));
-            return student;
-
         } else {
             return new Parent(
                     modelName,
@@ -3,8 +3,8 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -13,9 +13,11 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -23,18 +25,22 @@ import seedu.address.model.person.Student;
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
-    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Persons list contains duplicate id(s).";
+    public static final String MESSAGE_INVALID_ID = "Person ids must be non-negative integers.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
-
-    private final List<Person> modelPersons = new ArrayList<>();
+    private final List<JsonAdaptedLink> links = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and links.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                       @JsonProperty("links") List<JsonAdaptedLink> links) {
         this.persons.addAll(persons);
+        if (links != null) {
+            this.links.addAll(links);
+        }
     }
 
     /**
@@ -43,55 +49,84 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        for (Person person : source.getPersonList()) {
+            int id = source.getId(person);
+            persons.add(new JsonAdaptedPerson(person, id));
+            if (person instanceof Student student) {
+                for (Parent parent : source.getParentsOf(student)) {
+                    links.add(new JsonAdaptedLink(id, source.getId(parent)));
+                }
+            }
+        }
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons saved without an id are given fresh ones. Links that do not join a student to a parent
+     * in this address book are dropped, as are names in the legacy {@code linkedNames} field that do not
+     * belong to a parent.
      *
      * @throws IllegalValueException if there were any data constraints violated.
+     * @throws DuplicatePersonException if the persons list contains duplicate persons.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        List<Integer> ids = new ArrayList<>(persons.size());
+        Set<Integer> usedIds = new HashSet<>();
+        int nextId = 0;
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+            Integer id = jsonAdaptedPerson.getId();
+            if (id != null && id < 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_ID);
+            }
+            if (id != null && !usedIds.add(id)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+            }
+            ids.add(id);
+            nextId = id == null ? nextId : Math.max(nextId, id + 1);
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                ids.set(i, nextId++);
             }
-            modelPersons.add(person);
         }
 
-        for (Person person : modelPersons) {
-            if (person instanceof Student student) {
-                Set<String> processedParentNames = new HashSet<>();
-                for (String parentNameRaw : student.getLinkedNames()) {
-                    if (parentNameRaw == null) {
-                        continue;
-                    }
-                    String parentName = parentNameRaw.trim();
-                    if (parentName.isEmpty() || !processedParentNames.add(parentName)) {
-                        continue; // skip empty or duplicate names from malformed data
-                    }
-                    for (Person possibleParent : modelPersons) {
-                        if (possibleParent instanceof Parent parent
-                                && parent.getName().fullName.equals(parentName)) {
-                            if (!student.getParents().contains(parent)) {
-                                student.addParent(parent);
-                            }
-                            if (!parent.getChildren().contains(student)) {
-                                parent.addChild(student);
-                            }
-                        }
-                    }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons, ids);
+
+        for (JsonAdaptedLink link : links) {
+            Optional<Person> student = addressBook.getPersonById(link.getStudent());
+            Optional<Person> parent = addressBook.getPersonById(link.getParent());
+            if (student.orElse(null) instanceof Student s && parent.orElse(null) instanceof Parent p) {
+                addLinkIfAbsent(addressBook, s, p);
+            }
+        }
+
+        for (int i = 0; i < modelPersons.size(); i++) {
+            if (modelPersons.get(i) instanceof Student student) {
+                for (String parentName : persons.get(i).getLinkedNames()) {
+                    findParent(addressBook, parentName)
+                            .ifPresent(parent -> addLinkIfAbsent(addressBook, student, parent));
                 }
             }
         }
+        return addressBook;
+    }
 
-        for (Person p : modelPersons) {
-            addressBook.addPerson(p);
+    private static void addLinkIfAbsent(AddressBook addressBook, Student student, Parent parent) {
+        if (!addressBook.hasLink(student, parent)) {
+            addressBook.addLink(student, parent);
         }
+    }
 
-        return addressBook;
+    private static Optional<Parent> findParent(AddressBook addressBook, String rawName) {
+        if (rawName == null || !Name.isValidName(rawName.trim())) {
+            return Optional.empty(); // skip empty or malformed names
+        }
+        return addressBook.findPerson(new Name(rawName.trim()))
+                .filter(person -> person instanceof Parent)
+                .map(person -> (Parent) person);
     }
 
 }
@@ -1,8 +1,19 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -10,25 +21,53 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * As the user types, it suggests ways to complete the command, which are computed on a background thread so that
+ * typing is never held up by them.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** Computes completions one at a time, so that a request still queued when the text changes can be dropped. */
+    private static final ExecutorService COMPLETION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final CommandExecutor commandExecutor;
+    private final CompletionProvider completionProvider;
+    private final ContextMenu completionMenu = new ContextMenu();
+
+    /** The completion request for the current text, which is the only one whose result is shown. */
+    private Future<?> pendingCompletion;
+    private long latestCompletionRequest;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that suggests no completions.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> List.of());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that suggests the completions given by
+     * {@code completionProvider}.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CompletionProvider completionProvider) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.completionProvider = completionProvider;
+        // calls #setStyleToDefault() and asks for completions whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestCompletions(newText);
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
     }
 
     /**
@@ -49,6 +88,60 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Computes the completions of {@code commandText} in the background and shows them if the text is still the
+     * same by then. The request for the previous text is cancelled if it has not started.
+     */
+    private void requestCompletions(String commandText) {
+        if (pendingCompletion != null) {
+            pendingCompletion.cancel(true);
+        }
+        long request = ++latestCompletionRequest;
+        if (commandText.isBlank()) {
+            pendingCompletion = null;
+            completionMenu.hide();
+            return;
+        }
+        pendingCompletion = COMPLETION_EXECUTOR.submit(() -> {
+            List<String> completions = completionProvider.getCompletions(commandText);
+            Platform.runLater(() -> showCompletions(request, completions));
+        });
+    }
+
+    private void showCompletions(long request, List<String> completions) {
+        if (request != latestCompletionRequest) {
+            return;
+        }
+        if (completions.isEmpty()) {
+            completionMenu.hide();
+            return;
+        }
+        completionMenu.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> {
+                commandTextField.setText(completion);
+                commandTextField.positionCaret(completion.length());
+            });
+            completionMenu.getItems().add(item);
+        }
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Completes the command with the first suggestion when Tab is pressed while suggestions are shown.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || !completionMenu.isShowing() || completionMenu.getItems().isEmpty()) {
+            return;
+        }
+        completionMenu.getItems().get(0).fire();
+        completionMenu.hide();
+        event.consume();
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +175,18 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests ways to complete a command.
+     */
+    @FunctionalInterface
+    public interface CompletionProvider {
+        /**
+         * Returns the ways to complete {@code commandText}, each as the whole command.
+         * This is called on a background thread.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import java.math.BigDecimal;
 import java.util.Comparator;
 import java.util.stream.Collectors;
 
@@ -11,6 +10,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
@@ -76,8 +76,9 @@ public class PersonCard extends UiPart<Region> {
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Linked parents and children are looked up in {@code addressBook}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, ReadOnlyAddressBook addressBook) {
         super(FXML);
         this.person = person;
         id.setText(displayedIndex + ". ");
@@ -118,7 +119,7 @@ public class PersonCard extends UiPart<Region> {
             parentsContainer.setManaged(true);
             parentsContainer.setVisible(true);
 
-            String parentNames = student.getParents().stream()
+            String parentNames = addressBook.getParentsOf(student).stream()
                     .sorted(Comparator.comparing(parent -> parent.getName().fullName))
                     .map(parent -> parent.getName().fullName)
                     .collect(Collectors.joining(", "));
@@ -141,7 +142,7 @@ public class PersonCard extends UiPart<Region> {
             parents.getChildren().clear();
             childrenContainer.setManaged(true);
             childrenContainer.setVisible(true);
-            String childNames = parent.getChildren().stream()
+            String childNames = addressBook.getChildrenOf(parent).stream()
                     .sorted(Comparator.comparing(child -> child.getName().fullName))
                     .map(child -> child.getName().fullName)
                     .collect(Collectors.joining(", "));
@@ -173,11 +174,8 @@ public class PersonCard extends UiPart<Region> {
         if (person.getCost() == null) {
             return null;
         }
-        if (person.getType().isParent()) {
-            BigDecimal amount = new BigDecimal(person.getCost().value);
-            if (amount.compareTo(BigDecimal.ZERO) == 0) {
-                return null;
-            }
+        if (person.getType().isParent() && person.getCost().isZero()) {
+            return null;
         }
         return person.getCost().toString();
     }
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,32 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullOrNegativeMaximum_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void editDistance_withinMaximum_returnsDistance() {
+        assertEquals(0, StringUtil.editDistance("alex", "alex", 0));
+        assertEquals(1, StringUtil.editDistance("yeo", "yeoh", 2)); // insertion
+        assertEquals(1, StringUtil.editDistance("bernice", "bernce", 2)); // deletion
+        assertEquals(2, StringUtil.editDistance("yoo", "yu", 2)); // substitution and deletion
+        assertEquals(2, StringUtil.editDistance("alex", "alxe", 2)); // transposition counts as two
+        assertEquals(3, StringUtil.editDistance("", "abc", 3));
+    }
+
+    @Test
+    public void editDistance_beyondMaximum_returnsMaximumPlusOne() {
+        assertEquals(3, StringUtil.editDistance("alex", "bob", 2));
+        assertEquals(2, StringUtil.editDistance("alex", "alexander", 1)); // lengths too far apart
+        assertEquals(1, StringUtil.editDistance("kitten", "sitting", 0));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    @Test
+    public void get_nothingInterned_returnsNull() {
+        assertNull(new WeakInterner<String>().get("absent"));
+    }
+
+    @Test
+    public void intern_equalKeys_returnsFirstValue() {
+        WeakInterner<StringBuilder> interner = new WeakInterner<>();
+        String key = new String("key");
+        StringBuilder first = new StringBuilder(key);
+        StringBuilder second = new StringBuilder(key);
+
+        assertSame(first, interner.intern(key, first));
+        assertSame(first, interner.intern(new String("key"), second));
+        assertSame(first, interner.get(new String("key")));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        assertThrows(NullPointerException.class, () -> interner.intern(null, "value"));
+        assertThrows(NullPointerException.class, () -> interner.intern("key", null));
+        assertThrows(NullPointerException.class, () -> interner.get(null));
+    }
+}
@@ -9,18 +9,23 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.PersonOrder;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.index.PersonQuery;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Cost;
 import seedu.address.model.person.Email;
@@ -29,7 +34,9 @@ import seedu.address.model.person.Note;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.PaymentStatus;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Schedule;
 import seedu.address.model.person.Student;
 import seedu.address.testutil.PersonBuilder;
 
@@ -61,6 +68,20 @@ public class AddCommandTest {
         assertThrows(CommandException.class, AddCommand.MESSAGE_DUPLICATE_PERSON, () -> addCommand.execute(modelStub));
     }
 
+    @Test
+    public void execute_clashingLesson_throwsCommandException() throws Exception {
+        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+        Person alice = new PersonBuilder().withName("Alice").withSchedule("Monday 14:00-16:00").build();
+        Person bob = new PersonBuilder().withName("Bob").withSchedule("Monday 15:00-17:00").build();
+        new AddCommand(alice).execute(modelStub);
+
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_LESSON_CLASH, "Alice"), () ->
+                new AddCommand(bob).execute(modelStub));
+
+        new AddCommand(bob, true).execute(modelStub);
+        assertEquals(List.of(alice, bob), modelStub.personsAdded);
+    }
+
     @Test
     public void equals() {
         Person alice = new PersonBuilder().withName("Alice").build();
@@ -83,12 +104,15 @@ public class AddCommandTest {
 
         // different person -> returns false
         assertNotEquals(addAliceCommand, addBobCommand);
+
+        // forced -> returns false
+        assertNotEquals(addAliceCommand, new AddCommand(alice, true));
     }
 
     @Test
     public void toStringMethod() {
         AddCommand addCommand = new AddCommand(ALICE);
-        String expected = AddCommand.class.getCanonicalName() + "{toAdd=" + ALICE + "}";
+        String expected = AddCommand.class.getCanonicalName() + "{toAdd=" + ALICE + ", isForced=false}";
         assertEquals(expected, addCommand.toString());
     }
 
@@ -141,11 +165,61 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <E extends Exception> void batch(Batch<E> changes) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPerson(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> getPersonById(int id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getLessonClashes(Schedule lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -156,6 +230,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Person updatePerson(int id, PersonPatch patch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasLink(Student student, Parent parent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addLink(Student student, Parent parent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeLink(Student student, Parent parent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Parent> getParentsOf(Student student) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Student> getChildrenOf(Parent parent) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -165,6 +269,31 @@ public class AddCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredPersonList(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersons(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(PersonQuery query, PersonOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeName(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeTag(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -203,6 +332,16 @@ public class AddCommandTest {
             personsAdded.add(person);
         }
 
+        @Override
+        public List<Student> getLessonClashes(Schedule lesson) {
+            requireNonNull(lesson);
+            return personsAdded.stream()
+                    .filter(person -> person instanceof Student
+                            && ((Student) person).getSchedule().clashesWith(lesson))
+                    .map(person -> (Student) person)
+                    .collect(Collectors.toList());
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
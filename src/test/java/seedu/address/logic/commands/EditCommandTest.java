@@ -194,6 +194,24 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_clashingSchedule_failure() {
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Person secondStudent = new PersonBuilder(secondPerson).withType("s").withSchedule("Monday 14:00-16:00").build();
+        model.setPerson(secondPerson, secondStudent);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withSchedule("Monday 15:00-17:00").build();
+
+        assertCommandFailure(new EditCommand(INDEX_FIRST_PERSON, descriptor), model,
+                String.format(Messages.MESSAGE_LESSON_CLASH, secondStudent.getName()));
+
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person editedPerson = new PersonBuilder(firstPerson).withSchedule("Monday 15:00-17:00").build();
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(firstPerson, editedPerson);
+        assertCommandSuccess(new EditCommand(INDEX_FIRST_PERSON, descriptor, true), model,
+                String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedPerson.getName()), expectedModel);
+    }
+
     @Test
     public void execute_editParentSchedule_failure() {
         // Create a Parent directly for this test
@@ -322,7 +340,7 @@ public class EditCommandTest {
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
         EditCommand editCommand = new EditCommand(index, editPersonDescriptor);
         String expected = EditCommand.class.getCanonicalName() + "{index=" + index + ", editPersonDescriptor="
-                + editPersonDescriptor + "}";
+                + editPersonDescriptor + ", isForced=false}";
         assertEquals(expected, editCommand.toString());
     }
 
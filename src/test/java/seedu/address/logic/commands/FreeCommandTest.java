@@ -0,0 +1,137 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class FreeCommandTest {
+
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime NOON = LocalTime.of(12, 0);
+    private static final Index FIRST = Index.fromOneBased(1);
+    private static final Index SECOND = Index.fromOneBased(2);
+    private static final Index PARENT = Index.fromOneBased(3);
+    private static final Index UNSCHEDULED = Index.fromOneBased(4);
+
+    private static final String EXPECTED_SLOTS_OF_GROUP = String.format(FreeCommand.MESSAGE_FREE_SLOTS, 2,
+            "09:00-12:00") + "\nSunday 09:00-10:00\nSunday 11:00-12:00\nSaturday 11:00-11:30";
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        Student busy = (Student) new PersonBuilder().withName("Busy Student").withTags("group")
+                .withSchedule("Monday 09:00-12:00, Tuesday 09:00-12:00, Wednesday 09:00-12:00, "
+                        + "Thursday 09:00-12:00, Friday 09:00-12:00, Saturday 09:00-11:00").build();
+        Student sibling = (Student) new PersonBuilder().withName("Busy Sibling").withTags("group")
+                .withSchedule("Saturday 11:30-12:00, Sunday 10:00-11:00, 12-15-2025 13:00-14:00").build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Busy Parent").build();
+        Student unscheduled = (Student) new PersonBuilder().withName("Free Student").build();
+
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(busy);
+        model.addPerson(sibling);
+        model.addPerson(parent);
+        model.addPerson(unscheduled);
+        model.addLink(busy, parent);
+        model.addLink(sibling, parent);
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_studentsByIndex_ranksCommonFreeSlotsByLength() {
+        FreeCommand command = new FreeCommand(List.of(FIRST, SECOND), Optional.empty(), Optional.empty(), NINE, NOON);
+        assertCommandSuccess(command, model, EXPECTED_SLOTS_OF_GROUP, expectedModel);
+    }
+
+    @Test
+    public void execute_studentsByParent_ranksCommonFreeSlotsByLength() {
+        FreeCommand command = new FreeCommand(List.of(), Optional.of(PARENT), Optional.empty(), NINE, NOON);
+        assertCommandSuccess(command, model, EXPECTED_SLOTS_OF_GROUP, expectedModel);
+    }
+
+    @Test
+    public void execute_studentsByTag_ranksCommonFreeSlotsByLength() {
+        FreeCommand command = new FreeCommand(List.of(FIRST), Optional.empty(), Optional.of(new Tag("group")),
+                NINE, NOON);
+        assertCommandSuccess(command, model, EXPECTED_SLOTS_OF_GROUP, expectedModel);
+    }
+
+    @Test
+    public void execute_hoursOffQuarterHour_onlyWholeCellsReturned() {
+        FreeCommand command = new FreeCommand(List.of(FIRST, SECOND), Optional.empty(), Optional.empty(),
+                LocalTime.of(9, 10), LocalTime.of(11, 20));
+        String expectedMessage = String.format(FreeCommand.MESSAGE_FREE_SLOTS, 2, "09:10-11:20")
+                + "\nSunday 09:15-10:00\nSaturday 11:00-11:15\nSunday 11:00-11:15";
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noCommonFreeSlot_success() {
+        FreeCommand command = new FreeCommand(List.of(FIRST, SECOND), Optional.empty(), Optional.empty(),
+                LocalTime.of(10, 0), LocalTime.of(11, 0));
+        String expectedMessage = String.format(FreeCommand.MESSAGE_NO_FREE_SLOTS, 2, "10:00-11:00");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyFreeSlots_showsLongestOnly() {
+        FreeCommand command = new FreeCommand(List.of(UNSCHEDULED, FIRST), Optional.empty(), Optional.empty(),
+                LocalTime.of(8, 0), LocalTime.of(20, 0));
+        String expectedMessage = String.format(FreeCommand.MESSAGE_FREE_SLOTS, 2, "08:00-20:00")
+                + "\nSunday 08:00-20:00\nSaturday 11:00-20:00\nMonday 12:00-20:00\nTuesday 12:00-20:00"
+                + "\nWednesday 12:00-20:00\nThursday 12:00-20:00\nFriday 12:00-20:00\nMonday 08:00-09:00"
+                + "\nTuesday 08:00-09:00\nWednesday 08:00-09:00\n"
+                + String.format(FreeCommand.MESSAGE_MORE_SLOTS, 3);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidSelection_failure() {
+        assertCommandFailure(new FreeCommand(List.of(PARENT), Optional.empty(), Optional.empty(), NINE, NOON),
+                model, String.format(FreeCommand.MESSAGE_NOT_STUDENT, "Busy Parent"));
+        assertCommandFailure(new FreeCommand(List.of(), Optional.of(FIRST), Optional.empty(), NINE, NOON),
+                model, String.format(FreeCommand.MESSAGE_NOT_PARENT, "Busy Student"));
+        assertCommandFailure(new FreeCommand(List.of(Index.fromOneBased(5)), Optional.empty(), Optional.empty(),
+                NINE, NOON), model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertCommandFailure(new FreeCommand(List.of(), Optional.empty(), Optional.of(new Tag("nobody")),
+                NINE, NOON), model, FreeCommand.MESSAGE_NO_STUDENTS);
+    }
+
+    @Test
+    public void equals() {
+        FreeCommand command = new FreeCommand(List.of(FIRST), Optional.empty(), Optional.empty(), NINE, NOON);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FreeCommand(List.of(FIRST), Optional.empty(), Optional.empty(), NINE, NOON)));
+
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ClearCommand()));
+        assertFalse(command.equals(new FreeCommand(List.of(SECOND), Optional.empty(), Optional.empty(),
+                NINE, NOON)));
+        assertFalse(command.equals(new FreeCommand(List.of(FIRST), Optional.of(PARENT), Optional.empty(),
+                NINE, NOON)));
+        assertFalse(command.equals(new FreeCommand(List.of(FIRST), Optional.empty(), Optional.empty(),
+                NINE, LocalTime.of(13, 0))));
+    }
+}
@@ -66,10 +66,7 @@ public class LinkCommandTest {
         Parent expectedParent = (Parent) expectedModel.getFilteredPersonList().get(1);
         Student expectedStudent = (Student) expectedModel.getFilteredPersonList().get(0);
 
-        expectedParent.addChild(expectedStudent);
-        expectedStudent.addParent(expectedParent);
-        expectedModel.setPerson(expectedStudent, expectedStudent);
-        expectedModel.setPerson(expectedParent, expectedParent);
+        expectedModel.addLink(expectedStudent, expectedParent);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
 
@@ -147,10 +144,7 @@ public class LinkCommandTest {
         Parent expectedParent = (Parent) expectedModel.getFilteredPersonList().get(parentIndex.getZeroBased());
         Student expectedStudent = (Student) expectedModel.getFilteredPersonList().get(studentIndex.getZeroBased());
 
-        expectedParent.addChild(expectedStudent);
-        expectedStudent.addParent(expectedParent);
-        expectedModel.setPerson(expectedStudent, expectedStudent);
-        expectedModel.setPerson(expectedParent, expectedParent);
+        expectedModel.addLink(expectedStudent, expectedParent);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
@@ -178,10 +172,7 @@ public class LinkCommandTest {
         Parent expectedParent = (Parent) expectedModel.getFilteredPersonList().get(parentIndex.getZeroBased());
         Student expectedStudent = (Student) expectedModel.getFilteredPersonList().get(studentIndex.getZeroBased());
 
-        expectedParent.addChild(expectedStudent);
-        expectedStudent.addParent(expectedParent);
-        expectedModel.setPerson(expectedStudent, expectedStudent);
-        expectedModel.setPerson(expectedParent, expectedParent);
+        expectedModel.addLink(expectedStudent, expectedParent);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
@@ -1,24 +1,36 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.ListCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.PersonOrder;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -76,7 +88,8 @@ public class ListCommandTest {
         DayOfWeek monday = DayOfWeek.MONDAY;
         Predicate<Person> dayPredicate = p -> p instanceof Student
                 && ((Student) p).getSchedule() != null
-                && monday.equals(((Student) p).getSchedule().getDayOfWeek());
+                && ((Student) p).getSchedule().getSlots().stream()
+                        .anyMatch(slot -> monday.equals(slot.getDayOfWeek()));
         ListCommand command = new ListCommand(dayPredicate, "Listed students with schedule on Monday");
 
         expectedModel.updateFilteredPersonList(dayPredicate);
@@ -89,13 +102,45 @@ public class ListCommandTest {
         String formatted = date.format(DateTimeFormatter.ofPattern("MM-dd-yyyy"));
         Predicate<Person> datePredicate = p -> p instanceof Student
                 && ((Student) p).getSchedule() != null
-                && date.equals(((Student) p).getSchedule().getDate());
+                && ((Student) p).getSchedule().getSlots().stream()
+                        .anyMatch(slot -> date.equals(slot.getDate()));
         ListCommand command = new ListCommand(datePredicate, "Listed students with schedule on " + formatted);
 
         expectedModel.updateFilteredPersonList(datePredicate);
         assertCommandSuccess(command, model, "Listed students with schedule on " + formatted, expectedModel);
     }
 
+    @Test
+    public void execute_combinedQuery_showsPersonsMeetingConditions() throws ParseException {
+        Parent alicesParent = (Parent) new PersonBuilder().withType("p").withName("Mary Pauline").build();
+        AddressBook addressBook = new AddressBookBuilder(getTypicalAddressBook())
+                .withPerson(alicesParent).withLink((Student) ALICE, alicesParent).build();
+        model = new ModelManager(addressBook, new UserPrefs());
+        expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String query = "t/friends AND t/owesMoney or parent-of:\"Alice Pauline\"";
+        ListCommand command = new ListCommandParser().parse(query);
+
+        Set<String> expectedNames = Set.of(BENSON.getName().fullName, alicesParent.getName().fullName);
+        expectedModel.updateFilteredPersonList(p -> expectedNames.contains(p.getName().fullName));
+        assertCommandSuccess(command, model, "Listed persons matching: " + query, expectedModel);
+    }
+
+    @Test
+    public void execute_sortedQuery_showsPersonsInOrder() throws ParseException {
+        Person aaron = new PersonBuilder().withName("aaron Tan").withPhone("81234567").build();
+        AddressBook addressBook = new AddressBookBuilder(getTypicalAddressBook()).withPerson(aaron).build();
+        model = new ModelManager(addressBook, new UserPrefs());
+        expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        ListCommand command = new ListCommandParser().parse("sort/name");
+
+        expectedModel.updateFilteredPersonList(PersonQuery.matching(PREDICATE_SHOW_ALL_PERSONS), PersonOrder.NAME);
+        assertCommandSuccess(command, model, ListCommand.MESSAGE_SUCCESS + "\nSorted by name.", expectedModel);
+        assertEquals(aaron, model.getFilteredPersonList().get(0));
+        assertEquals(ALICE, model.getFilteredPersonList().get(1));
+    }
+
     @Test
     public void execute_listAfterFilter_showsEverything() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -208,8 +208,6 @@ public class PaidCommandTest {
     }
 
     private void linkChildToParent(Model model, Student child, Parent parent) {
-        child.addParent(parent);
-        parent.addChild(child);
-        model.setPerson(child, child);
+        model.addLink(child, parent);
     }
 }
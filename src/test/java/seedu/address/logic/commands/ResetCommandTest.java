@@ -1,9 +1,14 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.DayOfWeek;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,7 +20,12 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.PaymentStatus;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.Type;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ResetCommandTest {
 
@@ -39,11 +49,80 @@ public class ResetCommandTest {
         assertAllUnpaid(model);
     }
 
+    @Test
+    public void execute_tagFilter_resetsOnlyTaggedContacts() {
+        ResetCommand command = new ResetCommand(Tag.of("owesMoney"), null, null);
+        setAllPersonsPayment(expectedModel, true);
+        int bensonId = expectedModel.getAddressBook().getId(BENSON);
+        expectedModel.updatePerson(bensonId, PersonPatch.empty().withPaymentStatus(PaymentStatus.UNPAID));
+
+        assertCommandSuccess(command, model, String.format(ResetCommand.MESSAGE_SUCCESS_FILTERED, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_parentMatched_resetsLinkedChildren() throws Exception {
+        Student child = (Student) new PersonBuilder(ALICE).withPaymentStatus(true).build();
+        Student otherStudent = (Student) new PersonBuilder(BENSON).withPaymentStatus(true).build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent Sample")
+                .withPhone("91230000").withCost("0").build();
+        Model localModel = new ModelManager(new AddressBookBuilder().withPerson(child).withPerson(otherStudent)
+                .withPerson(parent).withLink(child, parent).build(), new UserPrefs());
+        assertTrue(getPerson(localModel, "Parent Sample").getPaymentStatus().isPaid());
+
+        new ResetCommand(null, Type.of(Type.PARENT), null).execute(localModel);
+
+        assertFalse(getPerson(localModel, "Parent Sample").getPaymentStatus().isPaid());
+        assertFalse(getPerson(localModel, ALICE.getName().fullName).getPaymentStatus().isPaid());
+        assertTrue(getPerson(localModel, BENSON.getName().fullName).getPaymentStatus().isPaid());
+    }
+
+    @Test
+    public void execute_unpaidParentMatched_resetsPaidChildren() throws Exception {
+        Student paidChild = (Student) new PersonBuilder(ALICE).withPaymentStatus(true).build();
+        Student unpaidChild = (Student) new PersonBuilder(BENSON).withPaymentStatus(false).build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent Sample")
+                .withPhone("91230000").withCost("0").build();
+        Model localModel = new ModelManager(new AddressBookBuilder().withPerson(paidChild).withPerson(unpaidChild)
+                .withPerson(parent).withLink(paidChild, parent).withLink(unpaidChild, parent).build(),
+                new UserPrefs());
+        assertFalse(getPerson(localModel, "Parent Sample").getPaymentStatus().isPaid());
+
+        CommandResult result = new ResetCommand(null, Type.of(Type.PARENT), null).execute(localModel);
+
+        assertEquals(String.format(ResetCommand.MESSAGE_SUCCESS_FILTERED, 1), result.getFeedbackToUser());
+        assertFalse(getPerson(localModel, ALICE.getName().fullName).getPaymentStatus().isPaid());
+        assertFalse(getPerson(localModel, BENSON.getName().fullName).getPaymentStatus().isPaid());
+    }
+
+    @Test
+    public void execute_noContactMatches_resetsNothing() {
+        ResetCommand command = new ResetCommand(Tag.of("nobody"), null, DayOfWeek.MONDAY);
+        setAllPersonsPayment(expectedModel, true);
+
+        assertCommandSuccess(command, model, String.format(ResetCommand.MESSAGE_SUCCESS_FILTERED, 0), expectedModel);
+    }
+
     @Test
     public void equals_sameType_isTrue() {
         assertTrue(new ResetCommand().equals(new ResetCommand()));
     }
 
+    @Test
+    public void equals_differentFilters_isFalse() {
+        ResetCommand mondayCommand = new ResetCommand(null, null, DayOfWeek.MONDAY);
+        assertTrue(mondayCommand.equals(new ResetCommand(null, null, DayOfWeek.MONDAY)));
+        assertFalse(mondayCommand.equals(new ResetCommand()));
+        assertFalse(mondayCommand.equals(new ResetCommand(null, null, DayOfWeek.TUESDAY)));
+        assertFalse(new ResetCommand(Tag.of("friends"), null, null).equals(new ResetCommand()));
+        assertFalse(mondayCommand.equals(null));
+    }
+
+    private Person getPerson(Model m, String name) {
+        return m.getAddressBook().getPersonList().stream()
+                .filter(p -> p.getName().fullName.equals(name))
+                .findFirst().orElseThrow();
+    }
+
     private void setAllPersonsPayment(Model m, boolean paid) {
         List<Person> list = m.getAddressBook().getPersonList();
         for (Person p : list) {
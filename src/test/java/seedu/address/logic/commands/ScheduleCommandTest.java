@@ -87,6 +87,40 @@ public class ScheduleCommandTest {
         assertCommandFailure(scheduleCommand, model, ScheduleCommand.MESSAGE_NOT_STUDENT);
     }
 
+    @Test
+    public void execute_clashingLesson_failure() {
+        Person otherPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Student otherStudent = (Student) new PersonBuilder(otherPerson).withType("s")
+                .withSchedule(SCHEDULE_STUB).build();
+        model.setPerson(otherPerson, otherStudent);
+
+        ScheduleCommand scheduleCommand = new ScheduleCommand(INDEX_FIRST_PERSON, new Schedule("Monday 15:00-17:00"));
+
+        assertCommandFailure(scheduleCommand, model,
+                String.format(Messages.MESSAGE_LESSON_CLASH, otherStudent.getName()));
+    }
+
+    @Test
+    public void execute_clashingLessonForced_success() {
+        Person otherPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.setPerson(otherPerson, new PersonBuilder(otherPerson).withType("s").withSchedule(SCHEDULE_STUB).build());
+        Student studentToEdit = (Student) model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Schedule clashingLesson = new Schedule("Monday 15:00-17:00");
+
+        ScheduleCommand scheduleCommand = new ScheduleCommand(INDEX_FIRST_PERSON, clashingLesson, true);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(studentToEdit, studentToEdit.withSchedule(clashingLesson));
+        assertCommandSuccess(scheduleCommand, model,
+                String.format(ScheduleCommand.MESSAGE_ADD_SCHEDULE_SUCCESS, studentToEdit.getName()), expectedModel);
+    }
+
+    @Test
+    public void execute_ownLessonRescheduled_success() {
+        assertScheduleCommandSuccess(INDEX_FIRST_PERSON, SCHEDULE_STUB);
+        assertScheduleCommandSuccess(INDEX_FIRST_PERSON, "Monday 15:00-17:00");
+    }
+
     @Test
     public void equals() {
         final ScheduleCommand standardCommand = new ScheduleCommand(INDEX_FIRST_PERSON, new Schedule(SCHEDULE_STUB));
@@ -110,5 +144,8 @@ public class ScheduleCommandTest {
         // different schedule -> returns false
         assertFalse(standardCommand.equals(new ScheduleCommand(INDEX_FIRST_PERSON,
                 new Schedule("Tuesday 16:00-18:00"))));
+
+        // forced -> returns false
+        assertFalse(standardCommand.equals(new ScheduleCommand(INDEX_FIRST_PERSON, new Schedule(SCHEDULE_STUB), true)));
     }
 }
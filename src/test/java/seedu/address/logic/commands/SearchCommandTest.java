@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(List.of("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(List.of("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_keywordsInSeveralFields_personsListedByRelevance() {
+        List<String> keywords = List.of("street", "MEIER");
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 4);
+        expectedModel.updateFilteredPersonList(PersonQuery.withAnyWord(keywords));
+        assertCommandSuccess(new SearchCommand(keywords), model, expectedMessage, expectedModel);
+
+        // Daniel Meier lives on a street, and a name counts more than an address
+        assertEquals(List.of(DANIEL, BENSON, CARL, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatchingKeyword_noPersonFound() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 0);
+        expectedModel.updateFilteredPersonList(PersonQuery.withAnyWord(List.of("chemistry")));
+        assertCommandSuccess(new SearchCommand(List.of("chemistry")), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterSearch_keepsRank() {
+        new SearchCommand(List.of("street", "meier")).execute(model);
+
+        Person paidBenson = new PersonBuilder(BENSON).withPaymentStatus(true).build();
+        model.setPerson(BENSON, paidBenson);
+        assertEquals(List.of(DANIEL, paidBenson, CARL, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand searchCommand = new SearchCommand(List.of("keyword"));
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=[keyword]}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
@@ -45,12 +45,7 @@ public class UnlinkCommandTest {
 
         if (first instanceof Student student && second instanceof Parent parent) {
             // Link them properly
-            student.addParent(parent);
-            parent.addChild(student);
-
-            // Update the model with the linked objects
-            model.setPerson(first, student);
-            model.setPerson(second, parent);
+            model.addLink(student, parent);
         }
     }
 
@@ -66,11 +61,6 @@ public class UnlinkCommandTest {
             return;
         }
 
-        student.addParent(parent);
-        parent.addChild(student);
-        model.setPerson(studentPerson, student);
-        model.setPerson(parentPerson, parent);
-
         UnlinkCommand command = new UnlinkCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
         String expectedMessage = String.format(UnlinkCommand.MESSAGE_UNLINK_SUCCESS,
                 student.getName(), parent.getName());
@@ -83,11 +73,7 @@ public class UnlinkCommandTest {
 
         Student expectedStudent = (Student) expectedStudentPerson;
         Parent expectedParent = (Parent) expectedParentPerson;
-        expectedParent.removeChild(expectedStudent);
-        expectedStudent.removeParent(expectedParent);
-
-        expectedModel.setPerson(expectedStudentPerson, expectedStudent);
-        expectedModel.setPerson(expectedParentPerson, expectedParent);
+        expectedModel.removeLink(expectedStudent, expectedParent);
         expectedModel.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -138,10 +124,7 @@ public class UnlinkCommandTest {
         }
 
         // Link them first, then unlink once
-        student.addParent(parent);
-        parent.addChild(student);
-        model.setPerson(studentPerson, student);
-        model.setPerson(parentPerson, parent);
+        model.addLink(student, parent);
 
         // Unlink once — should succeed
         UnlinkCommand unlinkCommand = new UnlinkCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
@@ -190,10 +173,7 @@ public class UnlinkCommandTest {
             return; // skip test if types don't match
         }
 
-        student.addParent(parent);
-        parent.addChild(student);
-        model.setPerson(studentPerson, student);
-        model.setPerson(parentPerson, parent);
+        model.addLink(student, parent);
 
         UnlinkCommand command = new UnlinkCommand(first, second);
         String expectedMessage = String.format(UnlinkCommand.MESSAGE_UNLINK_SUCCESS,
@@ -217,10 +197,7 @@ public class UnlinkCommandTest {
             return; // skip test if types don't match
         }
 
-        student.addParent(parent);
-        parent.addChild(student);
-        model.setPerson(studentPerson, student);
-        model.setPerson(parentPerson, parent);
+        model.addLink(student, parent);
 
         UnlinkCommand command = new UnlinkCommand(secondLast, last);
         String expectedMessage = String.format(UnlinkCommand.MESSAGE_UNLINK_SUCCESS,
@@ -23,11 +23,15 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
 import seedu.address.logic.commands.PaidCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -85,6 +89,20 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        List<String> keywords = Arrays.asList("sec", "3", "chemistry");
+        SearchCommand command = (SearchCommand) parser.parseCommand(
+                SearchCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new SearchCommand(keywords), command);
+    }
+
+    @Test
+    public void parseCommand_undoAndRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -98,6 +116,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand("list unpaid") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_free() throws Exception {
+        assertTrue(parser.parseCommand("free 1 2 hours/09:00-18:00") instanceof FreeCommand);
+        assertTrue(parser.parseCommand("free parent/1 hours/09:00-18:00") instanceof FreeCommand);
+    }
+
     @Test
     public void parseCommand_listThrowsParseException() {
         assertThrows(ParseException.class, () -> parser.parseCommand("list 3"));
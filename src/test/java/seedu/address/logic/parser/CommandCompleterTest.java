@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer =
+            new CommandCompleter(new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+
+    @Test
+    public void complete_nameBeingTyped_returnsWholeCommands() {
+        assertEquals(List.of("paid n/Benson Meier", "paid n/Daniel Meier"), completer.complete("paid n/mei"));
+        assertEquals(List.of("link parent/Carl Kurz"), completer.complete("link parent/Car"));
+        assertEquals(List.of("paid n/Alice Pauline"), completer.complete("paid n/ALICE P"));
+    }
+
+    @Test
+    public void complete_tagBeingTyped_returnsWholeCommands() {
+        assertEquals(List.of("edit 1 n/Amy t/friends"), completer.complete("edit 1 n/Amy t/fr"));
+        assertTrue(completer.complete("edit 1 t/friends p/").isEmpty());
+    }
+
+    @Test
+    public void complete_nothingToComplete_returnsEmptyList() {
+        // no prefix, or nothing typed after it
+        assertTrue(completer.complete("list").isEmpty());
+        assertTrue(completer.complete("paid n/").isEmpty());
+
+        // the last prefix takes neither a name nor a tag
+        assertTrue(completer.complete("edit 1 n/Alice p/9").isEmpty());
+
+        // the name given to add is a new one
+        assertTrue(completer.complete("add n/Ali").isEmpty());
+
+        // already complete
+        assertTrue(completer.complete("paid n/Alice Pauline").isEmpty());
+    }
+}
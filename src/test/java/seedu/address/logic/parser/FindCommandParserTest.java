@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +32,25 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_matchAllMarker_returnsMatchAllFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"), true));
+        assertParseSuccess(parser, "all/ Alice Bob", expectedFindCommand);
+        assertParseSuccess(parser, " all/Alice \t Bob", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_matchAllMarkerWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " all/  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyMarker_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameSimilarToKeywordsPredicate(Arrays.asList("alex", "yeo")));
+        assertParseSuccess(parser, "~alex yeo", expectedFindCommand);
+        assertParseSuccess(parser, " ~ alex \t yeo", expectedFindCommand);
+        assertParseFailure(parser, " ~ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.model.tag.Tag;
+
+public class FreeCommandParserTest {
+
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime SIX_PM = LocalTime.of(18, 0);
+
+    private final FreeCommandParser parser = new FreeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFreeCommand() {
+        assertParseSuccess(parser, " 1  3 hours/09:00-18:00", new FreeCommand(
+                List.of(Index.fromOneBased(1), Index.fromOneBased(3)), Optional.empty(), Optional.empty(),
+                NINE, SIX_PM));
+        assertParseSuccess(parser, " parent/2 t/siblings hours/09:00 - 18:00", new FreeCommand(
+                List.of(), Optional.of(Index.fromOneBased(2)), Optional.of(new Tag("siblings")), NINE, SIX_PM));
+    }
+
+    @Test
+    public void parse_missingStudentsOrHours_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " hours/09:00-18:00", expectedMessage);
+        assertParseFailure(parser, " 1 2", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidHours_throwsParseException() {
+        assertParseFailure(parser, " 1 hours/09:00", FreeCommand.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, " 1 hours/9-18", FreeCommand.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, " 1 hours/18:00-09:00", FreeCommand.MESSAGE_INVALID_HOURS);
+    }
+
+    @Test
+    public void parse_invalidIndexOrDuplicatePrefix_throwsParseException() {
+        assertParseFailure(parser, " 1 a hours/09:00-18:00", ParserUtil.MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " parent/1 parent/2 hours/09:00-18:00",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_PARENT));
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -10,7 +13,12 @@ import java.time.format.DateTimeFormatter;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListCondition;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.PersonOrder;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.Schedule;
 import seedu.address.model.person.Student;
 
 /**
@@ -65,7 +73,8 @@ public class ListCommandParserTest {
         ListCommand expectedCommand = new ListCommand(
                 p -> p instanceof Student
                         && ((Student) p).getSchedule() != null
-                        && monday.equals(((Student) p).getSchedule().getDayOfWeek()),
+                        && ((Student) p).getSchedule().getSlots().stream()
+                        .anyMatch(slot -> monday.equals(slot.getDayOfWeek())),
                 "Listed students with schedule on Monday.");
         assertParseSuccess(parser, userInput, expectedCommand);
     }
@@ -79,11 +88,25 @@ public class ListCommandParserTest {
         ListCommand expectedCommand = new ListCommand(
                 p -> p instanceof Student
                         && ((Student) p).getSchedule() != null
-                        && date.equals(((Student) p).getSchedule().getDate()),
+                        && ((Student) p).getSchedule().getSlots().stream()
+                        .anyMatch(slot -> date.equals(slot.getDate())),
                 "Listed students with schedule on " + formatted + ".");
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_timeWindowArgs_returnsTimeWindowListCommand() throws Exception {
+        ListCommand expectedCommand = new ListCommand(
+                PersonQuery.withLessonOverlapping(new Schedule("Tuesday 15:00-17:00")),
+                "Listed students with a lesson during Tuesday 15:00-17:00.");
+        assertParseSuccess(parser, "tuesday  15:00-17:00", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidTimeWindow_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("Tuesday 17:00-15:00"));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         String userInput = "nonsenseDay";
@@ -95,6 +118,7 @@ public class ListCommandParserTest {
                 + "  list schedule (filter schedules)\n"
                 + "  list <DAY>    (e.g., list Monday)\n"
                 + "  list <DATE>   (e.g., list 12-12-2025)\n"
+                + "  list <DAY|DATE> <START>-<END> (e.g., list Tuesday 15:00-17:00)\n"
                 + "For name search, use: find n/<keywords>";
         assertParseFailure(parser, userInput, expectedMessage);
     }
@@ -116,4 +140,55 @@ public class ListCommandParserTest {
                 "Listed persons with payment status: PAID");
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_singleNewCondition_returnsListCommandWithOwnMessage() {
+        assertParseSuccess(parser, "t/friends",
+                new ListCommand(PersonQuery.matching(p -> true), "Listed persons tagged friends."));
+        assertParseSuccess(parser, "parent-of:\"Alex   Yeoh\"",
+                new ListCommand(PersonQuery.matching(p -> true), "Listed the parents of Alex Yeoh."));
+    }
+
+    @Test
+    public void parse_combinedQuery_returnsListCommand() {
+        String query = "unpaid AND (monday 15:00-17:00 OR t/sec3) or child-of:\"Alex Yeoh\"";
+        assertParseSuccess(parser, query,
+                new ListCommand(PersonQuery.matching(p -> true), "Listed persons matching: " + query));
+    }
+
+    @Test
+    public void parse_repeatedQuery_returnsCachedCommand() throws Exception {
+        assertSame(parser.parse("paid AND monday"), new ListCommandParser().parse("  paid   AND monday "));
+    }
+
+    @Test
+    public void parse_sortedQuery_returnsSortedListCommand() {
+        assertParseSuccess(parser, "sort/name",
+                new ListCommand(ListCondition.of(PersonQuery.matching(p -> true)),
+                        ListCommand.MESSAGE_SUCCESS + "\nSorted by name.", PersonOrder.NAME));
+        assertParseSuccess(parser, "paid SORT/Cost",
+                new ListCommand(ListCondition.of(PersonQuery.matching(p -> true)),
+                        "Listed persons with payment status: PAID\nSorted by cost.", PersonOrder.COST));
+        assertParseSuccess(parser, "unpaid OR monday sort/schedule",
+                new ListCommand(ListCondition.of(PersonQuery.matching(p -> true)),
+                        "Listed persons matching: unpaid OR monday\nSorted by schedule.", PersonOrder.SCHEDULE));
+    }
+
+    @Test
+    public void parse_invalidSort_throwsParseException() {
+        assertParseFailure(parser, "sort/phone", "Sort by one of: schedule, name, cost, payment");
+        assertParseFailure(parser, "paid sort/", "Sort by one of: schedule, name, cost, payment");
+        assertThrows(ParseException.class, () -> parser.parse("sort/name paid"));
+    }
+
+    @Test
+    public void parse_invalidCombinedQuery_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "paid AND", invalidFormat);
+        assertParseFailure(parser, "(paid OR unpaid", invalidFormat);
+        assertParseFailure(parser, "paid OR unpaid)", invalidFormat);
+        assertThrows(ParseException.class, () -> parser.parse("paid AND parent-of:\"Alex"));
+        assertThrows(ParseException.class, () -> parser.parse("paid AND t/sec-3"));
+        assertThrows(ParseException.class, () -> parser.parse("paid OR someday"));
+    }
 }
@@ -3,10 +3,14 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.DayOfWeek;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ResetCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Type;
+import seedu.address.model.tag.Tag;
 
 public class ResetCommandParserTest {
 
@@ -51,4 +55,21 @@ public class ResetCommandParserTest {
         assertParseFailure(parser, "some all", String.format(
                 seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT, ResetCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_filters_success() {
+        assertParseSuccess(parser, " t/friends", new ResetCommand(Tag.of("friends"), null, null));
+        assertParseSuccess(parser, " type/p", new ResetCommand(null, Type.of("p"), null));
+        assertParseSuccess(parser, " monday", new ResetCommand(null, null, DayOfWeek.MONDAY));
+        assertParseSuccess(parser, " Tuesday t/friends type/s",
+                new ResetCommand(Tag.of("friends"), Type.of("s"), DayOfWeek.TUESDAY));
+    }
+
+    @Test
+    public void parse_invalidFilter_failure() {
+        assertParseFailure(parser, " funday", String.format(
+                seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT, ResetCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " type/x", Type.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/#bad", Tag.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -44,12 +45,20 @@ public class ScheduleCommandParserTest {
                 + " " + PREFIX_SCHEDULE, targetIndex, "");
     }
 
+    @Test
+    public void parse_forceSpecified_success() {
+        assertParseSuccess(parser, INDEX_FIRST_PERSON.getOneBased() + " " + PREFIX_SCHEDULE + VALID_DAY_SCHEDULE
+                + " " + PREFIX_FORCE,
+                new ScheduleCommand(INDEX_FIRST_PERSON, new Schedule(VALID_DAY_SCHEDULE), true));
+    }
+
     @Test
     public void parse_invalidScheduleFormat_failure() {
         Index targetIndex = INDEX_FIRST_PERSON;
         String message = "Invalid schedule format. Use either: "
                 + "DAY HH:mm-HH:mm or MM-DD-YYYY HH:mm-HH:mm Example: 'Monday 14:00-16:00', "
-                + "'12-10-2025 14:00-16:00' End time must be after start time and cannot cross midnight.";
+                + "'12-10-2025 14:00-16:00' End time must be after start time and cannot cross midnight. "
+                + "Separate multiple lessons with commas, e.g. 'Monday 10:00-12:00, Wednesday 14:00-15:00'.";
 
         assertParseFailureForSchedule(targetIndex.getOneBased()
                 + " " + PREFIX_SCHEDULE + INVALID_SCHEDULE, message);
@@ -13,12 +13,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -83,6 +86,19 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_leaveSnapshotUnchanged() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+        List<Person> personsBefore = List.copyOf(typicalAddressBook.getPersonList());
+
+        typicalAddressBook.removePerson(ALICE);
+        typicalAddressBook.addPerson(new PersonBuilder().withName("Snapshot Tester").build());
+
+        assertEquals(personsBefore, snapshot.getPersonList());
+        assertEquals(Optional.of(ALICE), snapshot.getPersonById(snapshot.getId(ALICE)));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -103,6 +119,26 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public int getId(Person person) {
+            return persons.indexOf(person);
+        }
+
+        @Override
+        public Optional<Person> getPersonById(int id) {
+            return Optional.of(persons.get(id));
+        }
+
+        @Override
+        public List<Parent> getParentsOf(Student student) {
+            return List.of();
+        }
+
+        @Override
+        public List<Student> getChildrenOf(Parent parent) {
+            return List.of();
+        }
     }
 
 }
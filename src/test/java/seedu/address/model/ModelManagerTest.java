@@ -2,22 +2,36 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.index.IndexedField;
+import seedu.address.model.index.PersonQuery;
+import seedu.address.model.person.Cost;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Note;
 import seedu.address.model.person.Parent;
+import seedu.address.model.person.PaymentStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
+import seedu.address.model.person.Schedule;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -91,6 +105,16 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findPerson_personInAddressBook_returnsLatestVersion() {
+        modelManager.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withNote("edited").build();
+        modelManager.setPerson(ALICE, editedAlice);
+
+        assertSame(editedAlice, modelManager.findPerson(ALICE.getName()).orElseThrow());
+        assertTrue(modelManager.findPerson(BENSON.getName()).isEmpty());
+    }
+
     @Test
     public void parentAggregations_updateCostAndPaymentStatus() {
         ModelManager localModel = new ModelManager();
@@ -106,27 +130,16 @@ public class ModelManagerTest {
         localModel.addPerson(childTwo);
         localModel.addPerson(parent);
 
-        Student storedChildOne = getStudent(localModel, "Student One");
-        Parent parentForChildOne = getParent(localModel, "Parent Sample");
-        storedChildOne.addParent(parentForChildOne);
-        parentForChildOne.addChild(storedChildOne);
-        localModel.setPerson(storedChildOne, storedChildOne);
-
-        Student storedChildTwo = getStudent(localModel, "Student Two");
-        Parent parentForChildTwo = getParent(localModel, "Parent Sample");
-        storedChildTwo.addParent(parentForChildTwo);
-        parentForChildTwo.addChild(storedChildTwo);
-        localModel.setPerson(storedChildTwo, storedChildTwo);
+        localModel.addLink(getStudent(localModel, "Student One"), getParent(localModel, "Parent Sample"));
+        localModel.addLink(getStudent(localModel, "Student Two"), getParent(localModel, "Parent Sample"));
 
         Parent aggregatedParent = getParent(localModel, "Parent Sample");
         assertEquals("100", aggregatedParent.getCost().value);
         assertFalse(aggregatedParent.getPaymentStatus().isPaid());
 
         Student latestChildTwo = getStudent(localModel, "Student Two");
-        Parent latestParent = getParent(localModel, "Parent Sample");
         Student paidChildTwo = (Student) new PersonBuilder(latestChildTwo)
                 .withPaymentStatus(true).build();
-        paidChildTwo.addParent(latestParent);
 
         localModel.setPerson(latestChildTwo, paidChildTwo);
 
@@ -135,6 +148,253 @@ public class ModelManagerTest {
         assertTrue(finalParent.getPaymentStatus().isPaid());
     }
 
+    @Test
+    public void parentAggregations_unlinkedStudentChanged_parentNotReplaced() {
+        ModelManager localModel = new ModelManager();
+        Student child = (Student) new PersonBuilder().withName("Student One")
+                .withPhone("81230000").withCost("60").build();
+        Student unlinkedStudent = (Student) new PersonBuilder().withName("Student Two")
+                .withPhone("81230001").withCost("40").build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent Sample")
+                .withPhone("91230000").withCost("0").build();
+        localModel.addPerson(child);
+        localModel.addPerson(unlinkedStudent);
+        localModel.addPerson(parent);
+
+        localModel.addLink(getStudent(localModel, "Student One"), getParent(localModel, "Parent Sample"));
+        Parent aggregatedParent = getParent(localModel, "Parent Sample");
+
+        Student storedUnlinkedStudent = getStudent(localModel, "Student Two");
+        localModel.setPerson(storedUnlinkedStudent,
+                new PersonBuilder(storedUnlinkedStudent).withPaymentStatus(true).build());
+
+        assertSame(aggregatedParent, getParent(localModel, "Parent Sample"));
+    }
+
+    @Test
+    public void deletePerson_linkedStudent_updatesParentAggregates() {
+        ModelManager localModel = new ModelManager();
+        Student childOne = (Student) new PersonBuilder().withName("Student One")
+                .withPhone("81230000").withCost("60").withPaymentStatus(false).build();
+        Student childTwo = (Student) new PersonBuilder().withName("Student Two")
+                .withPhone("81230001").withCost("40").withPaymentStatus(true).build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent Sample")
+                .withPhone("91230000").withCost("0").build();
+        localModel.setAddressBook(new AddressBookBuilder().withPerson(childOne).withPerson(childTwo)
+                .withPerson(parent).withLink(childOne, parent).withLink(childTwo, parent).build());
+        assertEquals("100", getParent(localModel, "Parent Sample").getCost().value);
+
+        localModel.deletePerson(getStudent(localModel, "Student One"));
+
+        Parent updatedParent = getParent(localModel, "Parent Sample");
+        assertEquals("40", updatedParent.getCost().value);
+        assertTrue(updatedParent.getPaymentStatus().isPaid());
+        assertEquals(List.of(getStudent(localModel, "Student Two")), localModel.getChildrenOf(updatedParent));
+    }
+
+    @Test
+    public void setPerson_renamedStudent_keepsLinks() {
+        ModelManager localModel = new ModelManager();
+        Student child = (Student) new PersonBuilder().withName("Student One").withCost("60").build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent Sample")
+                .withPhone("91230000").withCost("0").build();
+        localModel.setAddressBook(new AddressBookBuilder().withPerson(child).withPerson(parent)
+                .withLink(child, parent).build());
+
+        Student renamedChild = (Student) new PersonBuilder(child).withName("Student Renamed").build();
+        localModel.setPerson(child, renamedChild);
+
+        Parent storedParent = getParent(localModel, "Parent Sample");
+        assertEquals(List.of(renamedChild), localModel.getChildrenOf(storedParent));
+        assertEquals(List.of(storedParent), localModel.getParentsOf(renamedChild));
+        assertEquals("60", storedParent.getCost().value);
+    }
+
+    @Test
+    public void deletePerson_linkedParent_removesLinksFromChildren() {
+        ModelManager localModel = new ModelManager();
+        Student child = (Student) new PersonBuilder().withName("Student One").withCost("60").build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent Sample")
+                .withPhone("91230000").withCost("0").build();
+        localModel.setAddressBook(new AddressBookBuilder().withPerson(child).withPerson(parent)
+                .withLink(child, parent).build());
+
+        localModel.deletePerson(getParent(localModel, "Parent Sample"));
+
+        assertTrue(localModel.getParentsOf(child).isEmpty());
+        localModel.addPerson(parent);
+        assertFalse(localModel.hasLink(child, getParent(localModel, "Parent Sample")));
+    }
+
+    @Test
+    public void updatePerson_costOfLinkedStudent_updatesParentTotal() {
+        ModelManager localModel = new ModelManager();
+        Student child = (Student) new PersonBuilder().withName("Student One").withCost("60").build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent Sample")
+                .withPhone("91230000").withCost("0").build();
+        localModel.setAddressBook(new AddressBookBuilder().withPerson(child).withPerson(parent)
+                .withLink(child, parent).build());
+
+        Person updatedChild = localModel.updatePerson(localModel.getAddressBook().getId(child),
+                PersonPatch.empty().withCost(new Cost("75")));
+
+        assertEquals("75", updatedChild.getCost().value);
+        assertEquals("75", getParent(localModel, "Parent Sample").getCost().value);
+    }
+
+    @Test
+    public void updatePerson_noteOfScheduledStudent_keepsLessonIndexed() {
+        Student student = (Student) new PersonBuilder().withName("Student One").withSchedule("Friday 10:00-12:00")
+                .build();
+        ModelManager localModel = new ModelManager(new AddressBookBuilder().withPerson(student).build(),
+                new UserPrefs());
+
+        Person updatedStudent = localModel.updatePerson(localModel.getAddressBook().getId(student),
+                PersonPatch.empty().withNote(new Note("Prefers mornings")));
+
+        assertSame(student.getSchedule(), ((Student) updatedStudent).getSchedule());
+        assertEquals(List.of(updatedStudent), localModel.getLessonClashes(new Schedule("Friday 11:00-13:00")));
+    }
+
+    @Test
+    public void updatePerson_unknownId_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () ->
+                modelManager.updatePerson(42, PersonPatch.empty().withNote(new Note("note"))));
+    }
+
+    @Test
+    public void batch_severalChanges_reportedAsOneListChange() {
+        ModelManager localModel = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), new UserPrefs());
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        localModel.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) changes::add);
+        Person paidBenson = new PersonBuilder(BENSON).withPaymentStatus(true).build();
+
+        localModel.batch(model -> {
+            model.deletePerson(ALICE);
+            model.setPerson(BENSON, paidBenson);
+            model.addPerson(CARL);
+            assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(paidBenson, CARL), localModel.getFilteredPersonList());
+        localModel.updateFilteredPersonList(PersonQuery.withKey(IndexedField.PAYMENT_STATUS, true));
+        assertEquals(List.of(paidBenson), localModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_linkedStudentsChanged_recalculatesParentAtEnd() {
+        ModelManager localModel = new ModelManager();
+        Student childOne = (Student) new PersonBuilder().withName("Student One").withCost("60").build();
+        Student childTwo = (Student) new PersonBuilder().withName("Student Two").withPhone("81230001")
+                .withCost("40").build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent Sample")
+                .withPhone("91230000").withCost("0").build();
+        localModel.setAddressBook(new AddressBookBuilder().withPerson(childOne).withPerson(childTwo)
+                .withPerson(parent).withLink(childOne, parent).withLink(childTwo, parent).build());
+        PersonPatch paid = PersonPatch.empty().withPaymentStatus(PaymentStatus.PAID);
+
+        localModel.batch(model -> {
+            model.updatePerson(model.getAddressBook().getId(childOne), paid);
+            assertFalse(getParent(localModel, "Parent Sample").getPaymentStatus().isPaid());
+            model.updatePerson(model.getAddressBook().getId(childTwo), paid);
+        });
+
+        assertTrue(getParent(localModel, "Parent Sample").getPaymentStatus().isPaid());
+    }
+
+    @Test
+    public void batch_changesThrow_rollsBackEveryChange() {
+        ModelManager localModel = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), new UserPrefs());
+        ModelManager expectedModel = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), new UserPrefs());
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        localModel.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        assertThrows(IllegalStateException.class, () -> localModel.batch(model -> {
+            model.deletePerson(ALICE);
+            model.addPerson(CARL);
+            model.updateFilteredPersonList(PersonQuery.withKey(IndexedField.PAYMENT_STATUS, true));
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(changes.isEmpty());
+        assertEquals(expectedModel, localModel);
+        assertFalse(localModel.canUndoAddressBook());
+    }
+
+    @Test
+    public void batch_nestedBatchThrows_rollsBackOuterBatch() {
+        ModelManager localModel = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+
+        assertThrows(Exception.class, () -> localModel.batch(model -> {
+            model.addPerson(BENSON);
+            model.batch(innerModel -> {
+                innerModel.addPerson(CARL);
+                throw new Exception();
+            });
+        }));
+
+        assertEquals(List.of(ALICE), localModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedQuery_followsEdits() {
+        ModelManager localModel = new ModelManager(
+                new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), new UserPrefs());
+        localModel.updateFilteredPersonList(PersonQuery.withKey(IndexedField.PAYMENT_STATUS, true));
+        assertTrue(localModel.getFilteredPersonList().isEmpty());
+
+        Person paidBenson = new PersonBuilder(BENSON).withPaymentStatus(true).build();
+        localModel.setPerson(BENSON, paidBenson);
+        assertEquals(List.of(paidBenson), localModel.getFilteredPersonList());
+
+        Person paidAlice = new PersonBuilder(ALICE).withPaymentStatus(true).build();
+        localModel.setPerson(ALICE, paidAlice);
+        localModel.updateFilteredPersonList(PersonQuery.withKey(IndexedField.PAYMENT_STATUS, true));
+        assertEquals(List.of(paidAlice, paidBenson), localModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_lessonWindow_followsScheduleChanges() {
+        Student early = (Student) new PersonBuilder().withName("Early Student").withSchedule("Tuesday 09:00-10:00")
+                .build();
+        Student late = (Student) new PersonBuilder().withName("Late Student").withSchedule("Tuesday 15:00-17:00")
+                .build();
+        ModelManager localModel = new ModelManager(
+                new AddressBookBuilder().withPerson(early).withPerson(late).build(), new UserPrefs());
+        Schedule window = new Schedule("Tuesday 16:00-18:00");
+
+        localModel.updateFilteredPersonList(PersonQuery.withLessonOverlapping(window));
+        assertEquals(List.of(late), localModel.getFilteredPersonList());
+
+        Student rescheduled = early.withSchedule(new Schedule("Tuesday 17:30-18:30"));
+        localModel.setPerson(early, rescheduled);
+        localModel.updateFilteredPersonList(PersonQuery.withLessonOverlapping(window));
+        assertEquals(List.of(rescheduled, late), localModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void getLessonClashes_weeklyAndOneOffLessons() {
+        Student weekly = (Student) new PersonBuilder().withName("Weekly Student")
+                .withSchedule("Wednesday 14:00-16:00").build();
+        Student oneOff = (Student) new PersonBuilder().withName("One Off Student")
+                .withSchedule("12-10-2025 17:00-18:00").build();
+        ModelManager localModel = new ModelManager(
+                new AddressBookBuilder().withPerson(weekly).withPerson(oneOff).build(), new UserPrefs());
+
+        assertEquals(List.of(weekly), localModel.getLessonClashes(new Schedule("12-10-2025 15:00-16:00")));
+        assertEquals(List.of(oneOff), localModel.getLessonClashes(new Schedule("Wednesday 17:30-19:00")));
+        assertEquals(List.of(weekly, oneOff), localModel.getLessonClashes(new Schedule("12-10-2025 15:00-18:00")));
+        assertTrue(localModel.getLessonClashes(new Schedule("Thursday 15:00-18:00")).isEmpty());
+
+        localModel.deletePerson(oneOff);
+        assertTrue(localModel.getLessonClashes(new Schedule("Wednesday 17:30-19:00")).isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
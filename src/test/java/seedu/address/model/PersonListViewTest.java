@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListViewTest {
+
+    private static final Predicate<Person> HAS_TAGS = person -> !person.getTags().isEmpty();
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON, CARL, ELLE);
+    private final PersonListView view = new PersonListView(source, source::indexOf);
+
+    @Test
+    public void constructor_showsAllPersons() {
+        assertEquals(source, view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_candidates_shownInSourceOrder() {
+        view.setPredicate(HAS_TAGS, List.of(BENSON, CARL, ALICE));
+        assertEquals(List.of(ALICE, BENSON), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_onlyChangedPersonsRetested() {
+        view.setPredicate(HAS_TAGS);
+
+        Person taggedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        source.set(2, taggedCarl);
+        assertEquals(List.of(ALICE, BENSON, taggedCarl), view.asUnmodifiableObservableList());
+
+        source.remove(BENSON);
+        assertEquals(List.of(ALICE, taggedCarl), view.asUnmodifiableObservableList());
+
+        Person taggedElle = new PersonBuilder(ELLE).withTags("friends").build();
+        source.add(0, taggedElle);
+        assertEquals(List.of(taggedElle, ALICE, taggedCarl), view.asUnmodifiableObservableList());
+
+        source.set(1, new PersonBuilder(ALICE).withTags().build());
+        assertEquals(List.of(taggedElle, taggedCarl), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_order_shownAndKeptInThatOrder() {
+        Function<Person, SortKey> byPhoneDescending =
+                person -> SortKey.of(-Long.parseLong(person.getPhone().value), person);
+        view.setPredicate(HAS_TAGS, List.of(ALICE, BENSON, CARL), byPhoneDescending);
+        assertEquals(List.of(BENSON, ALICE), view.asUnmodifiableObservableList());
+
+        Person taggedCarl = new PersonBuilder(CARL).withPhone("99999999").withTags("friends").build();
+        source.set(2, taggedCarl);
+        assertEquals(List.of(taggedCarl, BENSON, ALICE), view.asUnmodifiableObservableList());
+
+        source.remove(BENSON);
+        assertEquals(List.of(taggedCarl, ALICE), view.asUnmodifiableObservableList());
+
+        view.setPredicate(HAS_TAGS);
+        assertEquals(List.of(ALICE, taggedCarl), view.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_personOrder_shownAndKeptSorted() {
+        Person cheapAlice = new PersonBuilder(ALICE).withCost("10").build();
+        Person dearBenson = new PersonBuilder(BENSON).withCost("30").build();
+        source.setAll(cheapAlice, dearBenson, new PersonBuilder(CARL).withCost("20").build());
+        view.setPredicate(person -> true, PersonOrder.COST::keyOf);
+        assertEquals(List.of("Alice Pauline", "Carl Kurz", "Benson Meier"), namesShown());
+
+        source.set(0, new PersonBuilder(cheapAlice).withCost("25").build());
+        assertEquals(List.of("Carl Kurz", "Alice Pauline", "Benson Meier"), namesShown());
+
+        source.add(new PersonBuilder(ELLE).withCost("5").build());
+        source.remove(dearBenson);
+        assertEquals(List.of("Elle Meyer", "Carl Kurz", "Alice Pauline"), namesShown());
+
+        view.setPredicate(person -> true, PersonOrder.NAME::keyOf);
+        assertEquals(List.of("Alice Pauline", "Carl Kurz", "Elle Meyer"), namesShown());
+    }
+
+    private List<String> namesShown() {
+        return view.asUnmodifiableObservableList().stream().map(person -> person.getName().fullName).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonOrderTest {
+
+    private static final Person MONDAY_EARLY = student("Amy", "Monday 09:00-10:00");
+    private static final Person MONDAY_LONG = student("Ben", "Monday 10:00-12:00");
+    private static final Person MONDAY_SHORT = student("Cat", "Monday 10:00-11:00");
+    private static final Person TUESDAY = student("Dan", "Tuesday 08:00-09:00");
+    private static final Person ONE_OFF = student("Eve", "12-10-2025 17:00-18:00");
+    private static final Person ONE_OFF_EARLIER = student("Fay", "11-10-2025 17:00-18:00");
+    private static final Person PARENT = new PersonBuilder().withType("p").withName("Gus").build();
+
+    @Test
+    public void schedule_ordersAsScheduleCompareTo() {
+        List<Person> students = List.of(TUESDAY, MONDAY_LONG, ONE_OFF, MONDAY_SHORT, ONE_OFF_EARLIER, MONDAY_EARLY);
+
+        List<Person> bySortKey = new ArrayList<>(students);
+        bySortKey.sort(Comparator.comparing(PersonOrder.SCHEDULE::keyOf));
+        List<Person> byCompareTo = new ArrayList<>(students);
+        byCompareTo.sort(Comparator.comparing(person -> ((Student) person).getSchedule()));
+
+        assertEquals(byCompareTo, bySortKey);
+        assertEquals(List.of(ONE_OFF_EARLIER, ONE_OFF, MONDAY_EARLY, MONDAY_SHORT, MONDAY_LONG, TUESDAY), bySortKey);
+    }
+
+    @Test
+    public void schedule_personWithoutLessons_last() {
+        assertTrue(PersonOrder.SCHEDULE.keyOf(TUESDAY).compareTo(PersonOrder.SCHEDULE.keyOf(PARENT)) < 0);
+    }
+
+    @Test
+    public void name_ignoresCaseBeforeTellingNamesApart() {
+        Person lowerAlex = new PersonBuilder().withName("alex").build();
+        Person upperBen = new PersonBuilder().withName("Ben").build();
+        assertTrue(PersonOrder.NAME.keyOf(lowerAlex).compareTo(PersonOrder.NAME.keyOf(upperBen)) < 0);
+    }
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(PersonOrder.COST), PersonOrder.fromKeyword("COST"));
+        assertEquals(Optional.of(PersonOrder.PAYMENT), PersonOrder.fromKeyword("payment"));
+        assertTrue(PersonOrder.fromKeyword("phone").isEmpty());
+    }
+
+    private static Person student(String name, String schedule) {
+        return new PersonBuilder().withType("s").withName(name).withSchedule(schedule).build();
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private static final int HISTORY_LIMIT = 100;
+
+    private final Parent parent = (Parent) new PersonBuilder().withType("p").withName("Pat Parent").build();
+    private final VersionedAddressBook addressBook = new VersionedAddressBook(getTypicalAddressBook(), HISTORY_LIMIT);
+
+    @Test
+    public void constructor_hasNothingToUndoOrRedo() {
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertFalse(addressBook.canUndo());
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void undo_addPerson_removesPerson() {
+        addressBook.addPerson(parent);
+        int id = addressBook.getId(parent);
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertTrue(addressBook.canRedo());
+
+        addressBook.redo();
+        assertEquals(id, addressBook.getId(parent));
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void undo_removePersonWithLinks_restoresPositionIdAndLinks() {
+        addressBook.addPerson(parent);
+        addressBook.addLink((Student) ALICE, parent);
+        addressBook.addLink((Student) BENSON, parent);
+        addressBook.commit();
+        AddressBook expected = new AddressBook(addressBook);
+        int id = addressBook.getId(BENSON);
+
+        addressBook.removePerson(BENSON);
+        addressBook.commit();
+        addressBook.undo();
+
+        assertEquals(expected, addressBook);
+        assertEquals(1, addressBook.indexOf(BENSON));
+        assertEquals(id, addressBook.getId(BENSON));
+        assertEquals(List.of(parent), addressBook.getParentsOf((Student) BENSON));
+    }
+
+    @Test
+    public void undo_stepWithSeveralChanges_revertsThemTogether() {
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        addressBook.addPerson(parent);
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.addLink((Student) editedCarl, parent);
+        addressBook.commit();
+
+        addressBook.undo();
+
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertFalse(addressBook.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThemAsOneStep() {
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(CARL);
+
+        assertTrue(addressBook.canUndo());
+        addressBook.undo();
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void undo_resetData_restoresPreviousData() {
+        addressBook.resetData(new AddressBook());
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        addressBook.redo();
+        assertEquals(new AddressBook(), addressBook);
+    }
+
+    @Test
+    public void undo_editOfOnePerson_reportsOnlyThatChange() {
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.commit();
+        List<Person> replacedPersons = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                replacedPersons.addAll(change.getRemoved());
+            }
+        });
+
+        addressBook.undo();
+
+        assertEquals(List.of(editedCarl), replacedPersons);
+    }
+
+    @Test
+    public void commit_afterUndo_forgetsUndoneSteps() {
+        addressBook.removePerson(ALICE);
+        addressBook.commit();
+        addressBook.undo();
+
+        addressBook.removePerson(CARL);
+        assertFalse(addressBook.canRedo());
+        addressBook.commit();
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void commit_historyLimitExceeded_forgetsOldestSteps() {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), 2);
+        limitedAddressBook.removePerson(ALICE);
+        limitedAddressBook.commit();
+        limitedAddressBook.removePerson(BENSON);
+        limitedAddressBook.commit();
+        limitedAddressBook.removePerson(CARL);
+        limitedAddressBook.commit();
+
+        limitedAddressBook.undo();
+        limitedAddressBook.undo();
+
+        assertFalse(limitedAddressBook.canUndo());
+        assertTrue(limitedAddressBook.hasPerson(BENSON));
+        assertFalse(limitedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_resetDataOfMorePersonsThanLimit_canBeUndone() {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), 1);
+        limitedAddressBook.resetData(new AddressBook());
+        limitedAddressBook.commit();
+
+        assertTrue(limitedAddressBook.canUndo());
+        limitedAddressBook.undo();
+        assertEquals(getTypicalAddressBook(), limitedAddressBook);
+    }
+
+    @Test
+    public void commit_stepLargerThanLimit_cannotBeUndone() {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(getTypicalAddressBook(), 1);
+        limitedAddressBook.removePerson(ALICE);
+        limitedAddressBook.removePerson(BENSON);
+
+        assertFalse(limitedAddressBook.canUndo());
+        limitedAddressBook.commit();
+        assertFalse(limitedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, addressBook::undo);
+        assertThrows(IllegalStateException.class, addressBook::redo);
+    }
+}
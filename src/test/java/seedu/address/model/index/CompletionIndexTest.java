@@ -0,0 +1,55 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CompletionIndexTest {
+
+    private static final Person ALEX_YEOH = new PersonBuilder().withName("Alex Yeoh").withTags("math").build();
+    private static final Person ALEX_TAN = new PersonBuilder().withName("Alex Tan").withTags("math", "physics")
+            .build();
+    private static final Person BERNICE_YU = new PersonBuilder().withName("Bernice Yu").withTags().build();
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALEX_YEOH, ALEX_TAN, BERNICE_YU);
+    private final CompletionIndex index = new CompletionIndex(persons);
+
+    @Test
+    public void completeName_prefixOfAnyWord_returnsFullNames() {
+        assertEquals(List.of("Alex Tan", "Alex Yeoh"), index.completeName("ALEX", 10));
+        assertEquals(List.of("Alex Yeoh"), index.completeName("alex y", 10));
+        assertEquals(List.of("Alex Yeoh", "Bernice Yu"), index.completeName("y", 10));
+        assertEquals(List.of("Alex Tan"), index.completeName("alex", 1));
+        assertTrue(index.completeName("lex", 10).isEmpty());
+    }
+
+    @Test
+    public void completeTag_eachTagOnce() {
+        assertEquals(List.of("math"), index.completeTag("M", 10));
+        assertEquals(List.of("math", "physics"), index.completeTag("", 10));
+    }
+
+    @Test
+    public void complete_changesToList_indexUpdated() {
+        Person renamedBernice = new PersonBuilder(BERNICE_YU).withName("Bernice Yoo").withTags("chemistry").build();
+        persons.set(2, renamedBernice);
+        assertEquals(List.of("Bernice Yoo"), index.completeName("bern", 10));
+        assertEquals(List.of("chemistry"), index.completeTag("c", 10));
+
+        // math is still tagged on Alex Tan
+        persons.remove(ALEX_YEOH);
+        assertEquals(List.of("Bernice Yoo"), index.completeName("y", 10));
+        assertEquals(List.of("math"), index.completeTag("m", 10));
+
+        persons.remove(ALEX_TAN);
+        assertTrue(index.completeTag("m", 10).isEmpty());
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyNameIndexTest {
+
+    private static final Person ALEX_YEOH = new PersonBuilder().withName("Alex Yeoh").build();
+    private static final Person ALEX_YEO = new PersonBuilder().withName("Alex Yeo").build();
+    private static final Person BERNICE_YU = new PersonBuilder().withName("Bernice Yu").build();
+
+    private final ObservableList<Person> persons =
+            FXCollections.observableArrayList(ALEX_YEOH, ALEX_YEO, BERNICE_YU);
+    private final PersonIndex<String> nameTokens = new PersonIndex<>(persons, IndexedField.NAME_TOKEN);
+    private final FuzzyNameIndex index = new FuzzyNameIndex(persons, nameTokens::get);
+
+    @Test
+    public void getWordsWithin_returnsWordsWithTheirDistances() {
+        assertEquals(Map.of("yeo", 0, "yeoh", 1, "yu", 2), index.getWordsWithin("yeo", 2));
+        assertEquals(Map.of("bernice", 1), index.getWordsWithin("bernce", 1));
+        assertTrue(index.getWordsWithin("zack", 1).isEmpty());
+    }
+
+    @Test
+    public void search_rankedByMatchedKeywordsThenDistance() {
+        // both keywords match both Alexes, and "yeo" is closer to Alex Yeo; "bernice" has a typo
+        assertEquals(List.of(ALEX_YEO, ALEX_YEOH, BERNICE_YU),
+                index.search(List.of("alex", "yeo", "bernise"), keyword -> 1));
+    }
+
+    @Test
+    public void search_changesToList_indexUpdated() {
+        Person renamedBernice = new PersonBuilder(BERNICE_YU).withName("Bernice Yoo").build();
+        persons.set(2, renamedBernice);
+        assertEquals(List.of(renamedBernice), index.search(List.of("yoa"), keyword -> 1));
+
+        persons.remove(ALEX_YEO);
+        assertEquals(List.of(ALEX_YEOH), index.search(List.of("yeoh"), keyword -> 1));
+        assertTrue(index.getWordsWithin("yu", 0).isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IntervalTreeTest {
+
+    private final IntervalTree<String> tree = new IntervalTree<>();
+
+    @Test
+    public void add_emptyInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tree.add(10, 10, "a"));
+    }
+
+    @Test
+    public void getOverlapping_halfOpenIntervals() {
+        tree.add(60, 120, "a");
+        tree.add(120, 180, "b");
+        tree.add(30, 240, "c");
+
+        assertEquals(List.of("c", "a"), tree.getOverlapping(100, 120));
+        assertEquals(List.of("c", "b"), tree.getOverlapping(120, 121));
+        assertTrue(tree.getOverlapping(0, 30).isEmpty());
+    }
+
+    @Test
+    public void remove_sharedInterval_keepsOtherValues() {
+        tree.add(60, 120, "a");
+        tree.add(60, 120, "b");
+
+        assertTrue(tree.remove(60, 120, "a"));
+        assertFalse(tree.remove(60, 120, "a"));
+        assertEquals(List.of("b"), tree.getOverlapping(0, 1440));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void replace_attachedValue_takesItsPlace() {
+        tree.add(60, 120, "a");
+        tree.add(60, 120, "b");
+
+        assertTrue(tree.replace(60, 120, "a", "c"));
+        assertFalse(tree.replace(60, 120, "a", "d"));
+        assertFalse(tree.replace(60, 121, "b", "d"));
+        assertEquals(Set.of("b", "c"), new HashSet<>(tree.getOverlapping(0, 1440)));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void getOverlapping_randomIntervals_matchesScan() {
+        Random random = new Random(42);
+        List<int[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(1400);
+            int[] interval = {start, start + 1 + random.nextInt(120), i};
+            intervals.add(interval);
+            tree.add(interval[0], interval[1], String.valueOf(i));
+        }
+        for (int i = 0; i < 500; i += 3) {
+            int[] interval = intervals.get(i);
+            tree.remove(interval[0], interval[1], String.valueOf(i));
+        }
+
+        for (int query = 0; query < 100; query++) {
+            int start = random.nextInt(1400);
+            int end = start + 1 + random.nextInt(200);
+            Set<String> expected = new HashSet<>();
+            for (int[] interval : intervals) {
+                if (interval[2] % 3 != 0 && interval[0] < end && interval[1] > start) {
+                    expected.add(String.valueOf(interval[2]));
+                }
+            }
+            assertEquals(expected, new HashSet<>(tree.getOverlapping(start, end)));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.DayOfWeek;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_existingPersons_indexed() {
+        persons.addAll(ALICE, BENSON);
+        PersonIndex<Tag> index = new PersonIndex<>(persons, IndexedField.TAG);
+
+        assertEquals(Set.of(ALICE, BENSON), index.get(new Tag("friends")));
+        assertEquals(Set.of(BENSON), index.get(new Tag("owesMoney")));
+    }
+
+    @Test
+    public void get_changesToList_indexUpdated() {
+        PersonIndex<Boolean> index = new PersonIndex<>(persons, IndexedField.PAYMENT_STATUS);
+        Person unpaid = new PersonBuilder(ALICE).withPaymentStatus(false).build();
+        Person paid = new PersonBuilder(ALICE).withPaymentStatus(true).build();
+
+        persons.add(unpaid);
+        assertEquals(Set.of(unpaid), index.get(false));
+
+        persons.set(0, paid);
+        assertTrue(index.get(false).isEmpty());
+        assertEquals(Set.of(paid), index.get(true));
+
+        persons.remove(0);
+        assertTrue(index.get(true).isEmpty());
+    }
+
+    @Test
+    public void get_personWithoutKey_notIndexed() {
+        Person student = new PersonBuilder().withType("s").withSchedule("Monday 14:00-16:00").build();
+        persons.addAll(ALICE, student);
+        PersonIndex<DayOfWeek> index = new PersonIndex<>(persons, IndexedField.DAY_OF_WEEK);
+
+        assertEquals(Set.of(student), index.get(DayOfWeek.MONDAY));
+        assertTrue(index.get(DayOfWeek.TUESDAY).isEmpty());
+    }
+
+    @Test
+    public void get_modifyView_throwsUnsupportedOperationException() {
+        persons.add(ALICE);
+        PersonIndex<Tag> index = new PersonIndex<>(persons, IndexedField.TAG);
+        assertThrows(UnsupportedOperationException.class, () -> index.get(new Tag("friends")).clear());
+    }
+}
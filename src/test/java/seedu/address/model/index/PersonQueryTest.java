@@ -0,0 +1,84 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private static final Person UNPAID_MATH = new PersonBuilder().withName("Alex Yeoh").withTags("math")
+            .withPaymentStatus(false).build();
+    private static final Person PAID_MATH = new PersonBuilder().withName("Alex Tan").withTags("math")
+            .withPaymentStatus(true).build();
+    private static final Person UNPAID_PHYSICS = new PersonBuilder().withName("Bernice Yu").withTags("physics")
+            .withPaymentStatus(false).build();
+    private static final Person UNPAID = new PersonBuilder().withName("Charlotte Oliveiro").withTags()
+            .withPaymentStatus(false).build();
+
+    private final ObservableList<Person> persons =
+            FXCollections.observableArrayList(UNPAID_MATH, PAID_MATH, UNPAID_PHYSICS, UNPAID);
+    private final PersonIndexes indexes = new PersonIndexes(persons);
+
+    private final PersonQuery unpaid = PersonQuery.withKey(IndexedField.PAYMENT_STATUS, false);
+    private final PersonQuery math = PersonQuery.withKey(IndexedField.TAG, new Tag("math"));
+    private final PersonQuery physics = PersonQuery.withKey(IndexedField.TAG, new Tag("physics"));
+
+    @Test
+    public void allOf_lookedUpFromMostSelectiveQuery() {
+        PersonQuery query = PersonQuery.allOf(List.of(unpaid, math));
+
+        // two persons are tagged math and three are unpaid
+        assertEquals(Set.of(UNPAID_MATH, PAID_MATH), Set.copyOf(query.lookUp(indexes).get()));
+        assertTrue(query.getPredicate().test(UNPAID_MATH));
+        assertFalse(query.getPredicate().test(PAID_MATH));
+
+        // the plan follows the indexes as they change
+        persons.remove(UNPAID);
+        persons.remove(UNPAID_PHYSICS);
+        assertEquals(Set.of(UNPAID_MATH), Set.copyOf(query.lookUp(indexes).get()));
+    }
+
+    @Test
+    public void allOf_noQueryCanBeLookedUp_testsEveryPerson() {
+        PersonQuery query = PersonQuery.allOf(List.of(PersonQuery.matching(person -> true), math));
+        assertEquals(Set.of(UNPAID_MATH, PAID_MATH), Set.copyOf(query.lookUp(indexes).get()));
+
+        assertTrue(PersonQuery.allOf(List.of(PersonQuery.matching(person -> true))).lookUp(indexes).isEmpty());
+    }
+
+    @Test
+    public void anyOf_everyQueryLookedUp_returnsUnion() {
+        PersonQuery query = PersonQuery.anyOf(List.of(physics, PersonQuery.allOf(List.of(unpaid, math))));
+
+        assertEquals(Set.of(UNPAID_PHYSICS, UNPAID_MATH, PAID_MATH), Set.copyOf(query.lookUp(indexes).get()));
+        assertTrue(query.getPredicate().test(UNPAID_PHYSICS));
+        assertFalse(query.getPredicate().test(PAID_MATH));
+        assertFalse(query.getPredicate().test(UNPAID));
+    }
+
+    @Test
+    public void anyOf_someQueryCannotBeLookedUp_testsEveryPerson() {
+        PersonQuery query = PersonQuery.anyOf(List.of(physics, PersonQuery.matching(person -> false)));
+        assertTrue(query.lookUp(indexes).isEmpty());
+    }
+
+    @Test
+    public void withNameIn_findsPersonsWithExactName() {
+        PersonQuery query = PersonQuery.withNameIn(List.of(new Name("Alex Tan"), new Name("Alex")));
+        assertEquals(List.of(PAID_MATH), List.copyOf(query.lookUp(indexes).get()));
+        assertTrue(query.getPredicate().test(PAID_MATH));
+        assertFalse(query.getPredicate().test(UNPAID_MATH));
+    }
+}
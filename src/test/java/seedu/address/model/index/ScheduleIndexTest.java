@@ -0,0 +1,52 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Schedule;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScheduleIndexTest {
+
+    private static final Schedule MONDAY_MORNING = new Schedule("Monday 10:30-11:30");
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+    @Test
+    public void getClashing_weeklyLesson_findsOneOffLessonsOnEveryDateOfItsDay() {
+        // 10-06-2025 and 10-13-2025 are Mondays, 10-07-2025 a Tuesday
+        Person first = new PersonBuilder(ALICE).withSchedule("10-06-2025 10:00-11:00").build();
+        Person second = new PersonBuilder(BENSON).withType("s").withSchedule("10-13-2025 11:00-12:00").build();
+        Person tuesday = new PersonBuilder().withType("s").withName("Carl Kurz")
+                .withSchedule("10-07-2025 10:00-11:00").build();
+        persons.addAll(first, second, tuesday);
+        ScheduleIndex index = new ScheduleIndex(persons);
+
+        assertEquals(List.of(first, second), index.getClashing(MONDAY_MORNING));
+        assertEquals(List.of(), index.getClashing(new Schedule("Monday 12:00-13:00")));
+    }
+
+    @Test
+    public void getClashing_oneOffLessonsRemoved_indexUpdated() {
+        Person twoMondays = new PersonBuilder(ALICE)
+                .withSchedule("10-06-2025 10:00-11:00, 10-13-2025 10:00-11:00").build();
+        Person oneMonday = new PersonBuilder(ALICE).withSchedule("10-13-2025 10:00-11:00").build();
+        persons.add(twoMondays);
+        ScheduleIndex index = new ScheduleIndex(persons);
+
+        // the lesson at the same time on the other Monday is still indexed
+        persons.set(0, oneMonday);
+        assertEquals(List.of(oneMonday), index.getClashing(MONDAY_MORNING));
+
+        persons.remove(0);
+        assertEquals(List.of(), index.getClashing(MONDAY_MORNING));
+    }
+}
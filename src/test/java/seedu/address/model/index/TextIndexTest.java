@@ -0,0 +1,75 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.PaymentStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonPatch;
+import seedu.address.testutil.PersonBuilder;
+
+public class TextIndexTest {
+
+    private static final Person CHEMISTRY_NOTE = new PersonBuilder().withName("Alice Tan")
+            .withAddress("Blk 123 Jurong West").withNote("sec 3 chemistry").withTags().build();
+    private static final Person CHEMISTRY_TAG = new PersonBuilder().withName("Bob Lim")
+            .withAddress("Blk 45 Bedok").withNote("likes maths").withTags("chemistry").build();
+    private static final Person CHEMISTRY_NAME = new PersonBuilder().withName("Chemistry Ng")
+            .withAddress("Blk 7 Bedok").withTags().build();
+
+    private final ObservableList<Person> persons =
+            FXCollections.observableArrayList(CHEMISTRY_NOTE, CHEMISTRY_TAG, CHEMISTRY_NAME);
+    private final TextIndex index = new TextIndex(persons);
+
+    @Test
+    public void tokenize_splitsIntoLowercaseRunsOfLettersAndDigits() {
+        assertEquals(List.of("blk", "123", "sec3", "o", "neil"), TextIndex.tokenize("Blk 123, Sec3-O'Neil"));
+        assertTrue(TextIndex.tokenize(" -, ").isEmpty());
+    }
+
+    @Test
+    public void search_wordInSeveralFields_rankedByFieldWeight() {
+        assertEquals(List.of(CHEMISTRY_NAME, CHEMISTRY_TAG, CHEMISTRY_NOTE), index.search(List.of("chemistry")));
+    }
+
+    @Test
+    public void search_severalWords_rarerWordsRankHigher() {
+        // "bedok" is in two addresses and "123" in one, so the person with "123" ranks first,
+        // and of the two with "bedok", the one with less text ranks higher
+        assertEquals(List.of(CHEMISTRY_NOTE, CHEMISTRY_NAME, CHEMISTRY_TAG), index.search(List.of("123", "bedok")));
+        assertTrue(index.search(List.of("nothing")).isEmpty());
+    }
+
+    @Test
+    public void search_changesToList_indexUpdated() {
+        Person movedAlice = new PersonBuilder(CHEMISTRY_NOTE).withAddress("Blk 9 Tampines").build();
+        persons.set(0, movedAlice);
+        assertEquals(List.of(movedAlice), index.search(List.of("tampines")));
+        assertTrue(index.search(List.of("jurong")).isEmpty());
+
+        persons.remove(CHEMISTRY_TAG);
+        assertEquals(List.of(CHEMISTRY_NAME), index.search(List.of("bedok")));
+    }
+
+    @Test
+    public void search_personChangedOutsideIndexedFields_latestVersionFound() {
+        Person paidAlice = PersonPatch.empty().withPaymentStatus(PaymentStatus.PAID).applyTo(CHEMISTRY_NOTE);
+        persons.set(0, paidAlice);
+
+        assertSame(paidAlice, index.search(List.of("jurong")).get(0));
+    }
+
+    @Test
+    public void containsAny() {
+        assertTrue(TextIndex.containsAny(CHEMISTRY_TAG, List.of("maths", "physics")));
+        assertFalse(TextIndex.containsAny(CHEMISTRY_TAG, List.of("physics")));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.persistent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void put_keepsOldVersionUnchanged() {
+        PersistentHashMap<String, Integer> first = PersistentHashMap.<String, Integer>empty().put("a", 1);
+        PersistentHashMap<String, Integer> second = first.put("b", 2).put("a", 3);
+
+        assertEquals(Integer.valueOf(1), first.get("a"));
+        assertNull(first.get("b"));
+        assertEquals(Integer.valueOf(3), second.get("a"));
+        assertEquals(2, second.size());
+    }
+
+    @Test
+    public void put_sameValue_returnsSameMap() {
+        Integer value = 1000;
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", value);
+        assertSame(map, map.put("a", value));
+    }
+
+    @Test
+    public void remove_lastKey_equalsEmptyMap() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", 1).put("b", 2);
+        assertEquals(PersistentHashMap.empty(), map.remove("a").remove("b"));
+    }
+
+    @Test
+    public void randomUpdates_withCollidingHashes_matchHashMap() {
+        Random random = new Random(42);
+        Map<CollidingKey, Integer> expected = new HashMap<>();
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+        for (int step = 0; step < 5000; step++) {
+            CollidingKey key = new CollidingKey(random.nextInt(2000));
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, step);
+                map = map.put(key, step);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int value = 0; value < 2000; value++) {
+            CollidingKey key = new CollidingKey(value);
+            assertEquals(expected.get(key), map.get(key));
+        }
+        Map<CollidingKey, Integer> contents = new HashMap<>();
+        map.forEach(contents::put);
+        assertEquals(expected, contents);
+    }
+
+    /**
+     * A key whose hash code is shared by every fourth value, so that some keys collide completely.
+     */
+    private static class CollidingKey {
+        private final int value;
+
+        CollidingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && ((CollidingKey) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value / 4;
+        }
+    }
+}
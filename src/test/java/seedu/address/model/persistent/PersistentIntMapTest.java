@@ -0,0 +1,83 @@
+package seedu.address.model.persistent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentIntMapTest {
+
+    @Test
+    public void put_keepsOldVersionUnchanged() {
+        PersistentIntMap<String> first = PersistentIntMap.<String>empty().put(1, "a");
+        PersistentIntMap<String> second = first.put(2, "b").put(1, "c");
+
+        assertEquals("a", first.get(1));
+        assertNull(first.get(2));
+        assertEquals(List.of("c", "b"), second.values());
+    }
+
+    @Test
+    public void put_sameValue_returnsSameMap() {
+        String value = "a";
+        PersistentIntMap<String> map = PersistentIntMap.<String>empty().put(1, value);
+        assertSame(map, map.put(1, value));
+    }
+
+    @Test
+    public void remove_absentKey_returnsSameMap() {
+        PersistentIntMap<String> map = PersistentIntMap.<String>empty().put(1, "a");
+        assertSame(map, map.remove(2));
+    }
+
+    @Test
+    public void getAt_outOfRange_throwsIndexOutOfBoundsException() {
+        PersistentIntMap<String> map = PersistentIntMap.<String>empty().put(1, "a");
+        assertThrows(IndexOutOfBoundsException.class, () -> map.getAt(1));
+    }
+
+    @Test
+    public void sequential_equalsMapBuiltByPuts() {
+        PersistentIntMap<Integer> built = PersistentIntMap.empty();
+        for (int i = 0; i < 100; i++) {
+            built = built.put(i, i * i);
+        }
+        assertEquals(built, PersistentIntMap.sequential(100, i -> i * i));
+    }
+
+    @Test
+    public void randomUpdates_matchTreeMap() {
+        Random random = new Random(42);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        PersistentIntMap<Integer> map = PersistentIntMap.empty();
+        for (int step = 0; step < 5000; step++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, step);
+                map = map.put(key, step);
+            }
+        }
+
+        List<Integer> expectedKeys = new ArrayList<>(expected.keySet());
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.values()), map.values());
+        for (int position = 0; position < expectedKeys.size(); position++) {
+            assertEquals(position, map.indexOf(expectedKeys.get(position)));
+            assertEquals(expected.get(expectedKeys.get(position)), map.getAt(position));
+        }
+        for (int key = 0; key < 500; key++) {
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.headMap(key).size(), map.rank(key));
+        }
+    }
+}
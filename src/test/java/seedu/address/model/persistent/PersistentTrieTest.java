@@ -0,0 +1,84 @@
+package seedu.address.model.persistent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentTrieTest {
+
+    private final PersistentTrie trie = PersistentTrie.empty()
+            .with("bob", "Bob")
+            .with("alice", "Alice")
+            .with("al", "Al")
+            .with("alice", "ALICE");
+
+    @Test
+    public void complete_returnsValuesInKeyOrder() {
+        assertEquals(List.of("Al", "ALICE", "Alice"), trie.complete("al", 10));
+        assertEquals(List.of("Al", "ALICE", "Alice", "Bob"), trie.complete("", 10));
+        assertEquals(List.of("Al", "ALICE"), trie.complete("", 2));
+        assertTrue(trie.complete("alicia", 10).isEmpty());
+    }
+
+    @Test
+    public void with_keepsOldVersionUnchanged() {
+        PersistentTrie updated = trie.with("alan", "Alan").without("bob", "Bob");
+        assertEquals(List.of("Al", "ALICE", "Alice", "Bob"), trie.complete("", 10));
+        assertEquals(List.of("Al", "Alan", "ALICE", "Alice"), updated.complete("", 10));
+    }
+
+    @Test
+    public void without_valueAddedTwice_keptUntilRemovedTwice() {
+        PersistentTrie twice = trie.with("bob", "Bob");
+        assertEquals(List.of("Bob"), twice.without("bob", "Bob").complete("b", 10));
+        assertTrue(twice.without("bob", "Bob").without("bob", "Bob").complete("b", 10).isEmpty());
+    }
+
+    @Test
+    public void without_absentValue_returnsSameTrie() {
+        assertSame(trie, trie.without("bob", "Robert"));
+        assertSame(trie, trie.without("bo", "Bob"));
+        assertSame(trie, trie.without("carl", "Carl"));
+    }
+
+    @Test
+    public void without_everyValue_isEmpty() {
+        PersistentTrie emptied = trie.without("alice", "Alice").without("bob", "Bob").without("al", "Al")
+                .without("alice", "ALICE");
+        assertTrue(emptied.isEmpty());
+        assertSame(PersistentTrie.empty(), emptied);
+    }
+
+    @Test
+    public void randomUpdates_matchTreeMap() {
+        Random random = new Random(42);
+        TreeMap<String, Integer> expected = new TreeMap<>();
+        PersistentTrie randomTrie = PersistentTrie.empty();
+        for (int step = 0; step < 3000; step++) {
+            String key = Integer.toString(random.nextInt(400), 5);
+            if (random.nextInt(3) == 0) {
+                expected.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+                randomTrie = randomTrie.without(key, key);
+            } else {
+                expected.merge(key, 1, Integer::sum);
+                randomTrie = randomTrie.with(key, key);
+            }
+        }
+        for (String prefix : List.of("", "1", "23", "404")) {
+            List<String> expectedKeys = new ArrayList<>();
+            for (String key : expected.keySet()) {
+                if (key.startsWith(prefix)) {
+                    expectedKeys.add(key);
+                }
+            }
+            assertEquals(expectedKeys, randomTrie.complete(prefix, Integer.MAX_VALUE));
+        }
+    }
+}
@@ -31,6 +31,9 @@ public class CostTest {
         assertFalse(Cost.isValidCost("abc")); // alphabets only
         assertFalse(Cost.isValidCost("12.")); // missing fractional digits
         assertFalse(Cost.isValidCost("12.3.4")); // multiple decimal points
+        assertFalse(Cost.isValidCost("12.345")); // more than 2 decimal places
+        assertFalse(Cost.isValidCost("-5")); // negative
+        assertFalse(Cost.isValidCost("12345678901234")); // too many digits
 
         // valid cost
         assertTrue(Cost.isValidCost("0"));
@@ -38,8 +41,41 @@ public class CostTest {
         assertTrue(Cost.isValidCost("72.5"));
     }
 
+    @Test
+    public void getCents_parsesAmount() {
+        assertEquals(7250, new Cost("72.5").getCents());
+        assertEquals(7205, new Cost("72.05").getCents());
+        assertEquals(8800, new Cost("88").getCents());
+        assertTrue(new Cost("0.00").isZero());
+        assertThrows(IllegalArgumentException.class, () -> new Cost("33.333"));
+    }
+
+    @Test
+    public void fromCents_formatsWithoutTrailingZeros() {
+        assertEquals("100", Cost.fromCents(10000).value);
+        assertEquals("72.5", Cost.fromCents(7250).value);
+        assertEquals("72.05", Cost.fromCents(7205).value);
+        assertEquals("0", Cost.fromCents(0).value);
+        assertThrows(IllegalArgumentException.class, () -> Cost.fromCents(-1));
+    }
+
+    @Test
+    public void fromStored_anyDecimalPlaces_roundedHalfUpToCents() {
+        assertEquals(3333, Cost.fromStored("33.333").getCents());
+        assertEquals(3334, Cost.fromStored("33.335").getCents());
+        assertEquals(100, Cost.fromStored("0.9999").getCents());
+        assertEquals(7250, Cost.fromStored("72.5").getCents());
+        assertEquals("33.333", Cost.fromStored("33.333").value);
+        assertTrue(Cost.isValidStoredCost("12345678901234.567"));
+        assertFalse(Cost.isValidStoredCost("12."));
+        assertFalse(Cost.isValidStoredCost("1.2.3"));
+        assertFalse(Cost.isValidStoredCost("99999999999999999999"));
+        assertThrows(IllegalArgumentException.class, () -> Cost.fromStored("abc"));
+    }
+
     @Test
     public void toString_returnsPrefixedValue() {
+        assertEquals("$72.50", new Cost("72.50").toString());
         assertEquals("$72.5", new Cost("72.5").toString());
     }
 
@@ -59,6 +95,9 @@ public class CostTest {
         // different types -> returns false
         assertFalse(cost.equals(5));
 
+        // same amount written differently -> returns true
+        assertTrue(cost.equals(new Cost("10.00")));
+
         // different values -> returns false
         assertFalse(cost.equals(new Cost("15")));
     }
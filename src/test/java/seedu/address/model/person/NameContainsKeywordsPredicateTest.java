@@ -74,6 +74,25 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_matchAll_requiresEveryKeyword() {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("alice", "BOB"), true);
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Alice Carol").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Carol").build()));
+
+        // zero keywords
+        predicate = new NameContainsKeywordsPredicate(Collections.emptyList(), true);
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+    }
+
+    @Test
+    public void equals_differentMatchMode_returnsFalse() {
+        List<String> keywords = Arrays.asList("first", "second");
+        NameContainsKeywordsPredicate anyPredicate = new NameContainsKeywordsPredicate(keywords);
+        assertFalse(anyPredicate.equals(new NameContainsKeywordsPredicate(keywords, true)));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSimilarToKeywordsPredicate firstPredicate = new NameSimilarToKeywordsPredicate(firstPredicateKeywordList);
+        NameSimilarToKeywordsPredicate secondPredicate =
+                new NameSimilarToKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSimilarToKeywordsPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // exact-match predicate with the same keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList)));
+    }
+
+    @Test
+    public void maxDistanceFor_longerKeywords_allowMoreEdits() {
+        assertEquals(0, NameSimilarToKeywordsPredicate.maxDistanceFor("al"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.maxDistanceFor("yeo"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.maxDistanceFor("alexa"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.maxDistanceFor("bernice"));
+    }
+
+    @Test
+    public void test_nameHasSimilarWord_returnsTrue() {
+        // typo in one keyword
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Yeo"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alex Yeoh").build()));
+
+        // two typos in a long keyword, mixed case
+        predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("BERNISE", "Carol"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bernice Yu").build()));
+    }
+
+    @Test
+    public void test_nameHasNoSimilarWord_returnsFalse() {
+        // zero keywords
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // too many edits away
+        predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Alan", "Bo"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(keywords);
+
+        String expected = NameSimilarToKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
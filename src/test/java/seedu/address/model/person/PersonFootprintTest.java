@@ -0,0 +1,54 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks that persons built the way storage builds one, from fresh strings through the shared value factories,
+ * share their value objects. The heap each one retains is measured by {@code PersonFootprintBenchmark}.
+ */
+public class PersonFootprintTest {
+
+    private static final String[] DAYS = {"Monday", "Tuesday", "Wednesday"};
+
+    @Test
+    public void students_shareValueObjects() {
+        Student first = student(0);
+        Student second = student(3);
+
+        assertSame(first.getType(), second.getType());
+        assertSame(first.getPaymentStatus(), second.getPaymentStatus());
+        assertSame(first.getSchedule(), second.getSchedule());
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
+    private static Student student(int index) {
+        return student(fields(index));
+    }
+
+    /**
+     * Returns the fields of a student as storage would read them, each in a string of its own.
+     */
+    private static String[] fields(int index) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = index;
+        do {
+            letters.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+
+        return new String[] {"Student " + letters, String.valueOf(80000000 + index), "s" + index + "@example.com",
+            "Blk " + index, DAYS[index % DAYS.length] + " 14:00-16:00", "sec" + index % 4, new String("group")};
+    }
+
+    private static Student student(String[] field) {
+        return new Student(new Name(field[0]), new Phone(field[1]), new Email(field[2]), new Address(field[3]),
+                new Note(""), Schedule.of(field[4]), new Cost("50"), PaymentStatus.of(false),
+                Set.of(Tag.of(field[5]), Tag.of(field[6])));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonPatchTest {
+
+    @Test
+    public void applyTo_emptyPatch_returnsSamePerson() {
+        assertSame(ALICE, PersonPatch.empty().applyTo(ALICE));
+    }
+
+    @Test
+    public void applyTo_notePatch_sharesOtherFields() {
+        Note note = new Note("Likes chess");
+        Student student = (Student) new PersonBuilder().withSchedule("Monday 10:00-12:00").build();
+
+        Student patched = (Student) PersonPatch.empty().withNote(note).applyTo(student);
+
+        assertEquals(note, patched.getNote());
+        assertSame(student.getName(), patched.getName());
+        assertSame(student.getCost(), patched.getCost());
+        assertSame(student.getTags(), patched.getTags());
+        assertSame(student.getSchedule(), patched.getSchedule());
+    }
+
+    @Test
+    public void applyTo_parent_keepsType() {
+        Person parent = new PersonBuilder().withType("p").build();
+        Person patched = PersonPatch.empty().withPhone(new Phone("91234567")).applyTo(parent);
+
+        assertTrue(patched instanceof Parent);
+        assertEquals(new PersonBuilder(parent).withPhone("91234567").build(), patched);
+    }
+
+    @Test
+    public void applyTo_scheduleOfParent_throwsIllegalArgumentException() {
+        Person parent = new PersonBuilder().withType("p").build();
+        PersonPatch patch = PersonPatch.empty().withSchedule(new Schedule("Monday 10:00-12:00"));
+        assertThrows(IllegalArgumentException.class, () -> patch.applyTo(parent));
+    }
+
+    @Test
+    public void getChangedFields() {
+        PersonPatch patch = PersonPatch.empty().withCost(new Cost("50")).withNote(new Note("note"));
+
+        assertEquals(Set.of(PersonField.COST, PersonField.NOTE), patch.getChangedFields());
+        assertTrue(patch.changesAnyOf(PersonField.PAYMENT_STATUS, PersonField.COST));
+        assertFalse(patch.changesAnyOf(PersonField.SCHEDULE));
+        assertTrue(PersonPatch.empty().isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        PersonPatch patch = PersonPatch.empty().withNote(new Note("note"));
+
+        assertTrue(patch.equals(PersonPatch.empty().withNote(new Note("note"))));
+        assertFalse(patch.equals(PersonPatch.empty().withNote(new Note("other"))));
+        assertFalse(patch.equals(PersonPatch.empty()));
+        assertFalse(patch.equals(null));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RelationshipGraphTest {
+
+    private static final int STUDENT = 0;
+    private static final int OTHER_STUDENT = 1;
+    private static final int PARENT = 2;
+
+    private final RelationshipGraph graph = new RelationshipGraph();
+
+    @Test
+    public void link_keepsBothDirections() {
+        graph.link(STUDENT, PARENT);
+        graph.link(OTHER_STUDENT, PARENT);
+
+        assertTrue(graph.isLinked(STUDENT, PARENT));
+        assertEquals(Set.of(PARENT), graph.getParents(STUDENT));
+        assertEquals(Set.of(STUDENT, OTHER_STUDENT), graph.getChildren(PARENT));
+    }
+
+    @Test
+    public void link_alreadyLinked_throwsIllegalStateException() {
+        graph.link(STUDENT, PARENT);
+        assertThrows(IllegalStateException.class, () -> graph.link(STUDENT, PARENT));
+    }
+
+    @Test
+    public void unlink_notLinked_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> graph.unlink(STUDENT, PARENT));
+    }
+
+    @Test
+    public void unlink_removesBothDirections() {
+        graph.link(STUDENT, PARENT);
+        graph.unlink(STUDENT, PARENT);
+
+        assertFalse(graph.isLinked(STUDENT, PARENT));
+        assertTrue(graph.getChildren(PARENT).isEmpty());
+        assertEquals(new RelationshipGraph(), graph);
+    }
+
+    @Test
+    public void remove_person_removesAllItsLinks() {
+        graph.link(STUDENT, PARENT);
+        graph.link(OTHER_STUDENT, PARENT);
+
+        assertEquals(Set.of(STUDENT, OTHER_STUDENT), graph.remove(PARENT));
+        assertTrue(graph.getParents(STUDENT).isEmpty());
+        assertTrue(graph.getParents(OTHER_STUDENT).isEmpty());
+    }
+
+    @Test
+    public void getParents_modifyView_throwsUnsupportedOperationException() {
+        graph.link(STUDENT, PARENT);
+        assertThrows(UnsupportedOperationException.class, () -> graph.getParents(STUDENT).clear());
+    }
+}
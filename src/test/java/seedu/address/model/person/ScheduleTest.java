@@ -1,7 +1,12 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -92,9 +97,128 @@ public class ScheduleTest {
         assertThrows(IllegalArgumentException.class, () -> new Schedule("13-32-2025 14:00-16:00"));
     }
 
+    @Test
+    public void constructor_errorMessages() {
+        assertThrowsWithMessage(Schedule.MESSAGE_CONSTRAINTS, "Monday");
+        assertThrowsWithMessage(ScheduleScanner.MESSAGE_INVALID_RANGE, "Monday 14:00-15:00-16:00");
+        assertThrowsWithMessage(ScheduleScanner.MESSAGE_INVALID_TIME, "Funday 14-16");
+        assertThrowsWithMessage(ScheduleScanner.MESSAGE_INVALID_TIME, "Monday 24:00-25:00");
+        assertThrowsWithMessage(ScheduleScanner.MESSAGE_END_NOT_AFTER_START, "Monday 16:00-16:00");
+        assertThrowsWithMessage(ScheduleScanner.MESSAGE_INVALID_DAY, "Mon 14:00-16:00");
+        assertThrowsWithMessage(ScheduleScanner.MESSAGE_INVALID_DATE, "2025-12-10 14:00-16:00");
+    }
+
+    @Test
+    public void constructor_dayOfMonthPastEndOfMonth_resolvesToLastDay() {
+        assertEquals("02-28-2025 14:00-16:00", new Schedule("02-30-2025 14:00-16:00").value);
+        assertEquals("02-29-2024 14:00-16:00", new Schedule("02-31-2024 14:00-16:00").value);
+    }
+
+    @Test
+    public void constructor_spacesAroundRange_success() {
+        assertEquals("Monday 14:00-16:00", new Schedule("\tmonday 14:00 - 16:00 ").value);
+    }
+
+    @Test
+    public void of_equalSchedules_shareInstance() {
+        Schedule schedule = Schedule.of("thursday 09:00-10:00");
+
+        assertEquals("Thursday 09:00-10:00", schedule.value);
+        assertSame(schedule, Schedule.of("Thursday 09:00-10:00"));
+        assertSame(schedule, Schedule.of("  THURSDAY   09:00-10:00"));
+        assertThrows(IllegalArgumentException.class, () -> Schedule.of("Thursday 10:00-09:00"));
+    }
+
+    @Test
+    public void tryParse() {
+        assertEquals(Optional.of(new Schedule("Friday 09:00-10:00")), Schedule.tryParse("friday 09:00-10:00"));
+        assertEquals(Optional.of(new Schedule("")), Schedule.tryParse(" "));
+        assertEquals(Optional.empty(), Schedule.tryParse("Friday 09:00"));
+        assertFalse(Schedule.isValidSchedule("Friday 09:00"));
+        assertTrue(Schedule.isValidSchedule(""));
+    }
+
+    private static void assertThrowsWithMessage(String expectedMessage, String schedule) {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> new Schedule(schedule));
+        assertEquals(expectedMessage, thrown.getMessage());
+    }
+
     @Test
     public void isEmpty_returnsTrueForEmptySchedule() {
         Schedule emptySchedule = new Schedule("");
         assertEquals(true, emptySchedule.isEmpty());
     }
+
+    @Test
+    public void overlaps() {
+        Schedule lesson = new Schedule("Monday 14:00-16:00");
+
+        assertTrue(lesson.overlaps(new Schedule("Monday 15:00-17:00")));
+        assertTrue(lesson.overlaps(new Schedule("Monday 14:30-15:00")));
+
+        // touching, different day, one-off or empty -> no overlap
+        assertFalse(lesson.overlaps(new Schedule("Monday 16:00-17:00")));
+        assertFalse(lesson.overlaps(new Schedule("Tuesday 14:00-16:00")));
+        assertFalse(lesson.overlaps(new Schedule("12-10-2025 14:00-16:00")));
+        assertFalse(lesson.overlaps(new Schedule("")));
+
+        assertTrue(new Schedule("12-10-2025 14:00-16:00").overlaps(new Schedule("12-10-2025 15:00-15:30")));
+    }
+
+    @Test
+    public void clashesWith() {
+        Schedule weekly = new Schedule("Wednesday 14:00-16:00");
+
+        // 12-10-2025 is a Wednesday
+        assertTrue(weekly.clashesWith(new Schedule("12-10-2025 15:00-17:00")));
+        assertTrue(new Schedule("12-10-2025 15:00-17:00").clashesWith(weekly));
+        assertTrue(weekly.clashesWith(new Schedule("Wednesday 13:00-14:30")));
+
+        assertFalse(weekly.clashesWith(new Schedule("12-11-2025 15:00-17:00")));
+        assertFalse(new Schedule("12-10-2025 15:00-17:00").clashesWith(new Schedule("12-17-2025 15:00-17:00")));
+        assertFalse(weekly.clashesWith(new Schedule("Wednesday 16:00-17:00")));
+        assertFalse(weekly.clashesWith(new Schedule("")));
+    }
+
+    @Test
+    public void constructor_multipleSlots_sortedAndNormalized() {
+        Schedule schedule = new Schedule("wednesday 14:00-15:00 ,  12-10-2025 09:00-10:00, Monday 10:00-12:00");
+
+        assertEquals("12-10-2025 09:00-10:00, Monday 10:00-12:00, Wednesday 14:00-15:00", schedule.value);
+        assertEquals(3, schedule.getSlots().size());
+        assertEquals(schedule, new Schedule(schedule.value));
+    }
+
+    @Test
+    public void constructor_invalidSlotList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Schedule("Monday 10:00-12:00,"));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule("Monday 10:00-12:00, Tuesday"));
+        assertThrows(IllegalArgumentException.class, () -> new Schedule("Monday 10:00-12:00, Monday 11:00-13:00"));
+
+        // 12-08-2025 is a Monday
+        assertThrows(IllegalArgumentException.class, () -> new Schedule("Monday 10:00-12:00, 12-08-2025 11:00-12:00"));
+        assertFalse(Schedule.isValidSchedule("Monday 10:00-12:00, Monday 11:00-13:00"));
+    }
+
+    @Test
+    public void overlaps_multipleSlots() {
+        Schedule lessons = new Schedule("Monday 10:00-12:00, Wednesday 14:00-15:00");
+
+        assertTrue(lessons.overlaps(new Schedule("Wednesday 14:45-16:00")));
+        assertTrue(lessons.overlaps(new Schedule("Tuesday 10:00-12:00, Monday 11:45-12:00")));
+        assertFalse(lessons.overlaps(new Schedule("Monday 12:00-14:00, Wednesday 15:00-16:00")));
+
+        // times off the quarter hour are compared exactly
+        assertFalse(lessons.overlaps(new Schedule("Wednesday 15:00-15:10")));
+        assertFalse(new Schedule("Wednesday 13:50-14:00").overlaps(new Schedule("Wednesday 14:05-14:20")));
+        assertTrue(new Schedule("Wednesday 13:50-14:10").overlaps(lessons));
+    }
+
+    @Test
+    public void clashesWith_multipleSlots() {
+        Schedule lessons = new Schedule("Monday 10:00-12:00, 12-10-2025 14:00-15:00");
+
+        assertTrue(lessons.clashesWith(new Schedule("Friday 08:00-09:00, Wednesday 14:30-15:30")));
+        assertFalse(lessons.clashesWith(new Schedule("Friday 08:00-09:00, 12-17-2025 14:30-15:30")));
+    }
 }
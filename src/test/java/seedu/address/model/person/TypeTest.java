@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -36,4 +37,12 @@ public class TypeTest {
         assertEquals(s1.hashCode(), s2.hashCode());
         assertNotEquals(s1, p);
     }
+
+    @Test
+    public void of_sharesOneInstancePerType() {
+        assertSame(Type.of("s"), Type.of(" S "));
+        assertSame(Type.of(Type.PARENT), Type.of("P"));
+        assertEquals(new Type("p"), Type.of("p"));
+        assertThrows(IllegalArgumentException.class, () -> Type.of("x"));
+    }
 }
@@ -2,19 +2,25 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -109,6 +115,27 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+    }
+
+    @Test
+    public void indexOf_personNotInList_returnsMinusOne() {
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+    }
+
+    @Test
+    public void indexOf_personWithSameIdentityButDifferentFields_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniquePersonList.indexOf(editedAlice));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +154,17 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_shiftsPositionsOfLaterPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -141,6 +179,20 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_uniquePersonList_laterChangesAreNotShared() {
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+
+        uniquePersonList.add(BOB);
+        replacement.setPerson(ALICE, CARL);
+
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(CARL), replacement.asUnmodifiableObservableList());
+        assertEquals(uniquePersonList.getId(ALICE), replacement.getId(CARL));
+    }
+
     @Test
     public void setPersons_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((List<Person>) null));
@@ -162,6 +214,132 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsCollidingNames() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, CARL, ALICE, editedBob);
+        DuplicatePersonException exception = Assertions.assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(Arrays.asList(ALICE.getName(), BOB.getName()), exception.getDuplicateNames());
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_leavesListUnchanged() {
+        uniquePersonList.add(CARL);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE)));
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_keepsId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        int id = uniquePersonList.getId(ALICE);
+
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        assertEquals(id, uniquePersonList.getId(BOB));
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(id));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getId(ALICE));
+    }
+
+    @Test
+    public void add_afterRemove_doesNotReuseId() {
+        uniquePersonList.add(ALICE);
+        int aliceId = uniquePersonList.getId(ALICE);
+        uniquePersonList.remove(ALICE);
+
+        uniquePersonList.add(BOB);
+
+        assertNotEquals(aliceId, uniquePersonList.getId(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.findById(aliceId));
+    }
+
+    @Test
+    public void add_idInUse_throwsIllegalArgumentException() {
+        uniquePersonList.add(ALICE, 7);
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.add(BOB, 7));
+    }
+
+    @Test
+    public void add_atIndex_insertsAtThatPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+
+        uniquePersonList.add(BOB, 9, 1);
+
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(9, uniquePersonList.getId(BOB));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void add_atIndexOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.add(ALICE, 0, 1));
+    }
+
+    @Test
+    public void setPersons_withIds_keepsIds() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB), Arrays.asList(5, 2));
+        assertEquals(5, uniquePersonList.getId(ALICE));
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(2));
+    }
+
+    @Test
+    public void endBatch_severalChanges_reportsThemAsOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            StringBuilder description = new StringBuilder();
+            while (change.next()) {
+                description.append(change.getFrom()).append(change.getRemoved()).append(change.getAddedSubList());
+            }
+            changes.add(description.toString());
+        });
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertTrue(changes.isEmpty());
+        uniquePersonList.endBatch();
+
+        assertEquals(List.of("0[" + ALICE + "][]1[" + CARL + "][" + editedCarl + "]"), changes);
+        assertEquals(List.of(BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void rollbackBatch_restoresContentsWithoutReportingChanges() {
+        uniquePersonList.add(ALICE);
+        int aliceId = uniquePersonList.getId(ALICE);
+        List<Person> changedPersons = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changedPersons.addAll(change.getRemoved());
+            }
+        });
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.rollbackBatch();
+
+        assertTrue(changedPersons.isEmpty());
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(aliceId, uniquePersonList.getId(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void endBatch_noBatchInProgress_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, uniquePersonList::endBatch);
+        uniquePersonList.beginBatch();
+        assertThrows(IllegalStateException.class, uniquePersonList::beginBatch);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WeeklyCellsTest {
+
+    @Test
+    public void of_roundsOutwardToWholeCells() {
+        WeeklyCells cells = new Schedule("Monday 10:05-10:35").getWeeklyCells();
+
+        assertFalse(cells.isOccupied(DayOfWeek.MONDAY, 39));
+        assertTrue(cells.isOccupied(DayOfWeek.MONDAY, 40));
+        assertTrue(cells.isOccupied(DayOfWeek.MONDAY, 42));
+        assertFalse(cells.isOccupied(DayOfWeek.MONDAY, 43));
+    }
+
+    @Test
+    public void of_ignoresOneOffSlots() {
+        assertTrue(new Schedule("12-10-2025 14:00-16:00").getWeeklyCells().isEmpty());
+        assertEquals(WeeklyCells.EMPTY, new Schedule("").getWeeklyCells());
+    }
+
+    @Test
+    public void of_slotAcrossWordBoundary() {
+        // Sunday's cells span the last two words of the bitmap
+        WeeklyCells cells = new Schedule("Sunday 00:00-23:45").getWeeklyCells();
+
+        assertTrue(cells.isOccupied(DayOfWeek.SUNDAY, 0));
+        assertTrue(cells.isOccupied(DayOfWeek.SUNDAY, 94));
+        assertFalse(cells.isOccupied(DayOfWeek.SUNDAY, 95));
+        assertFalse(cells.isOccupied(DayOfWeek.SATURDAY, WeeklyCells.CELLS_PER_DAY - 1));
+    }
+
+    @Test
+    public void intersectsAndUnion() {
+        WeeklyCells monday = new Schedule("Monday 10:00-12:00").getWeeklyCells();
+        WeeklyCells wednesday = new Schedule("Wednesday 14:00-15:00").getWeeklyCells();
+
+        assertFalse(monday.intersects(wednesday));
+        assertEquals(new Schedule("Monday 10:00-12:00, Wednesday 14:00-15:00").getWeeklyCells(),
+                monday.union(wednesday));
+        assertTrue(monday.union(wednesday).intersects(wednesday));
+    }
+
+    @Test
+    public void everyDay_roundsInwardToWholeCells() {
+        WeeklyCells hours = WeeklyCells.everyDay(LocalTime.of(9, 10), LocalTime.of(9, 50));
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertFalse(hours.isOccupied(day, 36));
+            assertTrue(hours.isOccupied(day, 37));
+            assertTrue(hours.isOccupied(day, 38));
+            assertFalse(hours.isOccupied(day, 39));
+        }
+    }
+
+    @Test
+    public void andNotAndToSlots_freeTimeWithinHours() {
+        WeeklyCells busy = WeeklyCells.unionOf(List.of(
+                new Schedule("Monday 10:00-11:00, Sunday 18:00-23:00").getWeeklyCells(),
+                new Schedule("Monday 10:30-12:00").getWeeklyCells()));
+        List<LessonSlot> free = WeeklyCells.everyDay(LocalTime.of(9, 0), LocalTime.of(13, 0)).andNot(busy).toSlots();
+
+        assertEquals(8, free.size());
+        assertEquals(new Schedule("Monday 09:00-10:00").getSlots().get(0), free.get(0));
+        assertEquals(new Schedule("Monday 12:00-13:00").getSlots().get(0), free.get(1));
+        assertEquals(new Schedule("Sunday 09:00-13:00").getSlots().get(0), free.get(7));
+    }
+
+    @Test
+    public void toSlots_runUntilMidnight_endsAt2359() {
+        List<LessonSlot> slots = new Schedule("Tuesday 22:00-23:59").getWeeklyCells().toSlots();
+        assertEquals(List.of(new Schedule("Tuesday 22:00-23:59").getSlots().get(0)), slots);
+        assertTrue(WeeklyCells.EMPTY.toSlots().isEmpty());
+    }
+}
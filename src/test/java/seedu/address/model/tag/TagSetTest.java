@@ -0,0 +1,57 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+    private static final Tag SEC3 = new Tag("sec3");
+
+    @Test
+    public void of_removesDuplicatesAndSortsByName() {
+        Set<Tag> tags = TagSet.of(List.of(SEC3, FRIENDS, new Tag("sec3"), OWES_MONEY));
+
+        assertEquals(3, tags.size());
+        assertEquals(List.of(FRIENDS, OWES_MONEY, SEC3), List.copyOf(tags));
+        assertEquals(Set.of(FRIENDS, OWES_MONEY, SEC3), tags);
+        assertEquals(Set.of(FRIENDS, OWES_MONEY, SEC3).hashCode(), tags.hashCode());
+    }
+
+    @Test
+    public void contains() {
+        Set<Tag> tags = TagSet.of(List.of(SEC3, FRIENDS));
+
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(OWES_MONEY));
+        assertFalse(tags.contains("friends"));
+        assertFalse(TagSet.of(List.of()).contains(FRIENDS));
+    }
+
+    @Test
+    public void of_emptyOrTagSet_returnsSharedInstance() {
+        assertSame(TagSet.of(List.of()), TagSet.of(Set.of()));
+
+        Set<Tag> tags = TagSet.of(List.of(FRIENDS));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<Tag> tags = TagSet.of(List.of(FRIENDS));
+
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(SEC3));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -23,4 +25,12 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_sameName_sharesInstance() {
+        Tag tag = Tag.of("sharedTag");
+        assertSame(tag, Tag.of(new String("sharedTag")));
+        assertEquals(new Tag("sharedTag"), tag);
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid!"));
+    }
+
 }
@@ -20,6 +20,7 @@ import seedu.address.model.person.Note;
 import seedu.address.model.person.PaymentStatus;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.Schedule;
 import seedu.address.model.person.Type;
 import seedu.address.testutil.PersonBuilder;
 
@@ -159,6 +160,16 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_costWithThreeDecimals_roundedToCents() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_TYPE, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_NOTE,
+                        "33.335", VALID_PAYMENT_STATUS, VALID_TAGS, VALID_LINKED_NAMES, VALID_SCHEDULE);
+        Cost cost = person.toModelType().getCost();
+        assertEquals(3334, cost.getCents());
+        assertEquals("33.335", cost.value);
+    }
+
     @Test
     public void toModelType_invalidCost_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -193,7 +204,7 @@ public class JsonAdaptedPersonTest {
         JsonAdaptedPerson person =
                 new JsonAdaptedPerson(VALID_TYPE, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_NOTE,
                         null, VALID_PAYMENT_STATUS, VALID_TAGS, VALID_LINKED_NAMES, invalidSchedule);
-        assertThrows(IllegalArgumentException.class, person::toModelType);
+        assertThrows(IllegalValueException.class, Schedule.MESSAGE_CONSTRAINTS, person::toModelType);
     }
 
 }
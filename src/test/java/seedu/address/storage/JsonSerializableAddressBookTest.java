@@ -1,17 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +26,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdAddressBook.json");
+    private static final Path LINKED_NAMES_FILE = TEST_DATA_FOLDER.resolve("linkedNamesAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -30,6 +38,42 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_linkedPersons_linksPreserved() throws Exception {
+        Student student = (Student) new PersonBuilder().withName("Student One").withCost("60").build();
+        Parent parent = (Parent) new PersonBuilder().withType("p").withName("Parent One")
+                .withPhone("91230000").withCost("0").build();
+        AddressBook original = new AddressBookBuilder().withPerson(student).withPerson(parent)
+                .withLink(student, parent).build();
+        original.removePerson(student);
+        original.addPerson(student);
+        original.addLink(student, parent);
+
+        AddressBook restored = new JsonSerializableAddressBook(original).toModelType();
+        assertEquals(original, restored);
+        assertEquals(original.getId(student), restored.getId(student));
+        assertTrue(restored.hasLink(student, parent));
+    }
+
+    @Test
+    public void toModelType_linkedNamesFile_linksResolvedByName() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(LINKED_NAMES_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        Student student = (Student) addressBookFromFile.getPersonById(0).get();
+        Parent parent = (Parent) addressBookFromFile.getPersonById(1).get();
+        assertEquals(List.of(parent), addressBookFromFile.getParentsOf(student));
+    }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID,
+                dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -1,7 +1,9 @@
 package seedu.address.testutil;
 
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
 
 /**
  * A utility class to help with building Addressbook objects.
@@ -28,6 +30,15 @@ public class AddressBookBuilder {
         return this;
     }
 
+    /**
+     * Links {@code student} to {@code parent} in the {@code AddressBook} that we are building.
+     * Both must already have been added.
+     */
+    public AddressBookBuilder withLink(Student student, Parent parent) {
+        addressBook.addLink(student, parent);
+        return this;
+    }
+
     public AddressBook build() {
         return addressBook;
     }